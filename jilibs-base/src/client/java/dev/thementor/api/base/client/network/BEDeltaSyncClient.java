@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.thementor.api.base.client.network;
+
+import net.minecraft.client.multiplayer.ClientLevel;
+
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
+
+import dev.thementor.api.base.blockentity.AbstractBaseBE;
+import dev.thementor.api.base.network.BEDeltaPayload;
+import dev.thementor.api.shared.annotations.*;
+
+@SuppressWarnings("unused")
+@Developer("TheMentor")
+@CreatedAt("2026-10-18")
+@Repository("https://github.com/drkhodakarami/")
+@Discord("https://discord.gg/pmM4emCbuH")
+@Youtube("https://www.youtube.com/@TheMentorCodeLab")
+
+public final class BEDeltaSyncClient
+{
+    private BEDeltaSyncClient() {}
+
+    public static void init()
+    {
+        ClientPlayNetworking.registerGlobalReceiver(BEDeltaPayload.ID, (payload, context) ->
+        {
+            ClientLevel level = context.client().level;
+            if(level != null && level.getBlockEntity(payload.pos()) instanceof AbstractBaseBE<?> blockEntity)
+                blockEntity.applyDelta(payload);
+        });
+    }
+}
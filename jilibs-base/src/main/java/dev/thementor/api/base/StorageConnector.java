@@ -17,16 +17,20 @@
 package dev.thementor.api.base;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 
+import org.jetbrains.annotations.Nullable;
+
 import net.minecraft.core.Direction;
 
 import dev.thementor.api.shared.annotations.*;
 import dev.thementor.api.shared.enumerations.MappedDirection;
+import dev.thementor.api.shared.interfaces.IDeltaSyncable;
 import dev.thementor.api.shared.interfaces.IStorageHandler;
 import dev.thementor.api.shared.interfaces.IViewSerializable;
+import dev.thementor.api.shared.utils.DirectionHelper;
 
 @SuppressWarnings("unused")
 @Developer("TurtyWurty")
@@ -36,10 +40,33 @@ import dev.thementor.api.shared.interfaces.IViewSerializable;
 @Discord("https://discord.turtywurty.dev/")
 @Youtube("https://www.youtube.com/@TurtyWurty")
 
-public abstract class StorageConnector<T> implements IViewSerializable, IStorageHandler<T>
+public abstract class StorageConnector<T> implements IViewSerializable, IStorageHandler<T>, IDeltaSyncable
 {
+    private static final int NONE = MappedDirection.NONE.ordinal();
+
+    /**
+     * Relative side for every facing and side, indexed by [facing ordinal, or NONE for no facing][side ordinal]. Holds
+     * mapped direction ordinals, which match {@link Direction} ordinals for the six real sides.
+     */
+    private static final int[][] RELATIVE_SIDES = buildRelativeSides();
+
     protected final List<T> storages = new ArrayList<>(MappedDirection.values().length);
-    protected final Map<MappedDirection, T> sidedMap = new HashMap<>(MappedDirection.values().length);
+    protected final Map<MappedDirection, T> sidedMap = new EnumMap<>(MappedDirection.class);
+
+    /**
+     * Storages by mapped direction ordinal, the lookup path of every sided query. {@link #sidedMap} is kept in step
+     * for callers of {@link #getSidedMap()}.
+     */
+    protected final Object[] sided = new Object[MappedDirection.values().length];
+
+    /**
+     * Storage for each side of the block at {@link #facingSidesKey}, falling back to the {@link MappedDirection#NONE}
+     * storage. Rebuilt only when asked for a different facing or after a storage was added.
+     */
+    private final Object[] facingSides = new Object[6];
+    private int facingSidesKey = -1;
+
+    private boolean compactSave;
 
     public void addStorage(T storage)
     {
@@ -50,12 +77,13 @@ public abstract class StorageConnector<T> implements IViewSerializable, IStorage
     {
         this.storages.add(storage);
         this.sidedMap.put(direction, storage);
+        this.sided[direction.ordinal()] = storage;
+        this.facingSidesKey = -1;
     }
 
     public void addStorage(T storage, Direction direction)
     {
-        this.storages.add(storage);
-        this.sidedMap.put(MappedDirection.fromDirection(direction), storage);
+        addStorage(storage, MappedDirection.fromDirection(direction));
     }
 
     public List<T> getStorages()
@@ -68,18 +96,118 @@ public abstract class StorageConnector<T> implements IViewSerializable, IStorage
         return this.sidedMap;
     }
 
+    @SuppressWarnings("unchecked")
     public T getStorage(MappedDirection side)
     {
-        return this.sidedMap.get(side);
+        return side == null ? null : (T) this.sided[side.ordinal()];
     }
 
+    @SuppressWarnings("unchecked")
     public T getStorage(Direction side)
     {
-        return this.sidedMap.get(MappedDirection.fromDirection(side));
+        return (T) this.sided[side == null ? NONE : side.ordinal()];
+    }
+
+    public boolean hasStorage(MappedDirection side)
+    {
+        return side != null && this.sided[side.ordinal()] != null;
+    }
+
+    public boolean hasStorage(Direction side)
+    {
+        return this.sided[side == null ? NONE : side.ordinal()] != null;
+    }
+
+    /**
+     * Storage on the given side of a block that faces {@code facing}, with the side taken relative to the facing as
+     * {@link DirectionHelper#relativeDirection} does. Null if nothing is attached to that side.
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable T getRelativeStorage(@Nullable Direction side, @Nullable Direction facing)
+    {
+        if(side == null)
+            return (T) this.sided[NONE];
+        return (T) this.sided[RELATIVE_SIDES[facing == null ? NONE : facing.ordinal()][side.ordinal()]];
+    }
+
+    /**
+     * Same as {@link #getRelativeStorage}, but a side without its own storage falls back to the
+     * {@link MappedDirection#NONE} storage. Answered from a per-facing table, so repeated queries for the same facing
+     * are a single array load.
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable T getFacingStorage(@Nullable Direction side, @Nullable Direction facing)
+    {
+        if(side == null)
+            return (T) this.sided[NONE];
+
+        int key = facing == null ? NONE : facing.ordinal();
+        if(key != this.facingSidesKey)
+        {
+            int[] relative = RELATIVE_SIDES[key];
+            for(int i = 0; i < this.facingSides.length; i++)
+            {
+                Object storage = this.sided[relative[i]];
+                this.facingSides[i] = storage != null ? storage : this.sided[NONE];
+            }
+            this.facingSidesKey = key;
+        }
+        return (T) this.facingSides[side.ordinal()];
     }
 
     public T getStorage(int index)
     {
         return this.storages.get(index);
     }
+
+    /**
+     * Makes {@link #saveAdditional} write the packed array layout instead of one child view per storage. Both layouts
+     * are always read, so this can be switched on for existing worlds.
+     */
+    public void setCompactSave(boolean compactSave)
+    {
+        this.compactSave = compactSave;
+    }
+
+    public boolean isCompactSave()
+    {
+        return this.compactSave;
+    }
+
+    /**
+     * The objects whose change tracking decides if the connector has to be sent again. A source that does not
+     * implement {@link IDeltaSyncable} can not tell, so it always counts as changed.
+     */
+    protected List<?> getDeltaSources()
+    {
+        return this.storages;
+    }
+
+    @Override
+    public boolean isDeltaDirty()
+    {
+        for(Object source : getDeltaSources())
+            if(!(source instanceof IDeltaSyncable syncable) || syncable.isDeltaDirty())
+                return true;
+        return false;
+    }
+
+    @Override
+    public void clearDeltaDirty()
+    {
+        for(Object source : getDeltaSources())
+            if(source instanceof IDeltaSyncable syncable)
+                syncable.clearDeltaDirty();
+    }
+
+    private static int[][] buildRelativeSides()
+    {
+        Direction[] directions = Direction.values();
+        int[][] table = new int[NONE + 1][directions.length];
+        for(int facing = 0; facing <= NONE; facing++)
+            for(Direction side : directions)
+                table[facing][side.ordinal()] =
+                        DirectionHelper.relativeDirection(side, facing == NONE ? null : directions[facing]).ordinal();
+        return table;
+    }
 }
\ No newline at end of file
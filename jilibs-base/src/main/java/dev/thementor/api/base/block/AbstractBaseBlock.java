@@ -49,11 +49,13 @@ import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.StateDefinition;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import net.minecraft.world.level.redstone.Orientation;
 import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.shapes.CollisionContext;
 import net.minecraft.world.phys.shapes.VoxelShape;
 
 import dev.thementor.api.base.blockentity.AbstractBaseBE;
+import dev.thementor.api.base.scheduler.BETickScheduler;
 import dev.thementor.api.shared.annotations.*;
 import dev.thementor.api.shared.interfaces.IBEScreen;
 import dev.thementor.api.shared.interfaces.ITickProvider;
@@ -164,10 +166,20 @@ public abstract class AbstractBaseBlock extends Block implements EntityBlock, IT
     public @Nullable <T extends BlockEntity> BlockEntityTicker<T> getTicker(@NotNull Level level, @NotNull BlockState state, @NotNull BlockEntityType<T> type)
     {
         if(this.properties.isTickable())
+        {
+            // the batched scheduler owns the server side ticking, the chunk must not tick it a second time
+            if(isBatchTicked() && !level.isClientSide() && BETickScheduler.isInitialized())
+                return null;
             return ITickProvider.super.getTicker(level);
+        }
         return fallbackTicker(level, state, type);
     }
 
+    public boolean isBatchTicked()
+    {
+        return this.properties.isBatchTicked();
+    }
+
     @Override
     public @Nullable <T extends BlockEntity> BlockEntityTicker<T> fallbackTicker(Level level, BlockState state, BlockEntityType<T> type)
     {
@@ -260,6 +272,20 @@ public abstract class AbstractBaseBlock extends Block implements EntityBlock, IT
                 : super.updateShape(state, world, tickView, pos, direction, neighborPos, neighborState, random);
     }
 
+    @Override
+    protected void neighborChanged(@NotNull BlockState state, @NotNull Level level, @NotNull BlockPos pos, @NotNull Block neighborBlock, @Nullable Orientation orientation, boolean movedByPiston)
+    {
+        super.neighborChanged(state, level, pos, neighborBlock, orientation, movedByPiston);
+
+        if(level.isClientSide() || !(level.getBlockEntity(pos) instanceof AbstractBaseBE<?> be))
+            return;
+
+        be.invalidateNeighborCaches();
+
+        if(be.isDormant() && be.getBEProperties().isWakingOnNeighborUpdate())
+            be.wake();
+    }
+
     @Override
     protected @NotNull MapCodec<? extends Block> codec()
     {
@@ -16,28 +16,56 @@
 
 package dev.thementor.api.base.blockentity;
 
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
 import com.mojang.logging.LogUtils;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.protocol.Packet;
 import net.minecraft.network.protocol.game.ClientGamePacketListener;
 import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.util.ProblemReporter;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LightLayer;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.BlockStateProperties;
 import net.minecraft.world.level.storage.TagValueOutput;
-
+import net.minecraft.world.level.storage.ValueInput;
+import net.minecraft.world.level.storage.ValueOutput;
+
+import net.fabricmc.fabric.api.lookup.v1.block.BlockApiLookup;
+
+import dev.thementor.api.base.block.AbstractBaseBlock;
+import dev.thementor.api.base.lookup.NeighborApiCache;
+import dev.thementor.api.base.network.BEDeltaPayload;
+import dev.thementor.api.base.network.BEDeltaSync;
+import dev.thementor.api.base.network.BEDeltaTracker;
+import dev.thementor.api.base.scheduler.BETickScheduler;
+import dev.thementor.api.base.scheduler.BEUpdateQueue;
+import dev.thementor.api.base.scheduler.TickPhases;
 import dev.thementor.api.shared.annotations.*;
+import dev.thementor.api.shared.enumerations.TickPhaseMode;
+import dev.thementor.api.shared.interfaces.IFieldChangeListener;
+import dev.thementor.api.shared.interfaces.IFieldChangeSource;
+import dev.thementor.api.shared.interfaces.ISyncable;
 import dev.thementor.api.shared.interfaces.ISyncedTick;
 import dev.thementor.api.shared.interfaces.IUpdatable;
+import dev.thementor.api.shared.interfaces.IViewSerializable;
 import dev.thementor.api.shared.properties.BEProperties;
 
 @SuppressWarnings("unused")
@@ -48,14 +76,37 @@ import dev.thementor.api.shared.properties.BEProperties;
 @Repository("https://github.com/DaRealTurtyWurty/Industria")
 @Discord("https://discord.turtywurty.dev/")
 @Youtube("https://www.youtube.com/@TurtyWurty")
-public abstract class AbstractBaseBE<T extends AbstractBaseBE<T>> extends BlockEntity implements IUpdatable, ISyncedTick
+public abstract class AbstractBaseBE<T extends AbstractBaseBE<T>> extends BlockEntity implements IUpdatable, ISyncedTick, IFieldChangeSource
 {
     protected boolean isDirty = false;
     protected boolean isDirtyClient = false;
     protected int ticks;
     protected int clientTicks;
 
+    private boolean dormant;
+    private long wakeAt = -1;
+
+    private int tickPhase = -1;
+    private int tickPhasePeriod;
+    private TickPhaseMode tickPhaseMode;
+
     protected BEProperties<@NotNull T> properties;
+    protected final BEDeltaTracker deltaTracker = new BEDeltaTracker();
+
+    private boolean fieldsRegistered;
+
+    private @Nullable Map<BlockApiLookup<?, Direction>, NeighborApiCache<?>> neighborCaches;
+
+    private @Nullable Direction cachedFacing;
+    private boolean facingResolved;
+
+    private static final AtomicLong UPDATE_TAG_HITS = new AtomicLong();
+    private static final AtomicLong UPDATE_TAG_MISSES = new AtomicLong();
+
+    private @Nullable CompoundTag cachedUpdateTag;
+    private HolderLookup.@Nullable Provider cachedUpdateTagRegistries;
+    private int cachedUpdateTagModCount;
+    private @Nullable Packet<@NotNull ClientGamePacketListener> cachedUpdatePacket;
 
     @SuppressWarnings("unchecked")
     public AbstractBaseBE(BlockEntityType<@NotNull T> type, BlockPos pos, BlockState state)
@@ -68,14 +119,33 @@ public abstract class AbstractBaseBE<T extends AbstractBaseBE<T>> extends BlockE
     public void update()
     {
         this.isDirty = true;
+        invalidateUpdateCache();
 
         if(this.properties!= null && !this.properties.isWaitingEndTick())
         {
             setChanged();
+            sendUpdate();
+        }
+    }
 
-            if(this.level != null && !this.level.isClientSide())
-                this.level.sendBlockUpdated(this.worldPosition, getBlockState(), getBlockState(), Block.UPDATE_ALL);
+    /**
+     * Requests a single client update at the end of the current tick instead of one per call, for storages that may
+     * commit many times in a tick. Only the dirty flag is set here; the flush marks the chunk and notifies comparators
+     * once, however many commits came before it. The flush is run by the ticker of the entity, or by
+     * {@link BEUpdateQueue} once the level tick is over when the change came after the tick of the entity. Without the
+     * queue initialized such a change waits for the next tick of the entity. Entities that do not tick on the server
+     * are updated right away.
+     */
+    public void updateAtTickEnd()
+    {
+        if(this.level == null || this.level.isClientSide() || this.properties == null || !this.properties.isTickable())
+        {
+            update();
+            return;
         }
+
+        this.isDirty = true;
+        BEUpdateQueue.enqueue(this);
     }
 
     @Override
@@ -85,41 +155,421 @@ public abstract class AbstractBaseBE<T extends AbstractBaseBE<T>> extends BlockE
         {
             this.isDirty = false;
             setChanged();
-            if(this.level != null && !this.level.isClientSide())
-                this.level.sendBlockUpdated(this.worldPosition, getBlockState(), getBlockState(), Block.UPDATE_ALL);
+            sendUpdate();
         }
     }
 
+    /**
+     * Sends the changes to the clients: only the changed channels and fields when delta sync is active, a full
+     * block update otherwise.
+     */
+    protected void sendUpdate()
+    {
+        if(this.level == null || this.level.isClientSide())
+            return;
+
+        if(!BEDeltaSync.send(this))
+            this.level.sendBlockUpdated(this.worldPosition, getBlockState(), getBlockState(), Block.UPDATE_ALL);
+    }
+
+    /**
+     * Registers a part of the block entity, usually a storage connector, that is written to the clients on its own
+     * when it changes. The key has to be the same on both sides.
+     */
+    protected void registerSyncChannel(String key, IViewSerializable channel)
+    {
+        this.deltaTracker.registerChannel(key, channel);
+    }
+
+    public @Nullable BEDeltaPayload collectDelta()
+    {
+        if(this.level == null)
+            return null;
+
+        ensureFieldsRegistered();
+        return this.deltaTracker.collect(this.properties.blockEntity(), this.properties.fields(), this.level.registryAccess());
+    }
+
+    public void applyDelta(BEDeltaPayload payload)
+    {
+        if(this.level == null)
+            return;
+
+        ensureFieldsRegistered();
+        this.deltaTracker.apply(this.properties.blockEntity(), this.properties.fields(), payload, this.level.registryAccess());
+    }
+
+    @Override
+    public void subscribeFieldChanges(IFieldChangeListener listener)
+    {
+        this.properties.fields().subscribe(listener);
+    }
+
+    @Override
+    public void unsubscribeFieldChanges(IFieldChangeListener listener)
+    {
+        this.properties.fields().unsubscribe(listener);
+    }
+
+    /**
+     * Publishes a change of a field whose value was changed directly instead of through the field setters, so open
+     * menus push it to their players and memoized logic depending on it evaluates again.
+     */
+    protected void markFieldChanged(String name)
+    {
+        this.properties.fields().markChanged(name, this.properties.blockEntity());
+    }
+
+    /**
+     * Reports that a storage of the entity changed, advancing the fields bound to it through
+     * {@link dev.thementor.api.shared.properties.BlockEntityFields#bindStorage}. Synced storages call it on commit.
+     */
+    public void markStorageChanged(Object storage)
+    {
+        if(this.properties != null)
+            this.properties.fields().markStorageChanged(storage, this.properties.blockEntity());
+    }
+
+    @Override
+    public boolean sendFieldValues(ServerPlayer player, Collection<String> names)
+    {
+        if(!BEDeltaSync.isInitialized())
+            return false;
+
+        ensureFieldsRegistered();
+        return BEDeltaSync.sendTo(player, BEDeltaTracker.collectFields(this.properties.blockEntity(), this.properties.fields(), names));
+    }
+
+    @Override
+    public void setLevel(@NotNull Level level)
+    {
+        super.setLevel(level);
+
+        if(this.fieldsRegistered && !this.properties.fields().containsField("world"))
+            this.properties.fields().addField("world", this.level, AbstractBaseBE::getLevel, null);
+    }
+
+    @Override
+    public void setChanged()
+    {
+        invalidateUpdateCache();
+        super.setChanged();
+    }
+
+    @Override
+    protected void saveAdditional(@NotNull ValueOutput view)
+    {
+        super.saveAdditional(view);
+
+        // a sleeping entity stays asleep across chunk reloads and keeps its alarm
+        if(this.dormant)
+        {
+            view.putBoolean("Dormant", true);
+            view.putLong("WakeAt", this.wakeAt);
+        }
+    }
+
+    @Override
+    protected void loadAdditional(@NotNull ValueInput view)
+    {
+        super.loadAdditional(view);
+        this.dormant = view.getBooleanOr("Dormant", false);
+        this.wakeAt = this.dormant ? view.getLongOr("WakeAt", -1) : -1;
+        invalidateUpdateCache();
+    }
+
     @Override
     public @Nullable Packet<@NotNull ClientGamePacketListener> getUpdatePacket()
     {
-        return ClientboundBlockEntityDataPacket.create(this);
+        if(this.cachedUpdatePacket == null || !isUpdateCacheValid())
+            this.cachedUpdatePacket = ClientboundBlockEntityDataPacket.create(this);
+        return this.cachedUpdatePacket;
     }
 
+    /**
+     * Returns a copy of the last built update tag while nothing marked the entity dirty and no field or storage was
+     * written since, so identical state is never serialized twice.
+     */
     @Override
     public @NotNull CompoundTag getUpdateTag(HolderLookup.@NotNull Provider registries)
     {
-        CompoundTag nbt = super.getUpdateTag(registries);
+        if(this.cachedUpdateTag != null && this.cachedUpdateTagRegistries == registries && isUpdateCacheValid())
+        {
+            UPDATE_TAG_HITS.incrementAndGet();
+            return this.cachedUpdateTag.copy();
+        }
+
+        UPDATE_TAG_MISSES.incrementAndGet();
+        this.cachedUpdatePacket = null;
+
         Logger logger = LogUtils.getLogger();
         try (ProblemReporter.ScopedCollector logging = new ProblemReporter.ScopedCollector(this.problemPath(), logger)) {
             TagValueOutput view = TagValueOutput.createWithContext(logging, registries);
             saveAdditional(view);
-            return view.buildResult();
+            this.cachedUpdateTag = view.buildResult();
+            this.cachedUpdateTagRegistries = registries;
+            this.cachedUpdateTagModCount = fieldsModCount();
+            return this.cachedUpdateTag.copy();
         }
     }
 
+    protected void invalidateUpdateCache()
+    {
+        this.cachedUpdateTag = null;
+        this.cachedUpdateTagRegistries = null;
+        this.cachedUpdatePacket = null;
+    }
+
+    private boolean isUpdateCacheValid()
+    {
+        // a pending end of tick flush or any write through a field or storage means the state moved on since the
+        // tag was built
+        return this.cachedUpdateTag != null && !this.isDirty && this.cachedUpdateTagModCount == fieldsModCount();
+    }
+
+    private int fieldsModCount()
+    {
+        return this.properties != null ? this.properties.fields().getModCount() : 0;
+    }
+
+    public static long getUpdateTagCacheHits()
+    {
+        return UPDATE_TAG_HITS.get();
+    }
+
+    public static long getUpdateTagCacheMisses()
+    {
+        return UPDATE_TAG_MISSES.get();
+    }
+
+    public static void resetUpdateTagCacheStats()
+    {
+        UPDATE_TAG_HITS.set(0);
+        UPDATE_TAG_MISSES.set(0);
+    }
+
     @Override
     public void onTick()
     {
         if(this.ticks == 0)
             this.onInternalFirstTick();
 
-        if(this.properties.getTickRate() == 0 || (this.ticks % this.properties.getTickRate() == 0))
+        if(isTickDue(this.properties.getTickRate()))
             this.onInternalTick();
 
         this.ticks++;
     }
 
+    /**
+     * Server tick used by {@link BETickScheduler}. The scheduler only visits the block entity once every tick rate
+     * ticks, so the logic runs on every visit and the tick counter advances by the elapsed ticks. Syncables and the
+     * end of tick flush keep their order and run on those visits. Storage commits between visits request their
+     * update through {@link #updateAtTickEnd()}, which {@link BEUpdateQueue} flushes at the end of the same level
+     * tick; without the queue initialized such an update reaches the clients up to one tick rate period late.
+     */
+    public void tickBatched(int elapsed)
+    {
+        onScheduledTick(elapsed);
+
+        List<ISyncable> syncables = getSyncables();
+
+        if(shouldSync() && syncables != null && !syncables.isEmpty())
+            syncables.forEach(ISyncable::sync);
+
+        onTickEnd();
+    }
+
+    protected void onScheduledTick(int elapsed)
+    {
+        if(this.ticks == 0)
+            this.onInternalFirstTick();
+
+        this.onInternalTick();
+
+        this.ticks += elapsed;
+    }
+
+    @Override
+    public void clearRemoved()
+    {
+        super.clearRemoved();
+
+        if(!isBatchTicked())
+            return;
+
+        if(!this.dormant)
+            BETickScheduler.register(this);
+        else if(this.wakeAt >= 0)
+            BETickScheduler.sleep(this, this.wakeAt);
+    }
+
+    @Override
+    public void tick()
+    {
+        // the dormant state also reaches the client through the update tag, only the server sleeps
+        if(this.dormant && this.level != null && !this.level.isClientSide())
+        {
+            if(this.wakeAt < 0 || getGameTime() < this.wakeAt)
+                return;
+            wake();
+        }
+
+        ISyncedTick.super.tick();
+    }
+
+    /**
+     * Puts the entity to sleep until something wakes it. While dormant the server tick, the tick logic and the
+     * syncables are all skipped; batch ticked entities are taken out of the scheduler entirely, while entities on a
+     * vanilla ticker keep a single early return per tick since the chunk ticker can not be unbound. The dormant state
+     * and the alarm are saved with the entity. Storage commits,
+     * inventory changes and, unless disabled in {@link BEProperties}, neighbor updates wake it up again.
+     */
+    public void sleep()
+    {
+        sleep(0);
+    }
+
+    /**
+     * Same as {@link #sleep()} but also sets an alarm that wakes the entity after {@code alarmTicks} game ticks.
+     * A value of 0 or less means no alarm.
+     */
+    public void sleep(int alarmTicks)
+    {
+        if(this.level == null || this.level.isClientSide())
+            return;
+
+        this.dormant = true;
+        this.wakeAt = alarmTicks > 0 ? this.level.getGameTime() + alarmTicks : -1;
+
+        if(isBatchTicked())
+            BETickScheduler.sleep(this, this.wakeAt);
+    }
+
+    public void wake()
+    {
+        if(!this.dormant)
+            return;
+
+        this.dormant = false;
+        this.wakeAt = -1;
+
+        if(!isRemoved() && isBatchTicked())
+            BETickScheduler.register(this);
+    }
+
+    /**
+     * Neighbor cache of this entity for a sided lookup, created on first use and kept for the lifetime of the entity.
+     */
+    @SuppressWarnings("unchecked")
+    public <A> NeighborApiCache<A> getNeighborCache(BlockApiLookup<A, Direction> lookup)
+    {
+        if(this.neighborCaches == null)
+            this.neighborCaches = new IdentityHashMap<>();
+        return (NeighborApiCache<A>) this.neighborCaches.computeIfAbsent(lookup, key -> new NeighborApiCache<>(lookup));
+    }
+
+    /**
+     * Makes every neighbor cache look its neighbors up again, called on neighbor updates.
+     */
+    public void invalidateNeighborCaches()
+    {
+        if(this.neighborCaches != null)
+            for(NeighborApiCache<?> cache : this.neighborCaches.values())
+                cache.invalidate();
+    }
+
+    /**
+     * Facing of the block, read from {@link BlockStateProperties#FACING} or {@link BlockStateProperties#HORIZONTAL_FACING}
+     * once and kept until the state of the entity changes. Null if the block has no facing property.
+     */
+    public @Nullable Direction getFacing()
+    {
+        if(!this.facingResolved)
+        {
+            BlockState state = getBlockState();
+            this.cachedFacing = state.hasProperty(BlockStateProperties.FACING)
+                                ? state.getValue(BlockStateProperties.FACING)
+                                : state.hasProperty(BlockStateProperties.HORIZONTAL_FACING)
+                                  ? state.getValue(BlockStateProperties.HORIZONTAL_FACING)
+                                  : null;
+            this.facingResolved = true;
+        }
+        return this.cachedFacing;
+    }
+
+    @Override
+    public void setBlockState(@NotNull BlockState state)
+    {
+        super.setBlockState(state);
+        this.facingResolved = false;
+    }
+
+    public boolean isDormant()
+    {
+        return this.dormant;
+    }
+
+    public long getWakeAt()
+    {
+        return this.wakeAt;
+    }
+
+    public boolean isBatchTicked()
+    {
+        return this.level instanceof ServerLevel && getBlockState().getBlock() instanceof AbstractBaseBlock block && block.isBatchTicked();
+    }
+
+    @Override
+    public void setRemoved()
+    {
+        super.setRemoved();
+        BETickScheduler.unregister(this);
+        releaseTickPhase();
+    }
+
+    /**
+     * Phase within {@code period} this entity fires on, resolved from {@link BEProperties#getTickPhaseMode()} and
+     * recorded in the level {@link dev.thementor.api.base.scheduler.TickPhaseHistogram}. It is resolved again when
+     * the period or the mode changes.
+     */
+    public int getTickPhase(int period)
+    {
+        TickPhaseMode mode = this.properties.getTickPhaseMode();
+
+        if(this.tickPhase < 0 || this.tickPhasePeriod != period || this.tickPhaseMode != mode)
+        {
+            releaseTickPhase();
+            this.tickPhase = TickPhases.resolve(this, period);
+            this.tickPhasePeriod = period;
+            this.tickPhaseMode = mode;
+            TickPhases.track(this.level, period, this.tickPhase);
+        }
+
+        return this.tickPhase;
+    }
+
+    private void releaseTickPhase()
+    {
+        if(this.tickPhase >= 0)
+            TickPhases.untrack(this.level, this.tickPhasePeriod, this.tickPhase);
+        this.tickPhase = -1;
+    }
+
+    private boolean isTickDue(int rate)
+    {
+        if(rate <= 1)
+        {
+            releaseTickPhase();
+            return true;
+        }
+
+        int phase = getTickPhase(rate);
+
+        return this.tickPhaseMode == TickPhaseMode.LOAD
+               ? this.ticks % rate == 0
+               : Math.floorMod(getGameTime(), (long) rate) == phase;
+    }
+
     @Override
     public void onTickClient()
     {
@@ -141,17 +591,20 @@ public abstract class AbstractBaseBE<T extends AbstractBaseBE<T>> extends BlockE
     @SuppressWarnings("DataFlowIssue")
     protected void registerDefaultFields()
     {
-        this.properties.fields().addField("isDirty", this.isDirty, blockEntity -> blockEntity.isDirty, ((blockEntity, value) -> blockEntity.isDirty = value));
-        this.properties.fields().addField("isDirtyClient", this.isDirtyClient, blockEntity -> blockEntity.isDirtyClient, ((blockEntity, value) -> blockEntity.isDirtyClient = value));
-        this.properties.fields().addField("ticks", this.ticks, blockEntity -> blockEntity.ticks, ((blockEntity, value) -> blockEntity.ticks = value));
-        this.properties.fields().addField("ticksClient", this.clientTicks, blockEntity -> blockEntity.clientTicks, ((blockEntity, value) -> blockEntity.clientTicks = value));
+        this.properties.fields().addBooleanField("isDirty", this.isDirty, blockEntity -> blockEntity.isDirty, ((blockEntity, value) -> blockEntity.isDirty = value));
+        this.properties.fields().addBooleanField("isDirtyClient", this.isDirtyClient, blockEntity -> blockEntity.isDirtyClient, ((blockEntity, value) -> blockEntity.isDirtyClient = value));
+        this.properties.fields().addIntField("ticks", this.ticks, blockEntity -> blockEntity.ticks, ((blockEntity, value) -> blockEntity.ticks = value));
+        this.properties.fields().addIntField("ticksClient", this.clientTicks, blockEntity -> blockEntity.clientTicks, ((blockEntity, value) -> blockEntity.clientTicks = value));
 
-        if(this.level != null)
-            this.properties.fields().addField("world", this.level, AbstractBaseBE::getLevel, null);
         this.properties.fields().addField("pos", this.worldPosition, AbstractBaseBE::getBlockPos, null);
         this.properties.fields().addField("cachedState", getBlockState(), AbstractBaseBE::getBlockState, null);
     }
 
+    public BEProperties<@NotNull T> getBEProperties()
+    {
+        return this.properties;
+    }
+
     public int getTicks()
     {
         return this.ticks;
@@ -164,9 +617,27 @@ public abstract class AbstractBaseBE<T extends AbstractBaseBE<T>> extends BlockE
 
     private void onInternalFirstTick()
     {
+        ensureFieldsRegistered();
+        onFirstTick();
+    }
+
+    /**
+     * Registers the default and custom fields once, on the first tick or on the first use of the fields, whichever
+     * comes first. It is never called from a constructor, so subclass state read by {@link #registerFields()} is set.
+     * The world field is always added last, once the level is known, so every instance of a type assigns the same
+     * field indices.
+     */
+    protected void ensureFieldsRegistered()
+    {
+        if(this.fieldsRegistered)
+            return;
+
+        this.fieldsRegistered = true;
         registerDefaultFields();
         registerFields();
-        onFirstTick();
+        if(this.level != null)
+            this.properties.fields().addField("world", this.level, AbstractBaseBE::getLevel, null);
+        this.properties.fields().compile();
     }
 
     private void onInternalFirstTickClient()
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.thementor.api.base.graph;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+
+import dev.thementor.api.shared.annotations.*;
+
+/**
+ * A set of connected nodes of a {@link NetworkGraph}.
+ * <p>
+ * Networks are the sets of a union-find: merging two networks links the smaller one under the larger in constant
+ * time, and a node finds its network by following those links. Only the root of such a tree is a live network;
+ * {@link #find()} resolves to it, so a reference kept across merges stays usable until {@link #isRemoved()}. The
+ * positions stay with the network they were added to, a root reaches them through the networks linked below it.
+ */
+@SuppressWarnings("unused")
+@Developer("TheMentor")
+@CreatedAt("2026-10-18")
+@Repository("https://github.com/drkhodakarami/")
+@Discord("https://discord.gg/pmM4emCbuH")
+@Youtube("https://www.youtube.com/@TheMentorCodeLab")
+
+public abstract class GraphNetwork<S extends GraphNetwork<S>>
+{
+    private S parent = self();
+    private final List<S> children = new ArrayList<>(0);
+    private final LongOpenHashSet positions = new LongOpenHashSet();
+
+    // only meaningful on a root
+    private int size;
+    private boolean removed;
+
+    /**
+     * Called on a live network when its nodes, or the blocks around them, changed.
+     */
+    protected void onChanged() {}
+
+    /**
+     * Called on the network that stays live after another one was linked below it.
+     */
+    protected void onMerged(S from) {}
+
+    /**
+     * Called once the last node of the network is gone.
+     */
+    protected void onRemoved() {}
+
+    /**
+     * The live network this one was merged into, or this network if it is live. Compresses the path on the way.
+     */
+    public S find()
+    {
+        S network = self();
+        while (network.parent != network)
+        {
+            network.parent = network.parent.parent;
+            network = network.parent;
+        }
+        return network;
+    }
+
+    /**
+     * Number of nodes in the network.
+     */
+    public int size()
+    {
+        return find().size;
+    }
+
+    public boolean isRemoved()
+    {
+        return find().removed;
+    }
+
+    /**
+     * Visits the position of every node in the network. Networks linked below the root that lost all their nodes to
+     * a split are dropped on the way.
+     */
+    public void forEachNode(LongConsumer action)
+    {
+        Deque<S> pending = new ArrayDeque<>();
+        pending.push(find());
+
+        while (!pending.isEmpty())
+        {
+            S network = pending.pop();
+            for(LongIterator iterator = network.positions.iterator(); iterator.hasNext(); )
+                action.accept(iterator.nextLong());
+
+            network.children.removeIf(child -> child.positions.isEmpty() && child.children.isEmpty());
+            for(S child : network.children)
+                pending.push(child);
+        }
+    }
+
+    static <S extends GraphNetwork<S>> S union(S a, S b)
+    {
+        if(a == b)
+            return a;
+
+        S into = a.size >= b.size ? a : b;
+        S from = into == a ? b : a;
+
+        from.parent = into;
+        into.children.add(from);
+        into.size += from.size;
+        into.onMerged(from);
+        into.onChanged();
+        return into;
+    }
+
+    void addOwn(long pos)
+    {
+        this.positions.add(pos);
+    }
+
+    void removeOwn(long pos)
+    {
+        this.positions.remove(pos);
+    }
+
+    void resize(int delta)
+    {
+        this.size += delta;
+    }
+
+    void markRemoved()
+    {
+        this.removed = true;
+        onRemoved();
+    }
+
+    @SuppressWarnings("unchecked")
+    private S self()
+    {
+        return (S) this;
+    }
+}
\ No newline at end of file
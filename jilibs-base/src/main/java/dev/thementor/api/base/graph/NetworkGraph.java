@@ -0,0 +1,510 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.thementor.api.base.graph;
+
+import java.util.Collections;
+import java.util.Set;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+
+import dev.thementor.api.shared.annotations.*;
+
+/**
+ * A graph of nodes keyed by packed {@link BlockPos} longs, partitioned into connected {@link GraphNetwork}s and
+ * updated incrementally. Energy grids and pipe networks are built on it.
+ * <p>
+ * Adding a node unions the networks of the nodes it connects to. Removing a node starts one search from each node it
+ * was connected to and advances them in lockstep: searches that meet are joined, and a search that runs out of nodes
+ * before meeting the others has walked a whole part that is no longer connected, which alone moves to a new network.
+ * The work is bounded by the size of the parts that split off rather than the whole network.
+ * <p>
+ * Nodes going away because their chunk unloads are {@link #detach detached} instead: they leave without any search,
+ * and their networks are split once by {@link #repartition()}, however many of their nodes left. Neither path touches
+ * the level, so both are safe while chunks load and unload.
+ *
+ * @param <N> the value kept per node
+ * @param <S> the network type
+ */
+@SuppressWarnings("unused")
+@Developer("TheMentor")
+@CreatedAt("2026-10-18")
+@Repository("https://github.com/drkhodakarami/")
+@Discord("https://discord.gg/pmM4emCbuH")
+@Youtube("https://www.youtube.com/@TheMentorCodeLab")
+
+public abstract class NetworkGraph<N, S extends GraphNetwork<S>>
+{
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final Long2ObjectOpenHashMap<Node<N, S>> nodes = new Long2ObjectOpenHashMap<>();
+    private final Long2ObjectOpenHashMap<LongOpenHashSet> nodesByChunk = new Long2ObjectOpenHashMap<>();
+    private final Set<S> networks = new ReferenceOpenHashSet<>();
+    private final Set<S> stale = new ReferenceOpenHashSet<>();
+
+    /**
+     * Creates an empty network for a new node or a part that split off.
+     */
+    protected abstract S createNetwork();
+
+    /**
+     * Determines whether two neighboring nodes are connected.
+     *
+     * @param value    the value of the node
+     * @param neighbor the value of the node next to it
+     * @param side     the side of the node the neighbor is on
+     */
+    protected abstract boolean connects(N value, N neighbor, Direction side);
+
+    /**
+     * Called when a node joins a live network, by being added or by moving with a part that split off.
+     */
+    protected void onNodeJoined(S network, N value) {}
+
+    public void add(long pos, N value)
+    {
+        if(this.nodes.containsKey(pos))
+            remove(pos);
+
+        Node<N, S> node = new Node<>(value);
+        this.nodes.put(pos, node);
+        this.nodesByChunk.computeIfAbsent(chunkKey(pos), key -> new LongOpenHashSet()).add(pos);
+
+        S target = null;
+
+        for(Direction side : DIRECTIONS)
+        {
+            Node<N, S> neighbor = this.nodes.get(BlockPos.offset(pos, side));
+            if(neighbor == null || !connects(value, neighbor.value, side))
+                continue;
+
+            node.connections |= 1 << side.ordinal();
+            neighbor.connections |= 1 << side.getOpposite().ordinal();
+
+            S network = neighbor.home.find();
+            if(target == null)
+                target = network;
+            else if(network != target)
+            {
+                S merged = GraphNetwork.union(target, network);
+                this.networks.remove(merged == target ? network : target);
+                target = merged;
+            }
+        }
+
+        if(target == null)
+        {
+            target = createNetwork();
+            this.networks.add(target);
+        }
+
+        node.home = target;
+        target.addOwn(pos);
+        target.resize(1);
+        onNodeJoined(target, value);
+        target.onChanged();
+    }
+
+    /**
+     * Removes a node and splits its network when the node was the only link between parts of it.
+     */
+    public void remove(long pos)
+    {
+        long[] starts = new long[DIRECTIONS.length];
+        S root = take(pos, starts);
+        if(root == null)
+            return;
+
+        int count = 0;
+        for(long start : starts)
+            if(start != Long.MIN_VALUE)
+                starts[count++] = start;
+
+        if(count > 1)
+            split(root, starts, count);
+    }
+
+    /**
+     * Removes a node without looking for a split, for nodes unloading together with their chunk. The network is marked
+     * for {@link #repartition()}, which has to run before the graph is used for transfers again.
+     */
+    public void detach(long pos)
+    {
+        S root = take(pos, null);
+        if(root != null)
+            this.stale.add(root);
+    }
+
+    /**
+     * Splits every network that lost nodes through {@link #detach} into its connected parts, with one walk over each
+     * such network.
+     */
+    public void repartition()
+    {
+        if(this.stale.isEmpty())
+            return;
+
+        Set<S> roots = new ReferenceOpenHashSet<>();
+        for(S network : this.stale)
+        {
+            S root = network.find();
+            if(!root.isRemoved())
+                roots.add(root);
+        }
+        this.stale.clear();
+
+        for(S root : roots)
+        {
+            LongArrayList members = new LongArrayList(root.size());
+            root.forEachNode(members::add);
+
+            LongOpenHashSet visited = new LongOpenHashSet(members.size());
+            boolean first = true;
+
+            for(LongIterator iterator = members.iterator(); iterator.hasNext(); )
+            {
+                long start = iterator.nextLong();
+                if(visited.contains(start))
+                    continue;
+
+                LongArrayList part = walk(start, visited);
+
+                // the first part keeps the network
+                if(first)
+                {
+                    first = false;
+                    if(part.size() == members.size())
+                        break;
+                    continue;
+                }
+
+                moveToNewNetwork(root, part.iterator());
+            }
+        }
+    }
+
+    /**
+     * Tells the network of a node that the blocks around it changed.
+     */
+    public void nodeChanged(long pos)
+    {
+        Node<N, S> node = this.nodes.get(pos);
+        if(node != null)
+            node.home.find().onChanged();
+    }
+
+    /**
+     * Tells the networks next to a position that the block there changed.
+     */
+    public void neighborChanged(long pos)
+    {
+        for(Direction side : DIRECTIONS)
+        {
+            Node<N, S> node = this.nodes.get(BlockPos.offset(pos, side));
+            if(node != null)
+                node.home.find().onChanged();
+        }
+    }
+
+    /**
+     * Tells the networks with nodes bordering a chunk that it unloaded, so whatever they found in it is gone.
+     */
+    public void chunkUnloaded(ChunkPos chunk)
+    {
+        int chunkX = SectionPos.blockToSectionCoord(chunk.getMinBlockX());
+        int chunkZ = SectionPos.blockToSectionCoord(chunk.getMinBlockZ());
+
+        for(Direction side : Direction.Plane.HORIZONTAL)
+        {
+            LongOpenHashSet border = this.nodesByChunk.get(chunkKey(chunkX + side.getStepX(), chunkZ + side.getStepZ()));
+            if(border == null)
+                continue;
+
+            for(LongIterator iterator = border.iterator(); iterator.hasNext(); )
+            {
+                long pos = iterator.nextLong();
+                long neighbor = BlockPos.offset(pos, side.getOpposite());
+                if(SectionPos.blockToSectionCoord(BlockPos.getX(neighbor)) == chunkX
+                   && SectionPos.blockToSectionCoord(BlockPos.getZ(neighbor)) == chunkZ)
+                    this.nodes.get(pos).home.find().onChanged();
+            }
+        }
+    }
+
+    public boolean contains(long pos)
+    {
+        return this.nodes.containsKey(pos);
+    }
+
+    public @Nullable N get(long pos)
+    {
+        Node<N, S> node = this.nodes.get(pos);
+        return node != null ? node.value : null;
+    }
+
+    /**
+     * Mask of the sides a node is connected to other nodes on, by {@link Direction} ordinal.
+     */
+    public int getConnections(long pos)
+    {
+        Node<N, S> node = this.nodes.get(pos);
+        return node != null ? node.connections : 0;
+    }
+
+    public @Nullable S getNetwork(long pos)
+    {
+        Node<N, S> node = this.nodes.get(pos);
+        return node != null ? node.home.find() : null;
+    }
+
+    public Set<S> getNetworks()
+    {
+        return Collections.unmodifiableSet(this.networks);
+    }
+
+    /**
+     * Takes a node out of the graph and its network, collecting the neighbors it was connected to.
+     *
+     * @return the network the node was part of, or null if it was not a node or its network is gone with it
+     */
+    private @Nullable S take(long pos, long @Nullable [] connected)
+    {
+        Node<N, S> node = this.nodes.remove(pos);
+        if(node == null)
+            return null;
+
+        LongOpenHashSet chunk = this.nodesByChunk.get(chunkKey(pos));
+        if(chunk != null && chunk.remove(pos) && chunk.isEmpty())
+            this.nodesByChunk.remove(chunkKey(pos));
+
+        S root = node.home.find();
+        node.home.removeOwn(pos);
+        root.resize(-1);
+
+        for(Direction side : DIRECTIONS)
+        {
+            if(connected != null)
+                connected[side.ordinal()] = Long.MIN_VALUE;
+
+            if((node.connections & (1 << side.ordinal())) == 0)
+                continue;
+
+            long neighborPos = BlockPos.offset(pos, side);
+            Node<N, S> neighbor = this.nodes.get(neighborPos);
+            if(neighbor == null)
+                continue;
+
+            neighbor.connections &= ~(1 << side.getOpposite().ordinal());
+            if(connected != null)
+                connected[side.ordinal()] = neighborPos;
+        }
+
+        if(root.size() == 0)
+        {
+            root.markRemoved();
+            this.networks.remove(root);
+            this.stale.remove(root);
+            return null;
+        }
+
+        root.onChanged();
+        return root;
+    }
+
+    /**
+     * Races one search per start position over the connections and moves every part that turns out to be cut off
+     * into a new network. The part still searching when all others are settled keeps the network.
+     */
+    private void split(S root, long[] starts, int count)
+    {
+        Long2IntOpenHashMap labels = new Long2IntOpenHashMap();
+        labels.defaultReturnValue(-1);
+
+        LongArrayFIFOQueue[] queues = new LongArrayFIFOQueue[count];
+        int[] groups = new int[count];
+        boolean[] settled = new boolean[count];
+
+        for(int i = 0; i < count; i++)
+        {
+            queues[i] = new LongArrayFIFOQueue();
+            queues[i].enqueue(starts[i]);
+            labels.put(starts[i], i);
+            groups[i] = i;
+        }
+
+        int open = count;
+
+        while (open > 1)
+        {
+            for(int i = 0; i < count && open > 1; i++)
+            {
+                if(queues[i].isEmpty())
+                    continue;
+
+                long current = queues[i].dequeueLong();
+                int connections = this.nodes.get(current).connections;
+
+                for(Direction side : DIRECTIONS)
+                {
+                    if((connections & (1 << side.ordinal())) == 0)
+                        continue;
+
+                    long neighbor = BlockPos.offset(current, side);
+                    int label = labels.get(neighbor);
+
+                    if(label < 0)
+                    {
+                        labels.put(neighbor, i);
+                        queues[i].enqueue(neighbor);
+                    }
+                    else
+                    {
+                        // two searches met, the parts they walked are one
+                        int a = group(groups, i);
+                        int b = group(groups, label);
+                        if(a != b)
+                        {
+                            groups[a] = b;
+                            open--;
+                        }
+                    }
+                }
+            }
+
+            // a group whose searches all ran dry has walked a complete part
+            for(int g = 0; g < count && open > 1; g++)
+            {
+                if(settled[g] || group(groups, g) != g || !exhausted(queues, groups, g))
+                    continue;
+
+                settled[g] = true;
+                open--;
+
+                LongArrayList part = new LongArrayList();
+                for(Long2IntMap.Entry entry : labels.long2IntEntrySet())
+                    if(group(groups, entry.getIntValue()) == g)
+                        part.add(entry.getLongKey());
+                moveToNewNetwork(root, part.iterator());
+            }
+        }
+    }
+
+    private void moveToNewNetwork(S root, LongIterator positions)
+    {
+        S split = createNetwork();
+        int moved = 0;
+
+        while (positions.hasNext())
+        {
+            long pos = positions.nextLong();
+            Node<N, S> node = this.nodes.get(pos);
+            node.home.removeOwn(pos);
+            node.home = split;
+            split.addOwn(pos);
+            onNodeJoined(split, node.value);
+            moved++;
+        }
+
+        split.resize(moved);
+        root.resize(-moved);
+        this.networks.add(split);
+        split.onChanged();
+        root.onChanged();
+    }
+
+    /**
+     * Collects the nodes reachable from a start position that are not visited yet.
+     */
+    private LongArrayList walk(long start, LongOpenHashSet visited)
+    {
+        LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+        LongArrayList found = new LongArrayList();
+        queue.enqueue(start);
+        visited.add(start);
+
+        while (!queue.isEmpty())
+        {
+            long current = queue.dequeueLong();
+            found.add(current);
+            int connections = this.nodes.get(current).connections;
+
+            for(Direction side : DIRECTIONS)
+            {
+                if((connections & (1 << side.ordinal())) == 0)
+                    continue;
+
+                long neighbor = BlockPos.offset(current, side);
+                if(visited.add(neighbor))
+                    queue.enqueue(neighbor);
+            }
+        }
+
+        return found;
+    }
+
+    private static boolean exhausted(LongArrayFIFOQueue[] queues, int[] groups, int group)
+    {
+        for(int i = 0; i < queues.length; i++)
+            if(!queues[i].isEmpty() && group(groups, i) == group)
+                return false;
+        return true;
+    }
+
+    private static int group(int[] groups, int label)
+    {
+        while (groups[label] != label)
+        {
+            groups[label] = groups[groups[label]];
+            label = groups[label];
+        }
+        return label;
+    }
+
+    private static long chunkKey(long pos)
+    {
+        return chunkKey(SectionPos.blockToSectionCoord(BlockPos.getX(pos)), SectionPos.blockToSectionCoord(BlockPos.getZ(pos)));
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ)
+    {
+        return (long) chunkX & 0xFFFFFFFFL | (long) chunkZ << 32;
+    }
+
+    private static final class Node<N, S extends GraphNetwork<S>>
+    {
+        private final N value;
+        private int connections;
+        private S home;
+
+        private Node(N value)
+        {
+            this.value = value;
+        }
+    }
+}
\ No newline at end of file
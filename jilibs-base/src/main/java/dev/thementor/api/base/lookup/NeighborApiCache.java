@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.thementor.api.base.lookup;
+
+import java.util.Set;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+import net.fabricmc.fabric.api.lookup.v1.block.BlockApiCache;
+import net.fabricmc.fabric.api.lookup.v1.block.BlockApiLookup;
+
+import dev.thementor.api.shared.annotations.*;
+
+/**
+ * Caches the sided API instances of the six neighbors of a block entity.
+ * <p>
+ * Every side keeps one {@link BlockApiCache} and the instance it found last. The instances are only looked up again
+ * after {@link #invalidate()}, which {@link dev.thementor.api.base.block.AbstractBaseBlock} triggers on neighbor
+ * updates, or when the block entity of a side changed, which also covers neighbors unloading without an update.
+ * {@link #refresh} fills a fixed array, so walking the neighbors does not allocate:
+ * <pre>{@code
+ * int count = cache.refresh(level, pos, blacklist);
+ * for(int i = 0; i < count; i++)
+ *     use(cache.get(i), cache.getSide(i));
+ * }</pre>
+ * On the client there is no {@link BlockApiCache}, every refresh queries the lookup directly.
+ */
+@SuppressWarnings("unused")
+@Developer("TheMentor")
+@CreatedAt("2026-10-18")
+@Repository("https://github.com/drkhodakarami/")
+@Discord("https://discord.gg/pmM4emCbuH")
+@Youtube("https://www.youtube.com/@TheMentorCodeLab")
+
+public final class NeighborApiCache<A>
+{
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final BlockApiLookup<A, Direction> lookup;
+
+    @SuppressWarnings("unchecked")
+    private final @Nullable BlockApiCache<A, Direction>[] caches = new BlockApiCache[6];
+    private final @Nullable Object[] bySide = new Object[6];
+    private final @Nullable BlockEntity[] owners = new BlockEntity[6];
+    private final BlockPos[] neighbors = new BlockPos[6];
+
+    private final Object[] found = new Object[6];
+    private final Direction[] foundSides = new Direction[6];
+
+    private @Nullable Level level;
+    private @Nullable BlockPos pos;
+    private boolean dirty = true;
+
+    public NeighborApiCache(BlockApiLookup<A, Direction> lookup)
+    {
+        this.lookup = lookup;
+    }
+
+    /**
+     * Forgets the instances found so far. The per side caches are kept.
+     */
+    public void invalidate()
+    {
+        this.dirty = true;
+    }
+
+    /**
+     * Looks up the neighbors of a position where needed and collects the ones exposing the API.
+     *
+     * @param level     the level of the block entity
+     * @param pos       the position of the block entity
+     * @param blacklist neighbor positions to skip, or null
+     * @return the number of neighbors found, read them with {@link #get(int)} and {@link #getSide(int)}
+     */
+    public int refresh(Level level, BlockPos pos, @Nullable Set<BlockPos> blacklist)
+    {
+        if(level != this.level || !pos.equals(this.pos))
+            bind(level, pos);
+
+        boolean server = level instanceof ServerLevel;
+        int count = 0;
+
+        for(int i = 0; i < 6; i++)
+        {
+            Direction side = DIRECTIONS[i];
+
+            if(!server)
+                this.bySide[i] = this.lookup.find(level, this.neighbors[i], side.getOpposite());
+            else
+            {
+                BlockApiCache<A, Direction> cache = this.caches[i];
+                BlockEntity owner = cache.getBlockEntity();
+                if(this.dirty || owner != this.owners[i])
+                {
+                    this.bySide[i] = cache.find(side.getOpposite());
+                    this.owners[i] = owner;
+                }
+            }
+
+            if(this.bySide[i] == null || (blacklist != null && blacklist.contains(this.neighbors[i])))
+                continue;
+
+            this.found[count] = this.bySide[i];
+            this.foundSides[count++] = side;
+        }
+
+        this.dirty = false;
+
+        for(int i = count; i < 6; i++)
+            this.found[i] = null;
+
+        return count;
+    }
+
+    /**
+     * Retrieves a neighbor collected by the last {@link #refresh}.
+     *
+     * @param index the index below the count returned by the refresh
+     * @return the API instance of the neighbor
+     */
+    @SuppressWarnings("unchecked")
+    public A get(int index)
+    {
+        return (A) this.found[index];
+    }
+
+    /**
+     * Retrieves the side of the block entity a neighbor collected by the last {@link #refresh} is on.
+     *
+     * @param index the index below the count returned by the refresh
+     * @return the side facing the neighbor
+     */
+    public Direction getSide(int index)
+    {
+        return this.foundSides[index];
+    }
+
+    /**
+     * Retrieves the neighbor on a side as of the last {@link #refresh}, ignoring the blacklist.
+     *
+     * @param side the side of the block entity
+     * @return the API instance, or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable A get(Direction side)
+    {
+        return (A) this.bySide[side.ordinal()];
+    }
+
+    private void bind(Level level, BlockPos pos)
+    {
+        this.level = level;
+        this.pos = pos.immutable();
+
+        for(int i = 0; i < 6; i++)
+        {
+            this.neighbors[i] = this.pos.relative(DIRECTIONS[i]);
+            this.caches[i] = level instanceof ServerLevel server ? BlockApiCache.create(this.lookup, server, this.neighbors[i]) : null;
+            this.bySide[i] = null;
+            this.owners[i] = null;
+        }
+
+        this.dirty = true;
+    }
+}
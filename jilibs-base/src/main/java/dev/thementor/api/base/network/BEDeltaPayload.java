@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.thementor.api.base.network;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import net.minecraft.resources.Identifier;
+import org.jetbrains.annotations.NotNull;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+
+import dev.thementor.api.shared.annotations.*;
+
+/**
+ * Changed part of a block entity sent to the clients tracking it. Channels carry the serialized state of a whole
+ * connector, fields carry the changed primitive and String values from {@code BlockEntityFields}, encoded by the
+ * field schema of the block entity type as schema positions and packed values.
+ *
+ * @param pos      the position of the block entity
+ * @param channels the changed channels, keyed by channel name
+ * @param fields   the changed field values, encoded with {@code FieldSchema#encodeDelta}
+ */
+@SuppressWarnings("unused")
+@Developer("TheMentor")
+@CreatedAt("2026-10-18")
+@Repository("https://github.com/drkhodakarami/")
+@Discord("https://discord.gg/pmM4emCbuH")
+@Youtube("https://www.youtube.com/@TheMentorCodeLab")
+
+public record BEDeltaPayload(BlockPos pos, Map<String, CompoundTag> channels, byte[] fields) implements CustomPacketPayload
+{
+    public static final Type<@NotNull BEDeltaPayload> ID = new Type<>(Identifier.fromNamespaceAndPath("jilibs_base", "be_delta"));
+
+    public static final StreamCodec<RegistryFriendlyByteBuf, BEDeltaPayload> STREAM_CODEC = StreamCodec.of(BEDeltaPayload::write, BEDeltaPayload::read);
+
+    public static final byte[] NO_FIELDS = new byte[0];
+
+    public boolean isEmpty()
+    {
+        return this.channels.isEmpty() && this.fields.length == 0;
+    }
+
+    private static void write(RegistryFriendlyByteBuf buf, BEDeltaPayload payload)
+    {
+        buf.writeBlockPos(payload.pos());
+
+        buf.writeVarInt(payload.channels().size());
+        for(Map.Entry<String, CompoundTag> entry : payload.channels().entrySet())
+        {
+            buf.writeUtf(entry.getKey());
+            buf.writeNbt(entry.getValue());
+        }
+
+        // decoded against the schema of the block entity on the client thread
+        buf.writeByteArray(payload.fields());
+    }
+
+    private static BEDeltaPayload read(RegistryFriendlyByteBuf buf)
+    {
+        BlockPos pos = buf.readBlockPos();
+
+        int channelCount = buf.readVarInt();
+        Map<String, CompoundTag> channels = new LinkedHashMap<>(channelCount);
+        for(int i = 0; i < channelCount; i++)
+        {
+            String key = buf.readUtf();
+            CompoundTag tag = buf.readNbt();
+            channels.put(key, tag == null ? new CompoundTag() : tag);
+        }
+
+        return new BEDeltaPayload(pos, channels, buf.readByteArray());
+    }
+
+    @Override
+    public @NotNull Type<? extends @NotNull CustomPacketPayload> type()
+    {
+        return ID;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.thementor.api.base.network;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.server.level.ServerPlayer;
+
+import net.fabricmc.fabric.api.networking.v1.PayloadTypeRegistry;
+import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+
+import dev.thementor.api.base.blockentity.AbstractBaseBE;
+import dev.thementor.api.shared.annotations.*;
+
+/**
+ * Field level delta sync for {@link AbstractBaseBE}.
+ * <p>
+ * Call {@link #init()} once from your mod initializer and {@code BEDeltaSyncClient.init()} from your client
+ * initializer. From then on block entity updates only send the changed channels and fields in a
+ * {@link BEDeltaPayload} instead of marking the block for a full update tag; the full NBT is still used when the
+ * chunk is first sent to a player.
+ */
+@SuppressWarnings("unused")
+@Developer("TheMentor")
+@CreatedAt("2026-10-18")
+@Repository("https://github.com/drkhodakarami/")
+@Discord("https://discord.gg/pmM4emCbuH")
+@Youtube("https://www.youtube.com/@TheMentorCodeLab")
+
+public final class BEDeltaSync
+{
+    private static boolean initialized;
+
+    private BEDeltaSync() {}
+
+    public static void init()
+    {
+        if(initialized)
+            return;
+        initialized = true;
+
+        PayloadTypeRegistry.playS2C().register(BEDeltaPayload.ID, BEDeltaPayload.STREAM_CODEC);
+    }
+
+    public static boolean isInitialized()
+    {
+        return initialized;
+    }
+
+    /**
+     * Sends the changes of the block entity to every player tracking it.
+     *
+     * @return false if delta sync is not active for this block entity and a full update has to be sent instead
+     */
+    public static boolean send(AbstractBaseBE<?> blockEntity)
+    {
+        if(!initialized || !blockEntity.getBEProperties().isDeltaSynced())
+            return false;
+
+        BEDeltaPayload payload = blockEntity.collectDelta();
+        if(payload == null)
+            return true;
+
+        // clients without the payload registered, like vanilla ones, still get the full update packet
+        Packet<?> fallback = null;
+        for(ServerPlayer player : PlayerLookup.tracking(blockEntity))
+        {
+            if(ServerPlayNetworking.canSend(player, BEDeltaPayload.ID))
+                ServerPlayNetworking.send(player, payload);
+            else
+            {
+                if(fallback == null)
+                    fallback = blockEntity.getUpdatePacket();
+                if(fallback != null)
+                    player.connection.send(fallback);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Sends a payload to a single player, for example the player that has the menu of the block entity open.
+     *
+     * @return false if delta sync is not initialized or the player can not receive the payload
+     */
+    public static boolean sendTo(ServerPlayer player, @Nullable BEDeltaPayload payload)
+    {
+        if(!initialized || !ServerPlayNetworking.canSend(player, BEDeltaPayload.ID))
+            return false;
+
+        if(payload != null)
+            ServerPlayNetworking.send(player, payload);
+
+        return true;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.thementor.api.base.network;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.mojang.logging.LogUtils;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+
+import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.util.ProblemReporter;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.storage.TagValueInput;
+import net.minecraft.world.level.storage.TagValueOutput;
+
+import dev.thementor.api.shared.annotations.*;
+import dev.thementor.api.shared.interfaces.IDeltaSyncable;
+import dev.thementor.api.shared.interfaces.IViewSerializable;
+import dev.thementor.api.shared.properties.BlockEntityFields;
+import dev.thementor.api.shared.properties.handles.FieldSchema;
+
+/**
+ * Tracks what a block entity already sent to its clients. Channels implementing {@link IDeltaSyncable} are only
+ * written when they report a change, others are serialized on every flush but only sent when the tag differs from the
+ * one sent last. Synced fields are captured through the sync
+ * schema of the block entity type and compared bit for bit against the last sent snapshot.
+ */
+@SuppressWarnings("unused")
+@Developer("TheMentor")
+@CreatedAt("2026-10-18")
+@Repository("https://github.com/drkhodakarami/")
+@Discord("https://discord.gg/pmM4emCbuH")
+@Youtube("https://www.youtube.com/@TheMentorCodeLab")
+
+public final class BEDeltaTracker
+{
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private final Map<String, IViewSerializable> channels = new LinkedHashMap<>();
+    private final Map<String, CompoundTag> sentChannels = new HashMap<>();
+    private FieldSchema.@Nullable Snapshot sentFields;
+    private boolean @Nullable [] syncedPositions;
+
+    public void registerChannel(String key, IViewSerializable channel)
+    {
+        this.channels.put(key, channel);
+    }
+
+    public Map<String, IViewSerializable> getChannels()
+    {
+        return this.channels;
+    }
+
+    /**
+     * Forgets every sent channel and field value, so the next flush sends all of them again.
+     */
+    public void reset()
+    {
+        this.sentChannels.clear();
+        this.sentFields = null;
+    }
+
+    public <B extends BlockEntity> @Nullable BEDeltaPayload collect(B blockEntity, BlockEntityFields<B> fields, HolderLookup.Provider registries)
+    {
+        Map<String, CompoundTag> changedChannels = new LinkedHashMap<>();
+
+        for(Map.Entry<String, IViewSerializable> entry : this.channels.entrySet())
+        {
+            IViewSerializable channel = entry.getValue();
+
+            if(channel instanceof IDeltaSyncable syncable)
+            {
+                if(!syncable.isDeltaDirty())
+                    continue;
+                syncable.clearDeltaDirty();
+            }
+
+            try(ProblemReporter.ScopedCollector reporter = new ProblemReporter.ScopedCollector(blockEntity.problemPath(), LOGGER))
+            {
+                TagValueOutput output = TagValueOutput.createWithContext(reporter, registries);
+                channel.saveAdditional(output);
+                CompoundTag tag = output.buildResult();
+
+                if(!(channel instanceof IDeltaSyncable) && tag.equals(this.sentChannels.put(entry.getKey(), tag)))
+                    continue;
+
+                changedChannels.put(entry.getKey(), tag);
+            }
+        }
+
+        byte[] changedFields = null;
+
+        if(!fields.getSyncedFields().isEmpty())
+        {
+            FieldSchema<B> schema = fields.syncSchema(blockEntity.getType());
+            if(this.syncedPositions == null)
+                this.syncedPositions = positionsOf(schema, fields.getSyncedFields());
+
+            FieldSchema.Snapshot current = schema.capture(fields, blockEntity);
+            changedFields = schema.encodeDelta(current, this.sentFields, this.syncedPositions);
+            this.sentFields = current;
+        }
+
+        if(changedChannels.isEmpty() && changedFields == null)
+            return null;
+
+        return new BEDeltaPayload(blockEntity.getBlockPos(), changedChannels, changedFields != null ? changedFields : BEDeltaPayload.NO_FIELDS);
+    }
+
+    /**
+     * Builds a payload holding the current values of the named fields without touching what was sent to the tracking
+     * players, used by menus to push changed fields to the single player that has the screen open.
+     */
+    public static <B extends BlockEntity> @Nullable BEDeltaPayload collectFields(B blockEntity, BlockEntityFields<B> fields, Collection<String> names)
+    {
+        FieldSchema<B> schema = fields.syncSchema(blockEntity.getType());
+        byte[] values = schema.encodeDelta(schema.capture(fields, blockEntity), null, positionsOf(schema, names));
+
+        if(values == null)
+            return null;
+
+        return new BEDeltaPayload(blockEntity.getBlockPos(), Map.of(), values);
+    }
+
+    /**
+     * Marks the positions of the named fields in a schema, skipping names the schema does not carry.
+     */
+    private static boolean[] positionsOf(FieldSchema<?> schema, Collection<String> names)
+    {
+        boolean[] positions = new boolean[schema.size()];
+        for(String name : names)
+        {
+            int position = schema.positionOf(name);
+            if(position >= 0)
+                positions[position] = true;
+        }
+        return positions;
+    }
+
+    public <B extends BlockEntity> void apply(B blockEntity, BlockEntityFields<B> fields, BEDeltaPayload payload, HolderLookup.Provider registries)
+    {
+        for(Map.Entry<String, CompoundTag> entry : payload.channels().entrySet())
+        {
+            IViewSerializable channel = this.channels.get(entry.getKey());
+            if(channel == null)
+                continue;
+
+            try(ProblemReporter.ScopedCollector reporter = new ProblemReporter.ScopedCollector(blockEntity.problemPath(), LOGGER))
+            {
+                channel.loadAdditional(TagValueInput.create(reporter, registries, entry.getValue()));
+            }
+        }
+
+        fields.syncSchema(blockEntity.getType()).applyDelta(fields, blockEntity, payload.fields());
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.thementor.api.base.scheduler;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+
+import dev.thementor.api.base.blockentity.AbstractBaseBE;
+import dev.thementor.api.shared.annotations.*;
+
+/**
+ * Entry point of the level-wide batched block entity tick scheduler.
+ * <p>
+ * Call {@link #init()} once from your mod initializer. Blocks built with {@code BlockProperties.batchTick()} then
+ * stop handing a ticker to the chunk and their block entities register here when they are loaded and leave when
+ * they are unloaded or removed. Until {@link #init()} is called everything keeps using vanilla tickers.
+ */
+@SuppressWarnings("unused")
+@Developer("TheMentor")
+@CreatedAt("2026-10-18")
+@Repository("https://github.com/drkhodakarami/")
+@Discord("https://discord.gg/pmM4emCbuH")
+@Youtube("https://www.youtube.com/@TheMentorCodeLab")
+
+public final class BETickScheduler
+{
+    private static final Map<Level, LevelTickScheduler> SCHEDULERS = new WeakHashMap<>();
+    private static boolean initialized;
+
+    private BETickScheduler() {}
+
+    public static void init()
+    {
+        if(initialized)
+            return;
+        initialized = true;
+
+        ServerTickEvents.END_WORLD_TICK.register(world ->
+                                                 {
+                                                     LevelTickScheduler scheduler = SCHEDULERS.get(world);
+                                                     if(scheduler != null)
+                                                         scheduler.tick();
+                                                 });
+        ServerWorldEvents.UNLOAD.register((server, world) -> SCHEDULERS.remove(world));
+    }
+
+    public static boolean isInitialized()
+    {
+        return initialized;
+    }
+
+    public static void register(AbstractBaseBE<?> blockEntity)
+    {
+        if(!initialized || !(blockEntity.getLevel() instanceof ServerLevel level))
+            return;
+        SCHEDULERS.computeIfAbsent(level, LevelTickScheduler::new).register(blockEntity);
+    }
+
+    public static void unregister(AbstractBaseBE<?> blockEntity)
+    {
+        if(!initialized || blockEntity.getLevel() == null)
+            return;
+
+        LevelTickScheduler scheduler = SCHEDULERS.get(blockEntity.getLevel());
+        if(scheduler != null)
+            scheduler.unregister(blockEntity);
+    }
+
+    /**
+     * Takes a dormant block entity out of its bucket. With {@code wakeAt} at or above 0 the level scheduler wakes it
+     * on that game tick.
+     */
+    public static void sleep(AbstractBaseBE<?> blockEntity, long wakeAt)
+    {
+        if(!initialized || !(blockEntity.getLevel() instanceof ServerLevel level))
+            return;
+
+        LevelTickScheduler scheduler = SCHEDULERS.computeIfAbsent(level, LevelTickScheduler::new);
+        scheduler.unregister(blockEntity);
+
+        if(wakeAt >= 0)
+            scheduler.addAlarm(blockEntity, wakeAt);
+    }
+
+    public static @Nullable LevelTickScheduler get(Level level)
+    {
+        return SCHEDULERS.get(level);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.thementor.api.base.scheduler;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+
+import dev.thementor.api.base.blockentity.AbstractBaseBE;
+import dev.thementor.api.shared.annotations.*;
+
+/**
+ * Flushes block entities that requested an update at the end of the tick once the level finished ticking.
+ * <p>
+ * Call {@link #init()} once from your mod initializer. A block entity is flushed by its own ticker when its tick
+ * comes after the change, the queue covers changes made after that tick, by neighbours or by the level itself, which
+ * would otherwise wait for the next tick of the entity. Until {@link #init()} is called only the ticker flushes.
+ */
+@SuppressWarnings("unused")
+@Developer("TheMentor")
+@CreatedAt("2026-10-18")
+@Repository("https://github.com/drkhodakarami/")
+@Discord("https://discord.gg/pmM4emCbuH")
+@Youtube("https://www.youtube.com/@TheMentorCodeLab")
+
+public final class BEUpdateQueue
+{
+    private static final Map<Level, ReferenceLinkedOpenHashSet<AbstractBaseBE<?>>> PENDING = new WeakHashMap<>();
+    private static boolean initialized;
+
+    private BEUpdateQueue() {}
+
+    public static void init()
+    {
+        if(initialized)
+            return;
+        initialized = true;
+
+        ServerTickEvents.END_WORLD_TICK.register(BEUpdateQueue::flush);
+        ServerWorldEvents.UNLOAD.register((server, world) -> PENDING.remove(world));
+    }
+
+    public static boolean isInitialized()
+    {
+        return initialized;
+    }
+
+    /**
+     * Queues a block entity for the end of the current level tick.
+     *
+     * @return false if the queue is not initialized and the owner has to rely on its own ticker
+     */
+    public static boolean enqueue(AbstractBaseBE<?> blockEntity)
+    {
+        if(!initialized || !(blockEntity.getLevel() instanceof ServerLevel level))
+            return false;
+
+        PENDING.computeIfAbsent(level, ignored -> new ReferenceLinkedOpenHashSet<>()).add(blockEntity);
+        return true;
+    }
+
+    private static void flush(ServerLevel level)
+    {
+        ReferenceLinkedOpenHashSet<AbstractBaseBE<?>> pending = PENDING.get(level);
+        if(pending == null || pending.isEmpty())
+            return;
+
+        // a flush can queue again, those entities wait for the next tick instead of looping here
+        AbstractBaseBE<?>[] blockEntities = pending.toArray(new AbstractBaseBE<?>[0]);
+        pending.clear();
+
+        for(AbstractBaseBE<?> blockEntity : blockEntities)
+            if(!blockEntity.isRemoved())
+                blockEntity.onTickEnd();
+    }
+}
\ No newline at end of file
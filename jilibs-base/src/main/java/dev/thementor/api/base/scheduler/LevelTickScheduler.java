@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.thementor.api.base.scheduler;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+
+import dev.thementor.api.base.blockentity.AbstractBaseBE;
+import dev.thementor.api.shared.annotations.*;
+
+/**
+ * Batched tick scheduler of a single level. Block entities are grouped in {@link TickBucket}s by type and tick rate
+ * and each bucket is walked as a flat array once per game tick.
+ * <p>
+ * Registrations and removals requested while the level is being ticked are applied once the pass is over, so the
+ * bucket arrays never change under the loop.
+ */
+@SuppressWarnings("unused")
+@Developer("TheMentor")
+@CreatedAt("2026-10-18")
+@Repository("https://github.com/drkhodakarami/")
+@Discord("https://discord.gg/pmM4emCbuH")
+@Youtube("https://www.youtube.com/@TheMentorCodeLab")
+
+public final class LevelTickScheduler
+{
+    private final Level level;
+
+    private final Map<BucketKey, TickBucket> buckets = new HashMap<>();
+    private final List<TickBucket> bucketList = new ArrayList<>();
+    private final Map<AbstractBaseBE<?>, TickSlot> slots = new IdentityHashMap<>();
+
+    private final List<TickSlot> pendingAdd = new ArrayList<>();
+    private final List<TickSlot> pendingRemove = new ArrayList<>();
+    private final List<TickSlot> moved = new ArrayList<>();
+    private final PriorityQueue<Alarm> alarms = new PriorityQueue<>(Comparator.comparingLong(Alarm::wakeAt));
+
+    private boolean ticking;
+    private int lastVisited;
+
+    LevelTickScheduler(Level level)
+    {
+        this.level = level;
+    }
+
+    void register(AbstractBaseBE<?> blockEntity)
+    {
+        TickSlot slot = this.slots.get(blockEntity);
+
+        if(slot != null)
+        {
+            if(!slot.removed)
+                return;
+            // re-registered before a deferred removal went through, keep the old slot
+            slot.removed = false;
+            this.pendingRemove.remove(slot);
+            return;
+        }
+
+        slot = new TickSlot(blockEntity);
+        this.slots.put(blockEntity, slot);
+
+        if(this.ticking)
+            this.pendingAdd.add(slot);
+        else
+            schedule(slot);
+    }
+
+    void unregister(AbstractBaseBE<?> blockEntity)
+    {
+        TickSlot slot = this.slots.get(blockEntity);
+
+        if(slot == null || slot.removed)
+            return;
+
+        slot.removed = true;
+
+        if(this.ticking)
+            this.pendingRemove.add(slot);
+        else
+            drop(slot);
+    }
+
+    void tick()
+    {
+        if(!this.level.tickRateManager().runsNormally())
+            return;
+
+        long gameTime = this.level.getGameTime();
+        int visited = 0;
+
+        // woken entities register before the pass, so they are visited this tick if their phase is due
+        while(!this.alarms.isEmpty() && this.alarms.peek().wakeAt() <= gameTime)
+        {
+            Alarm alarm = this.alarms.poll();
+            BlockPos pos = BlockPos.of(alarm.pos());
+
+            // an unloaded entity saved its alarm and sets it again once it is loaded
+            if(!this.level.isLoaded(pos))
+                continue;
+
+            if(this.level.getBlockEntity(pos) instanceof AbstractBaseBE<?> blockEntity && blockEntity.isDormant() && blockEntity.getWakeAt() == alarm.wakeAt())
+                blockEntity.wake();
+        }
+
+        this.ticking = true;
+        try
+        {
+            for(int i = 0; i < this.bucketList.size(); i++)
+                visited += this.bucketList.get(i).tick(this, gameTime, this.moved);
+        }
+        finally
+        {
+            this.ticking = false;
+            this.lastVisited = visited;
+            flushPending();
+        }
+    }
+
+    void addAlarm(AbstractBaseBE<?> blockEntity, long wakeAt)
+    {
+        this.alarms.add(new Alarm(blockEntity.getBlockPos().asLong(), wakeAt));
+    }
+
+    boolean tickEntity(TickSlot slot, int elapsed)
+    {
+        AbstractBaseBE<?> blockEntity = slot.blockEntity;
+
+        if(blockEntity.isRemoved())
+        {
+            unregister(blockEntity);
+            return false;
+        }
+
+        if(!this.level.shouldTickBlocksAt(blockEntity.getBlockPos()))
+            return false;
+
+        blockEntity.tickBatched(elapsed);
+        return true;
+    }
+
+    private void flushPending()
+    {
+        for(int i = 0; i < this.pendingRemove.size(); i++)
+            drop(this.pendingRemove.get(i));
+        this.pendingRemove.clear();
+
+        for(int i = 0; i < this.moved.size(); i++)
+        {
+            TickSlot slot = this.moved.get(i);
+            if(slot.removed)
+                continue;
+            unschedule(slot);
+            schedule(slot);
+        }
+        this.moved.clear();
+
+        for(int i = 0; i < this.pendingAdd.size(); i++)
+        {
+            TickSlot slot = this.pendingAdd.get(i);
+            if(!slot.removed)
+                schedule(slot);
+        }
+        this.pendingAdd.clear();
+    }
+
+    private void schedule(TickSlot slot)
+    {
+        int period = periodOf(slot.blockEntity);
+        BucketKey key = new BucketKey(slot.blockEntity.getType(), period);
+        TickBucket bucket = this.buckets.get(key);
+
+        if(bucket == null)
+        {
+            bucket = new TickBucket(key.type(), period);
+            this.buckets.put(key, bucket);
+            this.bucketList.add(bucket);
+        }
+
+        bucket.add(slot, slot.blockEntity.getTickPhase(period));
+    }
+
+    private void drop(TickSlot slot)
+    {
+        if(this.slots.get(slot.blockEntity) == slot)
+            this.slots.remove(slot.blockEntity);
+
+        unschedule(slot);
+    }
+
+    private void unschedule(TickSlot slot)
+    {
+        TickBucket bucket = slot.bucket;
+        if(bucket == null)
+            return;
+
+        bucket.remove(slot);
+
+        if(bucket.size() == 0)
+        {
+            this.buckets.remove(new BucketKey(bucket.type, bucket.period));
+            this.bucketList.remove(bucket);
+        }
+    }
+
+    static int periodOf(AbstractBaseBE<?> blockEntity)
+    {
+        return Math.max(1, blockEntity.getBEProperties().getTickRate());
+    }
+
+    public Level getLevel()
+    {
+        return this.level;
+    }
+
+    public boolean isTracked(AbstractBaseBE<?> blockEntity)
+    {
+        TickSlot slot = this.slots.get(blockEntity);
+        return slot != null && !slot.removed;
+    }
+
+    public int getTrackedCount()
+    {
+        return this.slots.size();
+    }
+
+    public int getBucketCount()
+    {
+        return this.bucketList.size();
+    }
+
+    public int getAlarmCount()
+    {
+        return this.alarms.size();
+    }
+
+    public int getLastVisitedCount()
+    {
+        return this.lastVisited;
+    }
+
+    public TickPhaseHistogram getPhaseHistogram()
+    {
+        return TickPhases.histogram(this.level);
+    }
+
+    public List<TickBucket> getBuckets()
+    {
+        return List.copyOf(this.bucketList);
+    }
+
+    private record BucketKey(BlockEntityType<?> type, int period) {}
+
+    /**
+     * Wake up call of a dormant entity, keyed by position so it never keeps an unloaded entity alive.
+     */
+    private record Alarm(long pos, long wakeAt) {}
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.thementor.api.base.scheduler;
+
+import java.util.Arrays;
+import java.util.List;
+
+import net.minecraft.world.level.block.entity.BlockEntityType;
+
+import dev.thementor.api.shared.annotations.*;
+
+/**
+ * Block entities of one type sharing one tick rate. Entries are split into {@code period} phases and every game tick
+ * only the phase matching {@code gameTime % period} is visited, so a rate 20 machine costs nothing on the other 19
+ * ticks.
+ */
+@SuppressWarnings("unused")
+@Developer("TheMentor")
+@CreatedAt("2026-10-18")
+@Repository("https://github.com/drkhodakarami/")
+@Discord("https://discord.gg/pmM4emCbuH")
+@Youtube("https://www.youtube.com/@TheMentorCodeLab")
+
+public final class TickBucket
+{
+    private static final int INITIAL_CAPACITY = 16;
+
+    final BlockEntityType<?> type;
+    final int period;
+
+    private final TickSlot[][] phases;
+    private final int[] sizes;
+    private int size;
+
+    TickBucket(BlockEntityType<?> type, int period)
+    {
+        this.type = type;
+        this.period = period;
+        this.phases = new TickSlot[period][];
+        this.sizes = new int[period];
+    }
+
+    void add(TickSlot slot, int phase)
+    {
+        TickSlot[] entries = this.phases[phase];
+        int count = this.sizes[phase];
+
+        if(entries == null)
+            entries = this.phases[phase] = new TickSlot[INITIAL_CAPACITY];
+        else if(count == entries.length)
+            entries = this.phases[phase] = Arrays.copyOf(entries, count << 1);
+
+        entries[count] = slot;
+        slot.bucket = this;
+        slot.phase = phase;
+        slot.index = count;
+        this.sizes[phase] = count + 1;
+        this.size++;
+    }
+
+    void remove(TickSlot slot)
+    {
+        if(slot.bucket != this)
+            return;
+
+        TickSlot[] entries = this.phases[slot.phase];
+        int last = --this.sizes[slot.phase];
+
+        if(slot.index != last)
+        {
+            TickSlot moved = entries[last];
+            entries[slot.index] = moved;
+            moved.index = slot.index;
+        }
+
+        entries[last] = null;
+        slot.bucket = null;
+        slot.index = -1;
+        this.size--;
+    }
+
+    /**
+     * Visits every entry of the phase due at {@code gameTime}. Entries whose tick rate or phase changed since they
+     * were scheduled are collected into {@code moved} instead and are not ticked this round.
+     *
+     * @return the number of block entities ticked
+     */
+    int tick(LevelTickScheduler scheduler, long gameTime, List<TickSlot> moved)
+    {
+        int phase = (int) Math.floorMod(gameTime, (long) this.period);
+        TickSlot[] entries = this.phases[phase];
+        int count = this.sizes[phase];
+        int visited = 0;
+
+        for(int i = 0; i < count; i++)
+        {
+            TickSlot slot = entries[i];
+
+            if(slot.removed)
+                continue;
+
+            if(LevelTickScheduler.periodOf(slot.blockEntity) != this.period || slot.blockEntity.getTickPhase(this.period) != slot.phase)
+            {
+                moved.add(slot);
+                continue;
+            }
+
+            if(scheduler.tickEntity(slot, this.period))
+                visited++;
+        }
+
+        return visited;
+    }
+
+    public BlockEntityType<?> getType()
+    {
+        return this.type;
+    }
+
+    public int getPeriod()
+    {
+        return this.period;
+    }
+
+    public int size()
+    {
+        return this.size;
+    }
+
+    public int getPhaseSize(int phase)
+    {
+        return this.sizes[phase];
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.thementor.api.base.scheduler;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import dev.thementor.api.shared.annotations.*;
+
+/**
+ * Per level count of ticking block entities on every phase of every tick rate. A well spread level shows a flat
+ * row per rate; a row with one tall column is the once-a-second MSPT spike.
+ */
+@SuppressWarnings("unused")
+@Developer("TheMentor")
+@CreatedAt("2026-10-18")
+@Repository("https://github.com/drkhodakarami/")
+@Discord("https://discord.gg/pmM4emCbuH")
+@Youtube("https://www.youtube.com/@TheMentorCodeLab")
+
+public final class TickPhaseHistogram
+{
+    private final Map<Integer, int[]> phases = new HashMap<>();
+    private final Map<Integer, Integer> roundRobin = new HashMap<>();
+
+    TickPhaseHistogram() {}
+
+    void add(int period, int phase)
+    {
+        this.phases.computeIfAbsent(period, int[]::new)[phase]++;
+    }
+
+    void remove(int period, int phase)
+    {
+        int[] counts = this.phases.get(period);
+        if(counts == null || counts[phase] == 0)
+            return;
+
+        counts[phase]--;
+
+        if(Arrays.stream(counts).allMatch(count -> count == 0))
+            this.phases.remove(period);
+    }
+
+    /**
+     * Picks the phase with the fewest entities of the given rate, so entities removed from a phase free it up for
+     * the next one. Ties go to the first phase after the last pick, which keeps filling an empty level in order.
+     */
+    int leastLoaded(int period)
+    {
+        int start = this.roundRobin.getOrDefault(period, 0);
+        int[] counts = this.phases.get(period);
+        int best = start;
+
+        if(counts != null)
+        {
+            for(int i = 1; i < period; i++)
+            {
+                int phase = (start + i) % period;
+                if(counts[phase] < counts[best])
+                    best = phase;
+            }
+        }
+
+        this.roundRobin.put(period, (best + 1) % period);
+        return best;
+    }
+
+    public int[] getPeriods()
+    {
+        return this.phases.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+    }
+
+    public int[] getCounts(int period)
+    {
+        int[] counts = this.phases.get(period);
+        return counts == null ? new int[period] : counts.clone();
+    }
+
+    public int getTotal(int period)
+    {
+        int[] counts = this.phases.get(period);
+        return counts == null ? 0 : Arrays.stream(counts).sum();
+    }
+
+    public int getPeak(int period)
+    {
+        int[] counts = this.phases.get(period);
+        return counts == null ? 0 : Arrays.stream(counts).max().orElse(0);
+    }
+
+    /**
+     * Ratio between the busiest phase and a perfectly even spread. 1 is ideal, {@code period} means every entity of
+     * that rate fires on the same tick.
+     */
+    public double getImbalance(int period)
+    {
+        int total = getTotal(period);
+        return total == 0 ? 0 : getPeak(period) * (double) period / total;
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder();
+        for(int period : getPeriods())
+            builder.append("rate ").append(period)
+                   .append(": total=").append(getTotal(period))
+                   .append(" peak=").append(getPeak(period))
+                   .append(" imbalance=").append(String.format("%.2f", getImbalance(period)))
+                   .append(' ').append(Arrays.toString(this.phases.get(period)))
+                   .append('\n');
+        return builder.toString();
+    }
+}
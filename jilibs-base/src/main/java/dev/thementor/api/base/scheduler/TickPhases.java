@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.thementor.api.base.scheduler;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import net.minecraft.world.level.Level;
+
+import dev.thementor.api.base.blockentity.AbstractBaseBE;
+import dev.thementor.api.shared.annotations.*;
+import dev.thementor.api.shared.enumerations.TickPhaseMode;
+
+/**
+ * Resolves the phase a block entity fires on within its tick rate period and keeps the per level
+ * {@link TickPhaseHistogram}s up to date. Used by both the vanilla ticker path and {@link BETickScheduler}.
+ */
+@SuppressWarnings("unused")
+@Developer("TheMentor")
+@CreatedAt("2026-10-18")
+@Repository("https://github.com/drkhodakarami/")
+@Discord("https://discord.gg/pmM4emCbuH")
+@Youtube("https://www.youtube.com/@TheMentorCodeLab")
+
+public final class TickPhases
+{
+    private static final Map<Level, TickPhaseHistogram> HISTOGRAMS = new WeakHashMap<>();
+
+    private TickPhases() {}
+
+    public static int resolve(AbstractBaseBE<?> blockEntity, int period)
+    {
+        if(period <= 1)
+            return 0;
+
+        Level level = blockEntity.getLevel();
+        TickPhaseMode mode = blockEntity.getBEProperties().getTickPhaseMode();
+
+        return switch(mode)
+        {
+            case HASHED -> Math.floorMod(mix(blockEntity.getBlockPos().asLong()), period);
+            case ROUND_ROBIN -> level == null ? 0 : histogram(level).leastLoaded(period);
+            // keeps the phase of the tick the entity started ticking on, same as the plain ticks counter
+            case LOAD -> (int) Math.floorMod(blockEntity.getGameTime() - blockEntity.getTicks(), (long) period);
+        };
+    }
+
+    public static TickPhaseHistogram histogram(Level level)
+    {
+        return HISTOGRAMS.computeIfAbsent(level, key -> new TickPhaseHistogram());
+    }
+
+    public static void track(Level level, int period, int phase)
+    {
+        if(level != null && period > 1)
+            histogram(level).add(period, phase);
+    }
+
+    public static void untrack(Level level, int period, int phase)
+    {
+        if(level == null || period <= 1)
+            return;
+
+        TickPhaseHistogram histogram = HISTOGRAMS.get(level);
+        if(histogram != null)
+            histogram.remove(period, phase);
+    }
+
+    private static int mix(long value)
+    {
+        value = (value ^ (value >>> 33)) * 0xff51afd7ed558ccdL;
+        value = (value ^ (value >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return (int) (value ^ (value >>> 33));
+    }
+}
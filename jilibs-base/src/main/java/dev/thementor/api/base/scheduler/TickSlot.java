@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.thementor.api.base.scheduler;
+
+import dev.thementor.api.base.blockentity.AbstractBaseBE;
+import dev.thementor.api.shared.annotations.*;
+
+/**
+ * Position of a single block entity inside a {@link TickBucket}. Kept per block entity so removal is a constant time
+ * swap instead of a linear search.
+ */
+@SuppressWarnings("unused")
+@Developer("TheMentor")
+@CreatedAt("2026-10-18")
+@Repository("https://github.com/drkhodakarami/")
+@Discord("https://discord.gg/pmM4emCbuH")
+@Youtube("https://www.youtube.com/@TheMentorCodeLab")
+
+public final class TickSlot
+{
+    final AbstractBaseBE<?> blockEntity;
+    TickBucket bucket;
+    int phase;
+    int index = -1;
+    boolean removed;
+
+    TickSlot(AbstractBaseBE<?> blockEntity)
+    {
+        this.blockEntity = blockEntity;
+    }
+
+    public AbstractBaseBE<?> getBlockEntity()
+    {
+        return this.blockEntity;
+    }
+
+    public int getPhase()
+    {
+        return this.phase;
+    }
+
+    public int getPeriod()
+    {
+        return this.bucket == null ? 0 : this.bucket.period;
+    }
+}
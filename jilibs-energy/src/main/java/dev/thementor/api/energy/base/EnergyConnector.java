@@ -16,6 +16,10 @@
 
 package dev.thementor.api.energy.base;
 
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import com.mojang.serialization.Codec;
 import org.jetbrains.annotations.Nullable;
 import team.reborn.energy.api.EnergyStorage;
 import team.reborn.energy.api.base.SimpleEnergyStorage;
@@ -31,7 +35,6 @@ import dev.thementor.api.shared.constants.BEKeys;
 import dev.thementor.api.shared.enumerations.MappedDirection;
 import dev.thementor.api.shared.interfaces.IStorageConnector;
 import dev.thementor.api.shared.interfaces.IStorageProvider;
-import dev.thementor.api.shared.utils.DirectionHelper;
 
 @SuppressWarnings("unused")
 public class EnergyConnector<T extends EnergyStorage> extends StorageConnector<EnergyStorage>
@@ -47,19 +50,13 @@ public class EnergyConnector<T extends EnergyStorage> extends StorageConnector<E
     @Override
     public @Nullable T getStorageProvider(MappedDirection direction, Direction facing)
     {
-        Direction side = DirectionHelper.relativeDirection(MappedDirection.toDirection(direction), facing);
-        if(this.getSidedMap().containsKey(MappedDirection.fromDirection(side)))
-            return (T) getStorage(side);
-        return null;
+        return (T) getRelativeStorage(MappedDirection.toDirection(direction), facing);
     }
 
     @SuppressWarnings("unchecked")
     public T getStorageProvider(Direction direction, Direction facing)
     {
-        Direction side = DirectionHelper.relativeDirection(direction, facing);
-        if(this.getSidedMap().containsKey(MappedDirection.fromDirection(side)))
-            return (T) getStorage(side);
-        return null;
+        return (T) getRelativeStorage(direction, facing);
     }
 
     public long getAmount(MappedDirection direction)
@@ -95,6 +92,15 @@ public class EnergyConnector<T extends EnergyStorage> extends StorageConnector<E
     @Override
     public void saveAdditional(ValueOutput writeView)
     {
+        if(isCompactSave())
+        {
+            long[] amounts = new long[storages.size()];
+            for(int i = 0; i < amounts.length; i++)
+                amounts[i] = storages.get(i).getAmount();
+            writeView.store("energy" + BEKeys.HAS_ENERGY + BEKeys.PACKED, Codec.LONG_STREAM, LongStream.of(amounts));
+            return;
+        }
+
         ValueOutput.ValueOutputList list = writeView.childrenList("energy" + BEKeys.HAS_ENERGY);
         for(EnergyStorage storage : storages)
         {
@@ -106,31 +112,42 @@ public class EnergyConnector<T extends EnergyStorage> extends StorageConnector<E
     @Override
     public void loadAdditional(ValueInput readView)
     {
+        Optional<LongStream> packed = readView.read("energy" + BEKeys.HAS_ENERGY + BEKeys.PACKED, Codec.LONG_STREAM);
+        if(packed.isPresent())
+        {
+            long[] amounts = packed.get().toArray();
+            for(int i = 0; i < amounts.length && i < storages.size(); i++)
+                setAmount(storages.get(i), amounts[i]);
+            return;
+        }
+
         int index = 0;
         for (ValueInput view : readView.childrenListOrEmpty("energy" + BEKeys.HAS_ENERGY))
         {
             if(index >= storages.size())
                 break;
 
-            var storage = this.storages.get(index);
+            setAmount(this.storages.get(index), view.getLongOr("Amount", 0L));
 
-            if(storage instanceof SimpleEnergyStorage simpleEnergyStorage)
-                simpleEnergyStorage.amount = view.getLongOr("Amount", 0L);
-            else
+            index++;
+        }
+    }
+
+    private static void setAmount(EnergyStorage storage, long amount)
+    {
+        if(storage instanceof SimpleEnergyStorage simpleEnergyStorage)
+            simpleEnergyStorage.amount = amount;
+        else
+        {
+            try(Transaction transaction = Transaction.openOuter())
             {
-                try(Transaction transaction = Transaction.openOuter())
-                {
-                    long amount = view.getLongOr("Amount", 0L);
-                    long current = storage.getAmount();
-                    if(current < amount)
-                        storage.insert(amount - current, transaction);
-                    else
-                        storage.extract(current - amount, transaction);
-                    transaction.commit();
-                }
+                long current = storage.getAmount();
+                if(current < amount)
+                    storage.insert(amount - current, transaction);
+                else
+                    storage.extract(current - amount, transaction);
+                transaction.commit();
             }
-
-            index++;
         }
     }
 }
\ No newline at end of file
@@ -31,11 +31,11 @@ import net.minecraft.core.component.DataComponentType;
 import net.minecraft.world.SimpleContainer;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.level.block.state.properties.BlockStateProperties;
 import net.minecraft.world.level.storage.ValueInput;
 import net.minecraft.world.level.storage.ValueOutput;
 
 import dev.thementor.api.energy.base.EnergyConnector;
+import dev.thementor.api.energy.grid.EnergyGridManager;
 import dev.thementor.api.energy.interfaces.IEnergyConnector;
 import dev.thementor.api.energy.interfaces.IEnergySpreader;
 import dev.thementor.api.energy.interfaces.IEnergyStorageProvider;
@@ -43,7 +43,6 @@ import dev.thementor.api.inventory.be.AbstractBaseInventoryBE;
 import dev.thementor.api.shared.enumerations.MappedDirection;
 import dev.thementor.api.shared.records.LongPayload;
 import dev.thementor.api.shared.records.lists.LongList;
-import dev.thementor.api.shared.utils.DirectionHelper;
 
 @SuppressWarnings({"UnusedReturnValue", "unused"})
 public abstract class AbstractBaseEnergyBE<T extends AbstractBaseEnergyBE<T, B, C>, B extends SimpleContainer, C extends EnergyStorage>
@@ -56,6 +55,7 @@ public abstract class AbstractBaseEnergyBE<T extends AbstractBaseEnergyBE<T, B,
     {
         super(type, pos, state);
         energyConnector = new EnergyConnector<>();
+        registerSyncChannel("energy", energyConnector);
         this.properties.tick();
     }
 
@@ -65,6 +65,20 @@ public abstract class AbstractBaseEnergyBE<T extends AbstractBaseEnergyBE<T, B,
         return this.energyConnector;
     }
 
+    @Override
+    public void clearRemoved()
+    {
+        super.clearRemoved();
+        EnergyGridManager.endpointChanged(this);
+    }
+
+    @Override
+    public void setRemoved()
+    {
+        super.setRemoved();
+        EnergyGridManager.endpointChanged(this);
+    }
+
     @Override
     protected void loadAdditional(@NotNull ValueInput view)
     {
@@ -89,12 +103,7 @@ public abstract class AbstractBaseEnergyBE<T extends AbstractBaseEnergyBE<T, B,
     @Override
     public @Nullable C getEnergyStorageProvider(Direction direction, Direction facing)
     {
-        Direction side = DirectionHelper.relativeDirection(direction, facing);
-        return this.energyConnector.getSidedMap().containsKey(MappedDirection.fromDirection(side))
-               ? (C) this.energyConnector.getStorage(side)
-               : this.energyConnector.getSidedMap().containsKey(MappedDirection.NONE)
-                 ? (C) this.energyConnector.getStorage(MappedDirection.NONE)
-                 : null;
+        return (C) this.energyConnector.getFacingStorage(direction, facing);
     }
 
     @SuppressWarnings("unchecked")
@@ -102,11 +111,10 @@ public abstract class AbstractBaseEnergyBE<T extends AbstractBaseEnergyBE<T, B,
     {
         if(level == null)
             return null;
-        return this.level.getBlockState(this.worldPosition).getProperties().contains(BlockStateProperties.FACING)
-               ? this.getEnergyStorageProvider(direction, this.level.getBlockState(this.worldPosition).getValue(BlockStateProperties.FACING))
-               : this.level.getBlockState(this.worldPosition).getProperties().contains(BlockStateProperties.HORIZONTAL_FACING)
-                 ? this.getEnergyStorageProvider(direction, this.level.getBlockState(this.worldPosition).getValue(BlockStateProperties.HORIZONTAL_FACING))
-                 : (C) this.energyConnector.getStorage(direction);
+        Direction facing = getFacing();
+        return facing != null
+               ? this.getEnergyStorageProvider(direction, facing)
+               : (C) this.energyConnector.getStorage(direction);
     }
 
     public C getEnergyStorage(MappedDirection direction)
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.thementor.api.energy.be;
+
+import org.jetbrains.annotations.NotNull;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+import net.minecraft.world.level.block.state.BlockState;
+
+import dev.thementor.api.base.blockentity.AbstractBaseBE;
+import dev.thementor.api.energy.grid.EnergyGridManager;
+import dev.thementor.api.energy.grid.IEnergyConductor;
+
+/**
+ * Base block entity of cables and other conductors. It joins the energy grid of its level when it is loaded or placed
+ * and leaves it when it is unloaded or broken; the grid does all the transfer, so a conductor does not tick. Neighbor
+ * updates make its grid look up the machines it touches again.
+ */
+@SuppressWarnings("unused")
+public abstract class AbstractEnergyConductorBE<T extends AbstractEnergyConductorBE<T>> extends AbstractBaseBE<T> implements IEnergyConductor
+{
+    private boolean broken;
+
+    public AbstractEnergyConductorBE(BlockEntityType<@NotNull T> type, BlockPos pos, BlockState state)
+    {
+        super(type, pos, state);
+    }
+
+    @Override
+    public void clearRemoved()
+    {
+        super.clearRemoved();
+        this.broken = false;
+        EnergyGridManager.addConductor(this);
+    }
+
+    @Override
+    public void preRemoveSideEffects(@NotNull BlockPos pos, @NotNull BlockState oldState)
+    {
+        super.preRemoveSideEffects(pos, oldState);
+        this.broken = true;
+    }
+
+    @Override
+    public void setRemoved()
+    {
+        super.setRemoved();
+
+        // only a broken conductor can split its grid, unloading ones are split together at the next tick
+        if(this.broken)
+            EnergyGridManager.removeConductor(this);
+        else
+            EnergyGridManager.unloadConductor(this);
+    }
+
+    @Override
+    public void invalidateNeighborCaches()
+    {
+        super.invalidateNeighborCaches();
+        EnergyGridManager.conductorNeighborChanged(this);
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.thementor.api.energy.grid;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import team.reborn.energy.api.EnergyStorage;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
+
+import dev.thementor.api.base.blockentity.AbstractBaseBE;
+import dev.thementor.api.base.graph.GraphNetwork;
+import dev.thementor.api.energy.interfaces.IEnergySpreader;
+import dev.thementor.api.energy.utils.EnergyHelper;
+
+/**
+ * A set of connected conductors together with the machines touching them.
+ * <p>
+ * Adjacent storages that only allow extraction are producers and storages that only allow insertion are consumers;
+ * a storage allowing both is a producer when its block entity is an {@link IEnergySpreader}, a consumer otherwise.
+ * The endpoints are looked up again only after something next to the grid changed or one of them was removed; ticking
+ * a grid is a single pass over its producers and consumers inside one transaction, regardless of how many conductors
+ * connect them.
+ */
+@SuppressWarnings("unused")
+public final class EnergyGrid extends GraphNetwork<EnergyGrid>
+{
+    private final LevelEnergyGrids grids;
+
+    private final List<Endpoint> producers = new ArrayList<>();
+    private final List<Endpoint> consumers = new ArrayList<>();
+    private long[] demand = new long[0];
+
+    private boolean endpointsDirty = true;
+    private long lastTransferred;
+
+    EnergyGrid(LevelEnergyGrids grids)
+    {
+        this.grids = grids;
+    }
+
+    @Override
+    protected void onChanged()
+    {
+        this.endpointsDirty = true;
+    }
+
+    @Override
+    protected void onRemoved()
+    {
+        this.producers.clear();
+        this.consumers.clear();
+    }
+
+    /**
+     * Moves the energy of one game tick from the producers to the consumers.
+     */
+    void tick(Level level)
+    {
+        if(this.endpointsDirty || hasRemovedEndpoint())
+            rescan(level);
+
+        this.lastTransferred = 0;
+
+        if(this.producers.isEmpty() || this.consumers.isEmpty())
+            return;
+
+        for(Endpoint producer : this.producers)
+            producer.amount = producer.storage.getAmount();
+
+        try(Transaction transaction = Transaction.openOuter())
+        {
+            long supply = 0;
+            for(Endpoint producer : this.producers)
+                supply = saturatedAdd(supply, EnergyHelper.simulateExtraction(producer.storage, transaction));
+
+            if(supply == 0)
+                return;
+
+            int count = this.consumers.size();
+            int open = 0;
+            for(int i = 0; i < count; i++)
+            {
+                this.demand[i] = EnergyHelper.simulateInsertion(this.consumers.get(i).storage, transaction);
+                if(this.demand[i] > 0)
+                    open++;
+            }
+
+            long inserted = fill(supply, open, transaction);
+            if(inserted == 0)
+                return;
+
+            long remaining = inserted;
+            for(int i = 0; i < this.producers.size() && remaining > 0; i++)
+                remaining -= this.producers.get(i).storage.extract(remaining, transaction);
+
+            // a producer gave less than it simulated, nothing is moved rather than creating energy
+            if(remaining > 0)
+                return;
+
+            transaction.commit();
+            this.lastTransferred = inserted;
+        }
+
+        for(Endpoint producer : this.producers)
+            if(producer.storage.getAmount() != producer.amount)
+                markChanged(producer.blockEntity);
+    }
+
+    /**
+     * Spreads the supply evenly over the consumers with demand left, handing what a consumer cannot take to the next
+     * ones.
+     */
+    private long fill(long supply, int open, Transaction transaction)
+    {
+        long remaining = supply;
+
+        while (remaining > 0 && open > 0)
+        {
+            long share = Math.max(1, remaining / open);
+            long before = remaining;
+            int stillOpen = 0;
+
+            for(int i = 0; i < this.consumers.size() && remaining > 0; i++)
+            {
+                if(this.demand[i] <= 0)
+                    continue;
+
+                long requested = Math.min(share, Math.min(this.demand[i], remaining));
+                long inserted = this.consumers.get(i).storage.insert(requested, transaction);
+                remaining -= inserted;
+                // a consumer taking less than asked is full for this tick
+                this.demand[i] = inserted < requested ? 0 : this.demand[i] - inserted;
+
+                if(this.demand[i] > 0)
+                    stillOpen++;
+            }
+
+            if(remaining == before)
+                break;
+
+            open = stillOpen;
+        }
+
+        return supply - remaining;
+    }
+
+    /**
+     * Determines whether a machine the grid transfers with was broken or unloaded since the last lookup.
+     */
+    private boolean hasRemovedEndpoint()
+    {
+        for(Endpoint producer : this.producers)
+            if(producer.blockEntity.isRemoved())
+                return true;
+
+        for(Endpoint consumer : this.consumers)
+            if(consumer.blockEntity.isRemoved())
+                return true;
+
+        return false;
+    }
+
+    /**
+     * Looks up the producers and consumers next to the conductors again.
+     */
+    private void rescan(Level level)
+    {
+        this.producers.clear();
+        this.consumers.clear();
+        this.endpointsDirty = false;
+
+        Set<EnergyStorage> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+
+        forEachNode(packed ->
+                    {
+                        IEnergyConductor conductor = this.grids.get(packed);
+
+                        for(Direction side : Direction.values())
+                        {
+                            long neighbor = BlockPos.offset(packed, side);
+                            if(this.grids.contains(neighbor) || (conductor != null && !conductor.canConnect(side)))
+                                continue;
+
+                            cursor.set(neighbor);
+                            if(!level.isLoaded(cursor))
+                                continue;
+
+                            // storages without a block entity cannot be told apart once gone, they are not cached
+                            BlockEntity blockEntity = level.getBlockEntity(cursor);
+                            if(blockEntity == null)
+                                continue;
+
+                            EnergyStorage storage = EnergyStorage.SIDED.find(level, cursor, null, blockEntity, side.getOpposite());
+                            if(storage == null || !seen.add(storage))
+                                continue;
+
+                            boolean produces = storage.supportsExtraction() && (!storage.supportsInsertion() || blockEntity instanceof IEnergySpreader<?>);
+
+                            if(produces)
+                                this.producers.add(new Endpoint(blockEntity, storage));
+                            else if(storage.supportsInsertion())
+                                this.consumers.add(new Endpoint(blockEntity, storage));
+                        }
+                    });
+
+        if(this.demand.length < this.consumers.size())
+            this.demand = new long[this.consumers.size()];
+    }
+
+    /**
+     * Determines whether a position is a conductor of this grid.
+     *
+     * @param pos the position to check
+     * @return true if the position belongs to the grid, false otherwise
+     */
+    public boolean contains(BlockPos pos)
+    {
+        return this.grids.getNetwork(pos.asLong()) == find();
+    }
+
+    public int getProducerCount()
+    {
+        return this.producers.size();
+    }
+
+    public int getConsumerCount()
+    {
+        return this.consumers.size();
+    }
+
+    /**
+     * Retrieves the energy moved by the last tick.
+     *
+     * @return the transferred amount
+     */
+    public long getLastTransferred()
+    {
+        return this.lastTransferred;
+    }
+
+    private static void markChanged(BlockEntity blockEntity)
+    {
+        if(blockEntity.isRemoved())
+            return;
+
+        if(blockEntity instanceof AbstractBaseBE<?> be)
+            be.updateAtTickEnd();
+        else
+            blockEntity.setChanged();
+    }
+
+    private static long saturatedAdd(long a, long b)
+    {
+        long sum = a + b;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    private static final class Endpoint
+    {
+        private final BlockEntity blockEntity;
+        private final EnergyStorage storage;
+        private long amount;
+
+        private Endpoint(BlockEntity blockEntity, EnergyStorage storage)
+        {
+            this.blockEntity = blockEntity;
+            this.storage = storage;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.thementor.api.energy.grid;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+
+/**
+ * Entry point of the energy grids.
+ * <p>
+ * Call {@link #init()} once from your mod initializer. Conductors then register through {@link #addConductor},
+ * {@link #removeConductor} and {@link #unloadConductor}, machines report themselves through {@link #endpointChanged},
+ * and every grid moves its energy once at the end of each level tick. Machines stop spreading energy on their own
+ * toward the conductors they touch, see {@link dev.thementor.api.energy.utils.EnergyHelper#spread}. Until
+ * {@link #init()} is called nothing changes.
+ */
+@SuppressWarnings("unused")
+public final class EnergyGridManager
+{
+    private static final Map<Level, LevelEnergyGrids> GRIDS = new WeakHashMap<>();
+    private static boolean initialized;
+
+    private EnergyGridManager() {}
+
+    public static void init()
+    {
+        if(initialized)
+            return;
+        initialized = true;
+
+        ServerTickEvents.END_WORLD_TICK.register(world ->
+                                                 {
+                                                     LevelEnergyGrids grids = GRIDS.get(world);
+                                                     if(grids != null)
+                                                         grids.tick();
+                                                 });
+        ServerChunkEvents.CHUNK_UNLOAD.register((world, chunk) ->
+                                                {
+                                                    LevelEnergyGrids grids = GRIDS.get(world);
+                                                    if(grids != null)
+                                                        grids.chunkUnloaded(chunk.getPos());
+                                                });
+        ServerWorldEvents.UNLOAD.register((server, world) -> GRIDS.remove(world));
+    }
+
+    public static boolean isInitialized()
+    {
+        return initialized;
+    }
+
+    /**
+     * Adds a conductor block entity to the grids of its level.
+     */
+    public static <C extends BlockEntity & IEnergyConductor> void addConductor(C conductor)
+    {
+        if(!initialized || !(conductor.getLevel() instanceof ServerLevel level))
+            return;
+        GRIDS.computeIfAbsent(level, LevelEnergyGrids::new).add(conductor.getBlockPos().asLong(), conductor);
+    }
+
+    /**
+     * Removes a broken conductor block entity from the grids of its level, splitting its grid when needed.
+     */
+    public static <C extends BlockEntity & IEnergyConductor> void removeConductor(C conductor)
+    {
+        if(!initialized || conductor.getLevel() == null)
+            return;
+
+        LevelEnergyGrids grids = GRIDS.get(conductor.getLevel());
+        if(grids != null)
+            grids.remove(conductor.getBlockPos().asLong());
+    }
+
+    /**
+     * Removes a conductor block entity unloading with its chunk. Its grid is split once at the next level tick rather
+     * than for every conductor of the chunk.
+     */
+    public static <C extends BlockEntity & IEnergyConductor> void unloadConductor(C conductor)
+    {
+        if(!initialized || conductor.getLevel() == null)
+            return;
+
+        LevelEnergyGrids grids = GRIDS.get(conductor.getLevel());
+        if(grids != null)
+            grids.detach(conductor.getBlockPos().asLong());
+    }
+
+    /**
+     * Tells the grid of a conductor that a block next to it changed, so it looks up its endpoints again.
+     */
+    public static <C extends BlockEntity & IEnergyConductor> void conductorNeighborChanged(C conductor)
+    {
+        if(!initialized || conductor.getLevel() == null)
+            return;
+
+        LevelEnergyGrids grids = GRIDS.get(conductor.getLevel());
+        if(grids != null)
+            grids.nodeChanged(conductor.getBlockPos().asLong());
+    }
+
+    /**
+     * Tells the grids next to a block entity that it appeared or went away, so they look up their endpoints again.
+     */
+    public static void endpointChanged(BlockEntity blockEntity)
+    {
+        if(!initialized || blockEntity.getLevel() == null)
+            return;
+
+        LevelEnergyGrids grids = GRIDS.get(blockEntity.getLevel());
+        if(grids != null)
+            grids.neighborChanged(blockEntity.getBlockPos().asLong());
+    }
+
+    /**
+     * Determines whether a position touches a conductor, so the machine there is served by a grid.
+     */
+    public static boolean isConnected(@Nullable Level level, BlockPos pos)
+    {
+        return getConnectedSides(level, pos) != 0;
+    }
+
+    /**
+     * Retrieves the sides of a position that face a conductor connecting toward it, as a mask by {@link
+     * net.minecraft.core.Direction} ordinal. The grid serves the machine there on those sides only.
+     */
+    public static int getConnectedSides(@Nullable Level level, BlockPos pos)
+    {
+        if(!initialized || level == null)
+            return 0;
+
+        LevelEnergyGrids grids = GRIDS.get(level);
+        return grids != null ? grids.getConnectedSides(pos) : 0;
+    }
+
+    public static @Nullable LevelEnergyGrids get(Level level)
+    {
+        return GRIDS.get(level);
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.thementor.api.energy.grid;
+
+import net.minecraft.core.Direction;
+
+/**
+ * Block entity that carries energy between the machines of an {@link EnergyGrid} without storing any itself.
+ * <p>
+ * Conductors join the grid of their level through {@link EnergyGridManager#addConductor}, which
+ * {@link dev.thementor.api.energy.be.AbstractEnergyConductorBE} does when it is loaded or placed, and leave it when
+ * they are unloaded or broken.
+ */
+@SuppressWarnings("unused")
+public interface IEnergyConductor
+{
+    /**
+     * Determines whether this conductor connects on a side, to another conductor or to a machine. Both conductors
+     * have to accept the connection. The answer must not change while the conductor is part of a grid; remove and
+     * add it again when it does.
+     *
+     * @param side the side of this conductor
+     * @return true if energy can pass through the side, false otherwise
+     */
+    default boolean canConnect(Direction side)
+    {
+        return true;
+    }
+}
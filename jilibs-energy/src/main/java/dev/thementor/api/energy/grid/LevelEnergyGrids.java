@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.thementor.api.energy.grid;
+
+import java.util.Collection;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.Level;
+
+import dev.thementor.api.base.graph.NetworkGraph;
+
+/**
+ * The energy grids of a single level, updated incrementally as conductors come and go.
+ * <p>
+ * Adding a conductor joins the grids of its neighbors. Breaking a conductor splits its grid when it was the only link
+ * between parts of it, searching no further than the parts that split off. Conductors unloading with their chunk leave
+ * without a search, their grids are split once before the next transfer.
+ */
+@SuppressWarnings("unused")
+public final class LevelEnergyGrids extends NetworkGraph<IEnergyConductor, EnergyGrid>
+{
+    private final Level level;
+
+    LevelEnergyGrids(Level level)
+    {
+        this.level = level;
+    }
+
+    @Override
+    protected EnergyGrid createNetwork()
+    {
+        return new EnergyGrid(this);
+    }
+
+    @Override
+    protected boolean connects(IEnergyConductor conductor, IEnergyConductor neighbor, Direction side)
+    {
+        return conductor.canConnect(side) && neighbor.canConnect(side.getOpposite());
+    }
+
+    void tick()
+    {
+        repartition();
+
+        for(EnergyGrid grid : getNetworks())
+            grid.tick(this.level);
+    }
+
+    /**
+     * Mask of the sides of a position that face a conductor connecting toward it, by {@link Direction} ordinal.
+     */
+    int getConnectedSides(BlockPos pos)
+    {
+        long packed = pos.asLong();
+        int sides = 0;
+
+        for(Direction side : Direction.values())
+        {
+            IEnergyConductor conductor = get(BlockPos.offset(packed, side));
+            if(conductor != null && conductor.canConnect(side.getOpposite()))
+                sides |= 1 << side.ordinal();
+        }
+
+        return sides;
+    }
+
+    public @Nullable EnergyGrid getGrid(BlockPos pos)
+    {
+        return getNetwork(pos.asLong());
+    }
+
+    public Collection<EnergyGrid> getGrids()
+    {
+        return getNetworks();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.thementor.api.energy.interfaces;
+
+/**
+ * Implemented by an energy storage to tell an {@link dev.thementor.api.energy.utils.EnergyScheduler} how it is
+ * served. Storages with a higher priority are filled first; within one priority the energy is shared by weight.
+ */
+@SuppressWarnings("unused")
+public interface IEnergyPriority
+{
+    default int getEnergyPriority()
+    {
+        return 0;
+    }
+
+    /**
+     * Relative share of this storage among storages of the same priority, at least 1.
+     */
+    default int getEnergyWeight()
+    {
+        return 1;
+    }
+}
\ No newline at end of file
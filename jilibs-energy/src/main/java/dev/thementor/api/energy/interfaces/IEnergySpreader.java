@@ -26,6 +26,8 @@ import net.minecraft.world.level.block.entity.BlockEntity;
 import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
 
 import dev.thementor.api.energy.utils.EnergyHelper;
+import dev.thementor.api.energy.utils.EnergyScheduler;
+import dev.thementor.api.shared.enumerations.DistributionMode;
 
 @SuppressWarnings("unused")
 public interface IEnergySpreader<T extends EnergyStorage>
@@ -50,6 +52,16 @@ public interface IEnergySpreader<T extends EnergyStorage>
         return EnergyHelper.simulateExtraction(storage);
     }
 
+    default void spread(BlockEntity blockEntity, T storage, DistributionMode mode, Set<BlockPos> blacklist)
+    {
+        EnergyHelper.spread(blockEntity, storage, mode, blacklist);
+    }
+
+    default void spread(BlockEntity blockEntity, T storage, EnergyScheduler scheduler, Set<BlockPos> blacklist)
+    {
+        EnergyHelper.spread(blockEntity, storage, scheduler, blacklist);
+    }
+
     default void spread(BlockEntity blockEntity, T storage, boolean equalAmount, Set<BlockPos> blacklist)
     {
         EnergyHelper.spread(blockEntity, storage, equalAmount, blacklist);
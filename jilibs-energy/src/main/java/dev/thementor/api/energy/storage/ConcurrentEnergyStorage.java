@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.thementor.api.energy.storage;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
+import net.fabricmc.fabric.api.transfer.v1.transaction.TransactionContext;
+
+/**
+ * Energy storage that worker threads can {@link #deposit} into without locking. Deposits collect in a striped
+ * {@link LongAdder} and are moved into the storage on the server thread, once per tick from {@link #sync()} or by an
+ * explicit {@link #drain()}. The first deposit after a drain also queues a drain on the server, so energy still
+ * arrives while the owner sleeps or does not tick. Everything else behaves like a {@link SyncedEnergyStorage} and is
+ * server thread only.
+ * <p>
+ * Energy still pending when the owner is saved or unloaded is not part of the saved amount.
+ */
+@SuppressWarnings("unused")
+public class ConcurrentEnergyStorage extends SyncedEnergyStorage
+{
+    private final LongAdder pending = new LongAdder();
+    private final AtomicBoolean drainQueued = new AtomicBoolean();
+    private final long maxPending;
+
+    public ConcurrentEnergyStorage(BlockEntity blockEntity, long capacity, long maxInsert, long maxExtract)
+    {
+        this(blockEntity, capacity, maxInsert, maxExtract, capacity);
+    }
+
+    public ConcurrentEnergyStorage(BlockEntity blockEntity, long capacity, long maxInsert, long maxExtract, long maxPending)
+    {
+        super(blockEntity, capacity, maxInsert, maxExtract);
+        this.maxPending = maxPending;
+    }
+
+    /**
+     * Adds energy from any thread. Once the pending energy reaches the pending limit further deposits are refused,
+     * though deposits racing each other can overshoot the limit by their own amounts.
+     *
+     * @return the deposited amount, all or nothing
+     */
+    public long deposit(long amount)
+    {
+        if(amount <= 0 || this.pending.sum() >= this.maxPending)
+            return 0;
+        this.pending.add(amount);
+
+        // added before the flag, so a drain clearing the flag either sees this amount or a new drain is queued
+        if(!this.drainQueued.getAndSet(true))
+            queueDrain();
+        return amount;
+    }
+
+    private void queueDrain()
+    {
+        Level level = getBlockEntity() != null ? getBlockEntity().getLevel() : null;
+        MinecraftServer server = level != null ? level.getServer() : null;
+
+        if(server == null)
+        {
+            this.drainQueued.set(false);
+            return;
+        }
+
+        server.execute(() ->
+                       {
+                           this.drainQueued.set(false);
+                           // the commit of the drain wakes a sleeping owner and schedules its update
+                           if(!Transaction.isOpen())
+                               drain();
+                       });
+    }
+
+    /**
+     * Energy deposited but not drained yet. Exact only while no worker is depositing.
+     */
+    public long getPending()
+    {
+        return this.pending.sum();
+    }
+
+    public long getMaxPending()
+    {
+        return this.maxPending;
+    }
+
+    /**
+     * Drains pending energy in its own transaction. Must not be called while a transaction is open.
+     *
+     * @return the drained amount
+     */
+    public long drain()
+    {
+        if(this.pending.sum() <= 0 || this.amount >= this.capacity)
+            return 0;
+
+        try(Transaction transaction = Transaction.openOuter())
+        {
+            long drained = drain(transaction);
+            transaction.commit();
+            return drained;
+        }
+    }
+
+    /**
+     * Moves as much pending energy as fits into the storage, ignoring the insert limit. If the transaction, or any
+     * transaction it is committed into, is aborted the energy is put back into the pending total.
+     *
+     * @return the drained amount
+     */
+    public long drain(TransactionContext transaction)
+    {
+        long drained = Math.min(this.pending.sum(), this.capacity - this.amount);
+        if(drained <= 0)
+            return 0;
+
+        updateSnapshots(transaction);
+        this.amount += drained;
+        this.pending.add(-drained);
+        getFlowMeter().onInserted(transaction.nestingDepth(), drained);
+        restoreOnAbort(transaction, drained);
+        return drained;
+    }
+
+    // the amount is rolled back by the snapshot; the pending side follows the drain up the transaction stack the same
+    // way a snapshot does, until an abort puts it back or the outer commit makes it final
+    private void restoreOnAbort(TransactionContext transaction, long drained)
+    {
+        transaction.addCloseCallback((context, result) ->
+        {
+            if(result.wasAborted())
+                this.pending.add(drained);
+            else if(context.nestingDepth() > 0)
+                restoreOnAbort(context.getOpenTransaction(context.nestingDepth() - 1), drained);
+        });
+    }
+
+    @Override
+    public void sync()
+    {
+        drain();
+        super.sync();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.thementor.api.energy.utils;
+
+import team.reborn.energy.api.EnergyStorage;
+
+import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
+
+import dev.thementor.api.shared.enumerations.DistributionMode;
+
+/**
+ * Moves energy from one storage to several targets in a single outer transaction.
+ * <p>
+ * The source and every target are simulated once, the amount is allocated in memory according to the
+ * {@link DistributionMode}, and then every target is inserted into exactly once before the source is extracted by
+ * the delivered total. A target that cannot take a full share no longer blocks the others, the part it cannot take
+ * goes to the targets that still have room.
+ */
+@SuppressWarnings("unused")
+public final class EnergyDistributor
+{
+    private static final ThreadLocal<long[][]> SCRATCH = ThreadLocal.withInitial(() -> new long[][] { new long[6], new long[6] });
+
+    private EnergyDistributor() {}
+
+    /**
+     * Distributes as much energy as the source can give and the targets can take.
+     *
+     * @param source   the storage to extract from
+     * @param targets  the storages to insert into, only the first {@code count} are used
+     * @param count    the number of targets
+     * @param mode     how the amount is split between the targets
+     * @param rotation the target the indivisible remainder starts at, usually derived from the game time so the
+     *                 remainder rotates between ticks
+     * @return the amount moved
+     */
+    public static long distribute(EnergyStorage source, EnergyStorage[] targets, int count, DistributionMode mode, int rotation)
+    {
+        return distribute(source, Long.MAX_VALUE, targets, count, mode, rotation);
+    }
+
+    /**
+     * Distributes up to a limit.
+     *
+     * @param source   the storage to extract from
+     * @param limit    the most energy to move
+     * @param targets  the storages to insert into, only the first {@code count} are used
+     * @param count    the number of targets
+     * @param mode     how the amount is split between the targets
+     * @param rotation the target the indivisible remainder starts at
+     * @return the amount moved
+     */
+    public static long distribute(EnergyStorage source, long limit, EnergyStorage[] targets, int count, DistributionMode mode, int rotation)
+    {
+        if(count <= 0 || limit <= 0 || !source.supportsExtraction())
+            return 0;
+
+        long[][] scratch = scratch(count);
+        long[] accept = scratch[0];
+        long[] allocation = scratch[1];
+
+        try(Transaction transaction = Transaction.openOuter())
+        {
+            long available = Math.min(limit, EnergyHelper.simulateExtraction(source, transaction));
+            if(available <= 0)
+                return 0;
+
+            long totalAccept = 0;
+            for(int i = 0; i < count; i++)
+            {
+                accept[i] = targets[i] != source && targets[i].supportsInsertion() ? EnergyHelper.simulateInsertion(targets[i], transaction) : 0;
+                totalAccept = saturatedAdd(totalAccept, accept[i]);
+            }
+
+            long budget = Math.min(available, totalAccept);
+            if(budget <= 0)
+                return 0;
+
+            int start = Math.floorMod(rotation, count);
+            if(mode == DistributionMode.PROPORTIONAL)
+                allocateProportional(accept, allocation, count, budget, totalAccept, start);
+            else
+                allocateRoundRobin(accept, allocation, count, budget, start);
+
+            long inserted = 0;
+            for(int i = 0; i < count; i++)
+                if(allocation[i] > 0)
+                    inserted += targets[i].insert(allocation[i], transaction);
+
+            if(inserted <= 0)
+                return 0;
+
+            // the source gave less than it simulated, nothing is moved rather than creating energy
+            if(source.extract(inserted, transaction) != inserted)
+                return 0;
+
+            transaction.commit();
+            return inserted;
+        }
+    }
+
+    /**
+     * Splits the budget equally. Targets that accept less than the share are filled and the rest is split again
+     * between the others; the remainder of the last division goes one unit each from the start.
+     */
+    private static void allocateRoundRobin(long[] accept, long[] allocation, int count, long budget, int start)
+    {
+        int open = 0;
+        for(int i = 0; i < count; i++)
+        {
+            allocation[i] = 0;
+            if(accept[i] > 0)
+                open++;
+        }
+
+        long remaining = budget;
+
+        while (remaining > 0 && open > 0)
+        {
+            long share = remaining / open;
+            if(share == 0)
+                break;
+
+            int stillOpen = 0;
+            for(int i = 0; i < count; i++)
+            {
+                long room = accept[i] - allocation[i];
+                if(room <= 0)
+                    continue;
+
+                long given = Math.min(share, room);
+                allocation[i] += given;
+                remaining -= given;
+
+                if(room > given)
+                    stillOpen++;
+            }
+
+            open = stillOpen;
+        }
+
+        carry(accept, allocation, count, remaining, start);
+    }
+
+    /**
+     * Splits the budget by the share of every target in the total it can accept.
+     */
+    private static void allocateProportional(long[] accept, long[] allocation, int count, long budget, long totalAccept, int start)
+    {
+        long remaining = budget;
+        double ratio = (double) budget / totalAccept;
+
+        for(int i = 0; i < count; i++)
+        {
+            allocation[i] = Math.min(accept[i], Math.min(remaining, (long) (accept[i] * ratio)));
+            remaining -= allocation[i];
+        }
+
+        carry(accept, allocation, count, remaining, start);
+    }
+
+    /**
+     * Hands out what is left, cycling from the start so the same target is not always favored.
+     */
+    private static void carry(long[] accept, long[] allocation, int count, long remaining, int start)
+    {
+        while (remaining > 0)
+        {
+            boolean progressed = false;
+
+            for(int n = 0; n < count && remaining > 0; n++)
+            {
+                int i = (start + n) % count;
+                long room = accept[i] - allocation[i];
+                if(room <= 0)
+                    continue;
+
+                // one unit per target is the usual case, a larger remainder left by rounding is given in full
+                long given = Math.min(room, Math.max(1, remaining / count));
+                allocation[i] += given;
+                remaining -= given;
+                progressed = true;
+            }
+
+            if(!progressed)
+                return;
+        }
+    }
+
+    private static long[][] scratch(int count)
+    {
+        long[][] scratch = SCRATCH.get();
+        if(scratch[0].length < count)
+        {
+            scratch[0] = new long[count];
+            scratch[1] = new long[count];
+        }
+        return scratch;
+    }
+
+    private static long saturatedAdd(long a, long b)
+    {
+        long sum = a + b;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+}
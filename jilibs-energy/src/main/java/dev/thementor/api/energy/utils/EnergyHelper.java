@@ -17,6 +17,7 @@
 package dev.thementor.api.energy.utils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 
@@ -30,10 +31,15 @@ import net.minecraft.world.level.block.entity.BlockEntity;
 import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
 
 import dev.thementor.api.base.blockentity.AbstractBaseBE;
+import dev.thementor.api.base.lookup.NeighborApiCache;
+import dev.thementor.api.energy.grid.EnergyGridManager;
+import dev.thementor.api.shared.enumerations.DistributionMode;
 
 @SuppressWarnings("unused")
 public class EnergyHelper
 {
+    private static final ThreadLocal<EnergyStorage[]> TARGETS = ThreadLocal.withInitial(() -> new EnergyStorage[6]);
+
     public static long simulateInsertion(EnergyStorage storage, Transaction outer)
     {
         long amount;
@@ -98,7 +104,7 @@ public class EnergyHelper
         BlockPos adjacentPos = pos.relative(direction);
         if(blacklist != null && blacklist.contains(adjacentPos))
             return null;
-        return EnergyStorage.SIDED.find(world, pos, direction.getOpposite());
+        return EnergyStorage.SIDED.find(world, adjacentPos, direction.getOpposite());
     }
 
     public static List<EnergyStorage> getAllStorages(Level world, BlockPos pos, Set<BlockPos> blacklist)
@@ -117,53 +123,90 @@ public class EnergyHelper
         return storages;
     }
 
-    public static void spread(BlockEntity blockEntity, EnergyStorage storage, boolean equalAmount, Set<BlockPos> blacklist)
+    public static void spread(BlockEntity blockEntity, EnergyStorage storage, DistributionMode mode, Set<BlockPos> blacklist)
     {
-        List<EnergyStorage> storages = getAllStorages(blockEntity.getLevel(), blockEntity.getBlockPos(), blacklist);
+        Level level = blockEntity.getLevel();
+        EnergyStorage[] targets = TARGETS.get();
+        int count = collectTargets(blockEntity, blacklist, targets);
+        if(level == null || count == 0)
+            return;
 
-        if(storages.isEmpty())
+        long current = storage.getAmount();
+        EnergyDistributor.distribute(storage, targets, count, mode, (int) level.getGameTime());
+        Arrays.fill(targets, 0, count, null);
+        onSpread(blockEntity, storage, current);
+    }
+
+    /**
+     * Spreads to the neighbors through a scheduler that keeps priorities, weighted shares and unpaid credit of the
+     * neighbors between calls. The scheduler belongs to the spreading block entity.
+     */
+    public static void spread(BlockEntity blockEntity, EnergyStorage storage, EnergyScheduler scheduler, Set<BlockPos> blacklist)
+    {
+        EnergyStorage[] targets = TARGETS.get();
+        int count = collectTargets(blockEntity, blacklist, targets);
+        if(count == 0)
             return;
 
-        long extractable = simulateExtraction(storage);
-        long finalAmount = equalAmount ? extractable / storages.size() : extractable;
         long current = storage.getAmount();
-        long totalInserted = 0;
+        scheduler.distribute(storage, targets, count);
+        Arrays.fill(targets, 0, count, null);
+        onSpread(blockEntity, storage, current);
+    }
 
-        try(Transaction transaction = Transaction.openOuter())
+    private static int collectTargets(BlockEntity blockEntity, Set<BlockPos> blacklist, EnergyStorage[] targets)
+    {
+        Level level = blockEntity.getLevel();
+        if(level == null)
+            return 0;
+
+        // conductors take from the machine through their energy grid once per tick, the other sides are spread to here
+        int gridSides = EnergyGridManager.getConnectedSides(level, blockEntity.getBlockPos());
+        int count = 0;
+
+        // library block entities keep their neighbors cached, anything else looks them up every call
+        if(blockEntity instanceof AbstractBaseBE<?> be)
+        {
+            NeighborApiCache<EnergyStorage> neighbors = be.getNeighborCache(EnergyStorage.SIDED);
+            int found = neighbors.refresh(level, blockEntity.getBlockPos(), blacklist);
+            for(int i = 0; i < found; i++)
+                if((gridSides & (1 << neighbors.getSide(i).ordinal())) == 0)
+                    targets[count++] = neighbors.get(i);
+        }
+        else
         {
-            for (EnergyStorage adjacentStorage : storages)
+            BlockPos pos = blockEntity.getBlockPos();
+            for(Direction direction : Direction.values())
             {
-                var insertable = simulateInsertion(adjacentStorage, transaction);
-
-                if(insertable < finalAmount)
+                BlockPos adjacentPos = pos.relative(direction);
+                if((gridSides & (1 << direction.ordinal())) != 0 || (blacklist != null && blacklist.contains(adjacentPos)))
                     continue;
 
-                long inserted = adjacentStorage.insert(finalAmount, transaction);
-                totalInserted += inserted;
-            }
-
-            if(totalInserted > 0)
-            {
-                try(Transaction inner = transaction.openNested())
-                {
-                    var extracted = storage.extract(totalInserted, inner);
-                    if(extracted > 0)
-                        inner.commit();
-                }
+                EnergyStorage storage = EnergyStorage.SIDED.find(level, adjacentPos, direction.getOpposite());
+                if(storage != null)
+                    targets[count++] = storage;
             }
+        }
 
-            transaction.commit();
+        return count;
+    }
 
-            if(current != storage.getAmount())
-            {
-                if (blockEntity instanceof AbstractBaseBE<?> be)
-                    be.update();
-                else
-                    blockEntity.setChanged();
-            }
+    private static void onSpread(BlockEntity blockEntity, EnergyStorage storage, long previous)
+    {
+        if(previous != storage.getAmount())
+        {
+            if (blockEntity instanceof AbstractBaseBE<?> be)
+                be.updateAtTickEnd();
+            else
+                blockEntity.setChanged();
         }
     }
 
+    public static void spread(BlockEntity blockEntity, EnergyStorage storage, boolean equalAmount, Set<BlockPos> blacklist)
+    {
+        spread(blockEntity, storage, equalAmount ? DistributionMode.ROUND_ROBIN : DistributionMode.PROPORTIONAL, blacklist);
+    }
+
     public static void spread(BlockEntity blockEntity, EnergyStorage storage, Set<BlockPos> blacklist)
     {
         spread(blockEntity, storage, true, blacklist);
@@ -0,0 +1,422 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.thementor.api.energy.utils;
+
+import java.util.Arrays;
+
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import team.reborn.energy.api.EnergyStorage;
+
+import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
+
+import dev.thementor.api.energy.interfaces.IEnergyPriority;
+
+/**
+ * Allocates the energy of one producer between many consumers across ticks.
+ * <p>
+ * Consumers are served in descending priority, and a lower priority only gets what the higher ones left. Within one
+ * priority the energy is shared by weight with deficit round-robin: every round credits each consumer a quantum scaled
+ * by its weight, and the consumer takes what its credit allows. Credit that the budget could not pay out is kept for the
+ * next tick, and the consumers not reached by a cut short round are served first next tick. Under scarcity every
+ * consumer of a priority gets its weighted share over time, however the targets are ordered.
+ * <p>
+ * Consumers are recognized by identity between calls. Their priority and weight come from {@link IEnergyPriority}
+ * when the storage implements it, else from {@link #setPriority}, else default to 0 and 1. The state of a consumer
+ * that has not been offered energy for a while is dropped, unless it was configured through {@link #setPriority}.
+ * A block that hands out a new storage object on every lookup starts from a fresh state on every call.
+ * <p>
+ * Like the storages it drives, an instance is only safe on the server thread.
+ */
+@SuppressWarnings("unused")
+public class EnergyScheduler
+{
+    private static final int PURGE_INTERVAL = 200;
+    private static final double SATISFACTION_SMOOTHING = 0.1;
+
+    private final Reference2IntOpenHashMap<EnergyStorage> slotsByConsumer = new Reference2IntOpenHashMap<>();
+
+    // consumer state, indexed by slot
+    private EnergyStorage[] consumers = new EnergyStorage[8];
+    private int[] priorities = new int[8];
+    private int[] weights = new int[8];
+    private boolean[] pinned = new boolean[8];
+    private long[] deficits = new long[8];
+    private long[] turns = new long[8];
+    private long[] lastSeen = new long[8];
+    private long[] lastDemand = new long[8];
+    private long[] lastDelivered = new long[8];
+    private double[] satisfaction = new double[8];
+    private int size;
+
+    // per call scratch, indexed by position in the target array
+    private int[] slots = new int[8];
+    private int[] order = new int[8];
+    private long[] room = new long[8];
+    private long[] allocation = new long[8];
+
+    private long passes;
+    private long turnCounter;
+
+    public EnergyScheduler()
+    {
+        this.slotsByConsumer.defaultReturnValue(-1);
+    }
+
+    /**
+     * Moves as much energy as the source can give and the targets can take.
+     *
+     * @param source  the storage to extract from
+     * @param targets the consumers, only the first {@code count} are used
+     * @param count   the number of consumers
+     * @return the amount moved
+     */
+    public long distribute(EnergyStorage source, EnergyStorage[] targets, int count)
+    {
+        return distribute(source, Long.MAX_VALUE, targets, count);
+    }
+
+    /**
+     * Moves up to a limit, in one outer transaction with every storage simulated and inserted into once.
+     *
+     * @param source  the storage to extract from
+     * @param limit   the most energy to move
+     * @param targets the consumers, only the first {@code count} are used
+     * @param count   the number of consumers
+     * @return the amount moved
+     */
+    public long distribute(EnergyStorage source, long limit, EnergyStorage[] targets, int count)
+    {
+        if(count <= 0 || limit <= 0 || !source.supportsExtraction())
+            return 0;
+
+        ensureScratch(count);
+        this.passes++;
+
+        long moved = 0;
+
+        try(Transaction transaction = Transaction.openOuter())
+        {
+            long totalRoom = 0;
+            for(int i = 0; i < count; i++)
+            {
+                EnergyStorage target = targets[i];
+                this.slots[i] = slotOf(target, true);
+                this.order[i] = i;
+                this.allocation[i] = 0;
+                this.room[i] = target != source && target.supportsInsertion() ? EnergyHelper.simulateInsertion(target, transaction) : 0;
+                totalRoom = saturatedAdd(totalRoom, this.room[i]);
+            }
+
+            long budget = Math.min(Math.min(limit, EnergyHelper.simulateExtraction(source, transaction)), totalRoom);
+
+            if(budget > 0)
+            {
+                IntArrays.quickSort(this.order, 0, count, this::compareTargets);
+
+                int from = 0;
+                while (from < count && budget > 0)
+                {
+                    int priority = this.priorities[this.slots[this.order[from]]];
+                    int to = from + 1;
+                    while (to < count && this.priorities[this.slots[this.order[to]]] == priority)
+                        to++;
+
+                    budget -= allocateTier(from, to, budget);
+                    from = to;
+                }
+
+                for(int i = 0; i < count; i++)
+                    if(this.allocation[i] > 0)
+                    {
+                        this.allocation[i] = targets[i].insert(this.allocation[i], transaction);
+                        moved += this.allocation[i];
+                    }
+
+                // the source gave less than it simulated, nothing is moved rather than creating energy
+                if(moved > 0 && source.extract(moved, transaction) == moved)
+                    transaction.commit();
+                else
+                    moved = 0;
+            }
+        }
+
+        for(int i = 0; i < count; i++)
+            record(this.slots[i], this.room[i], moved > 0 ? this.allocation[i] : 0);
+
+        if(this.passes % PURGE_INTERVAL == 0)
+            purge();
+
+        return moved;
+    }
+
+    /**
+     * Splits the budget between the targets {@code order[from..to)} of one priority.
+     *
+     * @return the amount allocated
+     */
+    private long allocateTier(int from, int to, long budget)
+    {
+        long tierRoom = 0;
+        for(int k = from; k < to; k++)
+            tierRoom = saturatedAdd(tierRoom, this.room[this.order[k]]);
+
+        // enough for everyone, a consumer that is satisfied carries no credit
+        if(tierRoom <= budget)
+        {
+            for(int k = from; k < to; k++)
+            {
+                int i = this.order[k];
+                this.allocation[i] = this.room[i];
+                this.deficits[this.slots[i]] = 0;
+            }
+            return tierRoom;
+        }
+
+        long remaining = budget;
+
+        while (remaining > 0)
+        {
+            long openWeight = 0;
+            for(int k = from; k < to; k++)
+            {
+                int i = this.order[k];
+                if(this.room[i] > this.allocation[i])
+                    openWeight += this.weights[this.slots[i]];
+            }
+
+            if(openWeight == 0)
+                break;
+
+            long quantum = Math.max(1, remaining / openWeight);
+
+            for(int k = from; k < to && remaining > 0; k++)
+            {
+                int i = this.order[k];
+                int slot = this.slots[i];
+                long open = this.room[i] - this.allocation[i];
+                if(open <= 0)
+                    continue;
+
+                this.deficits[slot] += quantum * this.weights[slot];
+                long given = Math.min(this.deficits[slot], Math.min(open, remaining));
+                this.allocation[i] += given;
+                this.deficits[slot] -= given;
+                remaining -= given;
+                this.turns[slot] = ++this.turnCounter;
+
+                if(given == open)
+                    this.deficits[slot] = 0;
+            }
+        }
+
+        return budget - remaining;
+    }
+
+    // higher priority first, then the consumer served longest ago
+    private int compareTargets(int a, int b)
+    {
+        int slotA = this.slots[a];
+        int slotB = this.slots[b];
+        int byPriority = Integer.compare(this.priorities[slotB], this.priorities[slotA]);
+        return byPriority != 0 ? byPriority : Long.compare(this.turns[slotA], this.turns[slotB]);
+    }
+
+    private void record(int slot, long demand, long delivered)
+    {
+        this.lastDemand[slot] = demand;
+        this.lastDelivered[slot] = delivered;
+
+        if(demand > 0)
+        {
+            double ratio = (double) delivered / demand;
+            this.satisfaction[slot] += (ratio - this.satisfaction[slot]) * SATISFACTION_SMOOTHING;
+        }
+        else
+            this.deficits[slot] = 0;
+    }
+
+    /**
+     * Sets the priority and weight of a consumer that does not implement {@link IEnergyPriority}. A configured
+     * consumer keeps its state until {@link #remove} is called.
+     */
+    public void setPriority(EnergyStorage consumer, int priority, int weight)
+    {
+        int slot = slotOf(consumer, false);
+        this.priorities[slot] = priority;
+        this.weights[slot] = Math.max(1, weight);
+        this.pinned[slot] = true;
+    }
+
+    public void remove(EnergyStorage consumer)
+    {
+        int slot = this.slotsByConsumer.getInt(consumer);
+        if(slot >= 0)
+            removeSlot(slot);
+    }
+
+    public void clear()
+    {
+        this.slotsByConsumer.clear();
+        Arrays.fill(this.consumers, 0, this.size, null);
+        this.size = 0;
+    }
+
+    /**
+     * Smoothed share of its demand a consumer received over the recent ticks, 1 when it got everything it asked for.
+     * An unknown consumer counts as fully satisfied.
+     */
+    public double getSatisfaction(EnergyStorage consumer)
+    {
+        int slot = this.slotsByConsumer.getInt(consumer);
+        return slot >= 0 ? this.satisfaction[slot] : 1;
+    }
+
+    /**
+     * Energy the consumer could take on the last call that offered it energy.
+     */
+    public long getLastDemand(EnergyStorage consumer)
+    {
+        int slot = this.slotsByConsumer.getInt(consumer);
+        return slot >= 0 ? this.lastDemand[slot] : 0;
+    }
+
+    /**
+     * Energy the consumer received on the last call that offered it energy.
+     */
+    public long getLastDelivered(EnergyStorage consumer)
+    {
+        int slot = this.slotsByConsumer.getInt(consumer);
+        return slot >= 0 ? this.lastDelivered[slot] : 0;
+    }
+
+    /**
+     * Lowest satisfaction of all known consumers, the one to look at first when a base runs short.
+     */
+    public double getMinSatisfaction()
+    {
+        double min = 1;
+        for(int slot = 0; slot < this.size; slot++)
+            min = Math.min(min, this.satisfaction[slot]);
+        return min;
+    }
+
+    public int getConsumerCount()
+    {
+        return this.size;
+    }
+
+    private int slotOf(EnergyStorage consumer, boolean seen)
+    {
+        int slot = this.slotsByConsumer.getInt(consumer);
+        if(slot < 0)
+        {
+            slot = this.size++;
+            ensureCapacity(this.size);
+            this.slotsByConsumer.put(consumer, slot);
+            this.consumers[slot] = consumer;
+            this.priorities[slot] = 0;
+            this.weights[slot] = 1;
+            this.pinned[slot] = false;
+            this.deficits[slot] = 0;
+            this.turns[slot] = 0;
+            this.lastDemand[slot] = 0;
+            this.lastDelivered[slot] = 0;
+            this.satisfaction[slot] = 1;
+        }
+
+        if(consumer instanceof IEnergyPriority priority)
+        {
+            this.priorities[slot] = priority.getEnergyPriority();
+            this.weights[slot] = Math.max(1, priority.getEnergyWeight());
+        }
+
+        if(seen)
+            this.lastSeen[slot] = this.passes;
+        else if(this.lastSeen[slot] == 0)
+            this.lastSeen[slot] = this.passes;
+
+        return slot;
+    }
+
+    private void purge()
+    {
+        for(int slot = this.size - 1; slot >= 0; slot--)
+            if(!this.pinned[slot] && this.passes - this.lastSeen[slot] > PURGE_INTERVAL)
+                removeSlot(slot);
+    }
+
+    // the last slot is moved into the gap so the arrays stay dense
+    private void removeSlot(int slot)
+    {
+        this.slotsByConsumer.removeInt(this.consumers[slot]);
+
+        int last = --this.size;
+        if(slot != last)
+        {
+            EnergyStorage moved = this.consumers[last];
+            this.consumers[slot] = moved;
+            this.priorities[slot] = this.priorities[last];
+            this.weights[slot] = this.weights[last];
+            this.pinned[slot] = this.pinned[last];
+            this.deficits[slot] = this.deficits[last];
+            this.turns[slot] = this.turns[last];
+            this.lastSeen[slot] = this.lastSeen[last];
+            this.lastDemand[slot] = this.lastDemand[last];
+            this.lastDelivered[slot] = this.lastDelivered[last];
+            this.satisfaction[slot] = this.satisfaction[last];
+            this.slotsByConsumer.put(moved, slot);
+        }
+        this.consumers[last] = null;
+    }
+
+    private void ensureCapacity(int capacity)
+    {
+        if(capacity <= this.consumers.length)
+            return;
+
+        int grown = Math.max(capacity, this.consumers.length * 2);
+        this.consumers = Arrays.copyOf(this.consumers, grown);
+        this.priorities = Arrays.copyOf(this.priorities, grown);
+        this.weights = Arrays.copyOf(this.weights, grown);
+        this.pinned = Arrays.copyOf(this.pinned, grown);
+        this.deficits = Arrays.copyOf(this.deficits, grown);
+        this.turns = Arrays.copyOf(this.turns, grown);
+        this.lastSeen = Arrays.copyOf(this.lastSeen, grown);
+        this.lastDemand = Arrays.copyOf(this.lastDemand, grown);
+        this.lastDelivered = Arrays.copyOf(this.lastDelivered, grown);
+        this.satisfaction = Arrays.copyOf(this.satisfaction, grown);
+    }
+
+    private void ensureScratch(int count)
+    {
+        if(this.slots.length >= count)
+            return;
+
+        int grown = Math.max(count, this.slots.length * 2);
+        this.slots = new int[grown];
+        this.order = new int[grown];
+        this.room = new long[grown];
+        this.allocation = new long[grown];
+    }
+
+    private static long saturatedAdd(long a, long b)
+    {
+        long sum = a + b;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+}
\ No newline at end of file
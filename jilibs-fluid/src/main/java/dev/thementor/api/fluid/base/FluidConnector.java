@@ -18,7 +18,11 @@ package dev.thementor.api.fluid.base;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.BiFunction;
+import java.util.stream.LongStream;
+
+import com.mojang.serialization.Codec;
 
 import net.minecraft.core.Direction;
 import net.minecraft.world.level.block.entity.BlockEntity;
@@ -35,7 +39,6 @@ import dev.thementor.api.shared.enumerations.MappedDirection;
 import dev.thementor.api.shared.interfaces.IStorageConnector;
 import dev.thementor.api.shared.interfaces.IStorageProvider;
 import dev.thementor.api.shared.records.FluidStackPayload;
-import dev.thementor.api.shared.utils.DirectionHelper;
 
 @SuppressWarnings("unused")
 public class FluidConnector<T extends SingleFluidStorage> extends StorageConnector<T>
@@ -113,25 +116,42 @@ public class FluidConnector<T extends SingleFluidStorage> extends StorageConnect
     @Override
     public T getStorageProvider(MappedDirection direction, Direction facing)
     {
-
-        Direction side = DirectionHelper.relativeDirection(MappedDirection.toDirection(direction), facing);
-        if(this.getSidedMap().containsKey(MappedDirection.fromDirection(side)))
-            return getStorage(side);
-        return null;
+        return getRelativeStorage(MappedDirection.toDirection(direction), facing);
     }
 
     @Override
     public T getStorageProvider(Direction direction, Direction facing)
     {
-        Direction side = DirectionHelper.relativeDirection(direction, facing);
-        if(this.getSidedMap().containsKey(MappedDirection.fromDirection(side)))
-            return getStorage(side);
-        return null;
+        return getRelativeStorage(direction, facing);
     }
 
     @Override
     public void saveAdditional(ValueOutput writeView)
     {
+        if(isCompactSave())
+        {
+            // One palette entry per distinct variant, then a palette index and an amount per storage.
+            List<FluidVariant> palette = new ArrayList<>();
+            int[] variants = new int[storages.size()];
+            long[] amounts = new long[storages.size()];
+            for(int i = 0; i < variants.length; i++)
+            {
+                T storage = storages.get(i);
+                int paletteIndex = palette.indexOf(storage.variant);
+                if(paletteIndex < 0)
+                {
+                    paletteIndex = palette.size();
+                    palette.add(storage.variant);
+                }
+                variants[i] = paletteIndex;
+                amounts[i] = storage.amount;
+            }
+            writeView.store("fluid" + BEKeys.HAS_FLUID + BEKeys.PALETTE, FluidVariant.CODEC.listOf(), palette);
+            writeView.putIntArray("fluid" + BEKeys.HAS_FLUID + BEKeys.VARIANTS, variants);
+            writeView.store("fluid" + BEKeys.HAS_FLUID + BEKeys.PACKED, Codec.LONG_STREAM, LongStream.of(amounts));
+            return;
+        }
+
         ValueOutput.ValueOutputList list = writeView.childrenList("fluid" + BEKeys.HAS_FLUID);
         for (T storage : storages)
         {
@@ -146,6 +166,22 @@ public class FluidConnector<T extends SingleFluidStorage> extends StorageConnect
     @Override
     public void loadAdditional(ValueInput readView)
     {
+        Optional<LongStream> packed = readView.read("fluid" + BEKeys.HAS_FLUID + BEKeys.PACKED, Codec.LONG_STREAM);
+        if(packed.isPresent())
+        {
+            long[] amounts = packed.get().toArray();
+            int[] variants = readView.getIntArray("fluid" + BEKeys.HAS_FLUID + BEKeys.VARIANTS).orElse(new int[0]);
+            List<FluidVariant> palette = readView.read("fluid" + BEKeys.HAS_FLUID + BEKeys.PALETTE, FluidVariant.CODEC.listOf()).orElse(List.of());
+            for(int i = 0; i < amounts.length && i < storages.size(); i++)
+            {
+                T storage = storages.get(i);
+                int paletteIndex = i < variants.length ? variants[i] : -1;
+                storage.variant = paletteIndex >= 0 && paletteIndex < palette.size() ? palette.get(paletteIndex) : FluidVariant.blank();
+                storage.amount = storage.variant.isBlank() ? 0L : amounts[i];
+            }
+            return;
+        }
+
         int index = 0;
         for (ValueInput view : readView.childrenListOrEmpty("fluid" + BEKeys.HAS_FLUID))
         {
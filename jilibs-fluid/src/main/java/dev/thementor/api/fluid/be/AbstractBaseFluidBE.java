@@ -30,7 +30,6 @@ import net.minecraft.core.component.DataComponentType;
 import net.minecraft.world.SimpleContainer;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.level.block.state.properties.BlockStateProperties;
 import net.minecraft.world.level.storage.ValueInput;
 import net.minecraft.world.level.storage.ValueOutput;
 
@@ -46,7 +45,6 @@ import dev.thementor.api.inventory.be.AbstractBaseInventoryBE;
 import dev.thementor.api.shared.enumerations.MappedDirection;
 import dev.thementor.api.shared.records.FluidStackPayload;
 import dev.thementor.api.shared.records.lists.FluidStackList;
-import dev.thementor.api.shared.utils.DirectionHelper;
 
 @SuppressWarnings("unused")
 public abstract class AbstractBaseFluidBE<T extends AbstractBaseFluidBE<T, B, C>, B extends SimpleContainer, C extends SingleFluidStorage>
@@ -59,6 +57,7 @@ public abstract class AbstractBaseFluidBE<T extends AbstractBaseFluidBE<T, B, C>
     {
         super(type, pos, state);
         fluidConnector = new FluidConnector<>();
+        registerSyncChannel("fluid", fluidConnector);
         this.properties.tick();
     }
 
@@ -91,23 +90,17 @@ public abstract class AbstractBaseFluidBE<T extends AbstractBaseFluidBE<T, B, C>
     @Override
     public @Nullable C getFluidStorageProvider(Direction direction, Direction facing)
     {
-        Direction side = DirectionHelper.relativeDirection(direction, facing);
-        return this.fluidConnector.getSidedMap().containsKey(MappedDirection.fromDirection(side))
-               ? this.fluidConnector.getStorage(side)
-               : this.fluidConnector.getSidedMap().containsKey(MappedDirection.NONE)
-                 ? this.fluidConnector.getStorage(MappedDirection.NONE)
-                 : null;
+        return this.fluidConnector.getFacingStorage(direction, facing);
     }
 
     public Storage<FluidVariant> getFluidStorage(Direction direction)
     {
         if(level == null)
             return null;
-        return this.level.getBlockState(this.worldPosition).getProperties().contains(BlockStateProperties.FACING)
-               ? this.getFluidStorageProvider(direction, this.level.getBlockState(this.worldPosition).getValue(BlockStateProperties.FACING))
-               : this.level.getBlockState(this.worldPosition).getProperties().contains(BlockStateProperties.HORIZONTAL_FACING)
-                 ? this.getFluidStorageProvider(direction, this.level.getBlockState(this.worldPosition).getValue(BlockStateProperties.HORIZONTAL_FACING))
-                 : this.fluidConnector.getStorage(direction);
+        Direction facing = getFacing();
+        return facing != null
+               ? this.getFluidStorageProvider(direction, facing)
+               : this.fluidConnector.getStorage(direction);
     }
 
     public Storage<FluidVariant> getFluidStorage(MappedDirection direction)
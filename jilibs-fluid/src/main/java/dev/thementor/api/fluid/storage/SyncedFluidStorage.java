@@ -22,19 +22,26 @@ import net.minecraft.world.level.block.entity.BlockEntity;
 
 import net.fabricmc.fabric.api.transfer.v1.fluid.FluidVariant;
 import net.fabricmc.fabric.api.transfer.v1.fluid.base.SingleFluidStorage;
+import net.fabricmc.fabric.api.transfer.v1.transaction.TransactionContext;
 
 import dev.thementor.api.base.blockentity.AbstractBaseBE;
+import dev.thementor.api.shared.data.FlowMeter;
+import dev.thementor.api.shared.enumerations.FlowWindow;
+import dev.thementor.api.shared.interfaces.IDeltaSyncable;
+import dev.thementor.api.shared.interfaces.IFlowMetered;
 import dev.thementor.api.shared.interfaces.ISyncable;
 import dev.thementor.api.shared.interfaces.IUpdatable;
 import dev.thementor.api.shared.records.FluidStackPayload;
 
 @SuppressWarnings("unused")
-public class SyncedFluidStorage extends SingleFluidStorage implements ISyncable
+public class SyncedFluidStorage extends SingleFluidStorage implements ISyncable, IDeltaSyncable, IFlowMetered
 {
     private final BlockEntity blockEntity;
     private final long capacity;
+    private final FlowMeter flowMeter = new FlowMeter();
 
     private boolean isDirty = false;
+    private boolean deltaDirty = true;
 
     public SyncedFluidStorage(BlockEntity blockEntity, long capacity)
     {
@@ -50,7 +57,7 @@ public class SyncedFluidStorage extends SingleFluidStorage implements ISyncable
         {
             this.isDirty = false;
             if(this.blockEntity instanceof AbstractBaseBE<?> be)
-                be.update();
+                be.updateAtTickEnd();
             else
                 this.blockEntity.setChanged();
         }
@@ -62,13 +69,46 @@ public class SyncedFluidStorage extends SingleFluidStorage implements ISyncable
         return this.capacity;
     }
 
+    @Override
+    public long insert(FluidVariant insertedVariant, long maxAmount, TransactionContext transaction)
+    {
+        long inserted = super.insert(insertedVariant, maxAmount, transaction);
+        if(inserted > 0)
+            this.flowMeter.onInserted(transaction.nestingDepth(), inserted);
+        return inserted;
+    }
+
+    @Override
+    public long extract(FluidVariant extractedVariant, long maxAmount, TransactionContext transaction)
+    {
+        long extracted = super.extract(extractedVariant, maxAmount, transaction);
+        if(extracted > 0)
+            this.flowMeter.onExtracted(transaction.nestingDepth(), extracted);
+        return extracted;
+    }
+
+    @Override
+    public void onClose(TransactionContext transaction, TransactionContext.Result result)
+    {
+        this.flowMeter.onClose(transaction.nestingDepth(), result.wasCommitted(), gameTime());
+        super.onClose(transaction, result);
+    }
+
     @Override
     protected void onFinalCommit()
     {
         super.onFinalCommit();
         this.isDirty = true;
+        this.deltaDirty = true;
 
-        if(blockEntity instanceof IUpdatable updatable)
+        // a commit only marks the owner, it is flushed once at the end of its tick however often it was committed
+        if(blockEntity instanceof AbstractBaseBE<?> be)
+        {
+            be.wake();
+            be.markStorageChanged(this);
+            be.updateAtTickEnd();
+        }
+        else if(blockEntity instanceof IUpdatable updatable)
             updatable.update();
         else
             blockEntity.setChanged();
@@ -99,6 +139,19 @@ public class SyncedFluidStorage extends SingleFluidStorage implements ISyncable
     public void markDirty()
     {
         this.isDirty = true;
+        this.deltaDirty = true;
+    }
+
+    @Override
+    public boolean isDeltaDirty()
+    {
+        return this.deltaDirty;
+    }
+
+    @Override
+    public void clearDeltaDirty()
+    {
+        this.deltaDirty = false;
     }
 
     public BlockEntity getBlockEntity()
@@ -113,4 +166,27 @@ public class SyncedFluidStorage extends SingleFluidStorage implements ISyncable
             return be;
         return  null;
     }
+
+    @Override
+    public FlowMeter getFlowMeter()
+    {
+        return this.flowMeter;
+    }
+
+    @Override
+    public double getInsertRate(FlowWindow window)
+    {
+        return this.flowMeter.getInsertRate(gameTime(), window);
+    }
+
+    @Override
+    public double getExtractRate(FlowWindow window)
+    {
+        return this.flowMeter.getExtractRate(gameTime(), window);
+    }
+
+    private long gameTime()
+    {
+        return this.blockEntity != null && this.blockEntity.getLevel() != null ? this.blockEntity.getLevel().getGameTime() : 0;
+    }
 }
\ No newline at end of file
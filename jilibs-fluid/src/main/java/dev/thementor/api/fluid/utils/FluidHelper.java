@@ -41,6 +41,7 @@ import net.fabricmc.fabric.api.transfer.v1.storage.base.SingleVariantStorage;
 import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
 
 import dev.thementor.api.base.blockentity.AbstractBaseBE;
+import dev.thementor.api.base.lookup.NeighborApiCache;
 import dev.thementor.api.shared.enumerations.MappedDirection;
 import dev.thementor.api.shared.records.FluidStackPayload;
 import org.jetbrains.annotations.NotNull;
@@ -385,11 +386,16 @@ public class FluidHelper
 
     public static void spread(BlockEntity blockEntity, Storage<FluidVariant> storage, boolean equalAmount,Set<BlockPos> blacklist)
     {
-        BlockPos adjacentPos;
+        Level level = blockEntity.getLevel();
+        if(level == null)
+            return;
 
-        List<Storage<FluidVariant>> adjacentStorages = getAllStorages(blockEntity.getLevel(), blockEntity.getBlockPos(), blacklist);
+        // library block entities keep their neighbors cached, anything else looks them up every call
+        NeighborApiCache<Storage<FluidVariant>> neighbors = blockEntity instanceof AbstractBaseBE<?> be ? be.getNeighborCache(FluidStorage.SIDED) : null;
+        List<Storage<FluidVariant>> adjacentStorages = neighbors == null ? getAllStorages(level, blockEntity.getBlockPos(), blacklist) : null;
+        int count = neighbors != null ? neighbors.refresh(level, blockEntity.getBlockPos(), blacklist) : adjacentStorages.size();
 
-        if(adjacentStorages.isEmpty())
+        if(count == 0)
             return;
 
         for (StorageView<FluidVariant> storageView : storage)
@@ -399,10 +405,11 @@ public class FluidHelper
             long totalInserted = 0;
             long totalExtractable = simulateExtraction(storage, variant);
 
-            long finalAmount = equalAmount ? totalExtractable / adjacentStorages.size() : totalExtractable;
+            long finalAmount = equalAmount ? totalExtractable / count : totalExtractable;
 
-            for(Storage<FluidVariant> adjacentStorage : adjacentStorages)
+            for(int i = 0; i < count; i++)
             {
+                Storage<FluidVariant> adjacentStorage = neighbors != null ? neighbors.get(i) : adjacentStorages.get(i);
                 var insertable = simulateInsertion(adjacentStorage, variant);
                 if(insertable < finalAmount)
                     continue;
@@ -430,7 +437,7 @@ public class FluidHelper
             if(currentAmount != storageView.getAmount())
             {
                 if (blockEntity instanceof AbstractBaseBE<?> be)
-                    be.update();
+                    be.updateAtTickEnd();
                 else
                     blockEntity.setChanged();
             }
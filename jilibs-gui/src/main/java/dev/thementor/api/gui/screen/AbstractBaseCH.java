@@ -16,11 +16,15 @@
 
 package dev.thementor.api.gui.screen;
 
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 import org.jetbrains.annotations.NotNull;
 
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
@@ -34,6 +38,8 @@ import net.minecraft.world.level.block.entity.BlockEntity;
 
 import dev.thementor.api.shared.annotations.*;
 import dev.thementor.api.shared.data.CachedBlockEntity;
+import dev.thementor.api.shared.interfaces.IFieldChangeListener;
+import dev.thementor.api.shared.interfaces.IFieldChangeSource;
 import dev.thementor.api.shared.records.BlockPosPayload;
 
 @SuppressWarnings("unused")
@@ -53,6 +59,10 @@ public abstract class AbstractBaseCH<T extends BlockEntity> extends AbstractCont
     protected final Inventory playerInventory;
     protected final Player player;
 
+    private final Set<String> watchedFields = new LinkedHashSet<>();
+    private final Set<String> changedFields = new LinkedHashSet<>();
+    private final IFieldChangeListener fieldListener = this::onFieldChanged;
+
     public AbstractBaseCH(MenuType<?> type, int syncID, Inventory playerInventory, BlockPosPayload payload, Class<T> blockEntityClass)
     {
         this(type, syncID, playerInventory, payload, new CachedBlockEntity<>(blockEntityClass));
@@ -128,6 +138,71 @@ public abstract class AbstractBaseCH<T extends BlockEntity> extends AbstractCont
         return validBlock;
     }
 
+    /**
+     * Pushes the named fields of the block entity to the player whenever they change, instead of polling them every
+     * tick through a ContainerData. The current values are sent once on the next broadcast. Does nothing on the
+     * client or when the block entity does not publish field changes.
+     */
+    protected void watchFields(String... names)
+    {
+        if(this.world.isClientSide() || !(this.blockEntity instanceof IFieldChangeSource source))
+            return;
+
+        if(this.watchedFields.isEmpty())
+            source.subscribeFieldChanges(this.fieldListener);
+
+        for(String name : names)
+        {
+            this.watchedFields.add(name);
+            this.changedFields.add(name);
+        }
+    }
+
+    private void onFieldChanged(BlockEntity blockEntity, String name)
+    {
+        if(this.watchedFields.contains(name))
+            this.changedFields.add(name);
+    }
+
+    @Override
+    public void broadcastChanges()
+    {
+        super.broadcastChanges();
+
+        if(this.changedFields.isEmpty())
+            return;
+
+        if(!(this.player instanceof ServerPlayer serverPlayer) || !(this.blockEntity instanceof IFieldChangeSource source))
+        {
+            this.changedFields.clear();
+            return;
+        }
+
+        // without field sync the full update packet carries the values, if neither can be sent the fields are kept
+        // for the next broadcast instead of being dropped
+        if(!source.sendFieldValues(serverPlayer, this.changedFields))
+        {
+            Packet<?> packet = this.blockEntity.getUpdatePacket();
+            if(packet == null)
+                return;
+            serverPlayer.connection.send(packet);
+        }
+
+        this.changedFields.clear();
+    }
+
+    @Override
+    public void removed(@NotNull Player player)
+    {
+        super.removed(player);
+
+        if(!this.watchedFields.isEmpty() && this.blockEntity instanceof IFieldChangeSource source)
+            source.unsubscribeFieldChanges(this.fieldListener);
+
+        this.watchedFields.clear();
+        this.changedFields.clear();
+    }
+
     public T getBlockEntity()
     {
         return this.blockEntity;
@@ -18,6 +18,7 @@ package dev.thementor.api.inventory.base;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -31,6 +32,7 @@ import net.minecraft.core.Direction;
 import net.minecraft.world.Container;
 import net.minecraft.world.ContainerHelper;
 import net.minecraft.world.Containers;
+import net.minecraft.world.ItemStackWithSlot;
 import net.minecraft.world.SimpleContainer;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
@@ -52,7 +54,6 @@ import dev.thementor.api.shared.constants.BEKeys;
 import dev.thementor.api.shared.enumerations.MappedDirection;
 import dev.thementor.api.shared.interfaces.IStorageConnector;
 import dev.thementor.api.shared.interfaces.IStorageProvider;
-import dev.thementor.api.shared.utils.DirectionHelper;
 
 @SuppressWarnings("unused")
 @Developer("TurtyWurty")
@@ -215,6 +216,12 @@ public class InventoryConnector<T extends SimpleContainer> extends StorageConnec
         return inventories;
     }
 
+    @Override
+    protected List<?> getDeltaSources()
+    {
+        return this.inventories;
+    }
+
     public CombinedStorage<ItemVariant, @NotNull InventoryStorage> getCombinedStorage()
     {
         return combinedStorage;
@@ -319,25 +326,37 @@ public class InventoryConnector<T extends SimpleContainer> extends StorageConnec
     @Override
     public InventoryStorage getStorageProvider(MappedDirection direction, Direction facing)
     {
-
-        Direction side = DirectionHelper.relativeDirection(MappedDirection.toDirection(direction), facing);
-        if(this.getSidedMap().containsKey(MappedDirection.fromDirection(side)))
-            return getStorage(side);
-        return null;
+        return getRelativeStorage(MappedDirection.toDirection(direction), facing);
     }
 
     @Override
     public InventoryStorage getStorageProvider(Direction direction, Direction facing)
     {
-        Direction side = DirectionHelper.relativeDirection(direction, facing);
-        if(this.getSidedMap().containsKey(MappedDirection.fromDirection(side)))
-            return getStorage(side);
-        return null;
+        return getRelativeStorage(direction, facing);
     }
 
     @Override
     public void saveAdditional(ValueOutput writeView)
     {
+        // Slots are numbered across all inventories, and a saved slot only has room for 256 of them.
+        if(isCompactSave() && getTotalSlots() <= 256)
+        {
+            ValueOutput.TypedOutputList<ItemStackWithSlot> list = writeView.list("inventory" + BEKeys.HAS_INVENTORY + BEKeys.PACKED, ItemStackWithSlot.CODEC);
+            int offset = 0;
+            for (T inventory : inventories)
+            {
+                List<ItemStack> items = inventory.getItems();
+                for(int slot = 0; slot < items.size(); slot++)
+                {
+                    ItemStack stack = items.get(slot);
+                    if(!stack.isEmpty())
+                        list.add(new ItemStackWithSlot(offset + slot, stack));
+                }
+                offset += items.size();
+            }
+            return;
+        }
+
         ValueOutput.ValueOutputList listView = writeView.childrenList("inventory" + BEKeys.HAS_INVENTORY);
         for (T inventory : inventories)
         {
@@ -349,6 +368,30 @@ public class InventoryConnector<T extends SimpleContainer> extends StorageConnec
     @Override
     public void loadAdditional(ValueInput readView)
     {
+        Optional<ValueInput.TypedInputList<ItemStackWithSlot>> packed = readView.list("inventory" + BEKeys.HAS_INVENTORY + BEKeys.PACKED, ItemStackWithSlot.CODEC);
+        if(packed.isPresent())
+        {
+            // Only non-empty stacks are written, so everything else has to be cleared first.
+            for (T inventory : inventories)
+                inventory.getItems().replaceAll(stack -> ItemStack.EMPTY);
+
+            for (ItemStackWithSlot entry : packed.get())
+            {
+                int slot = entry.slot();
+                for (T inventory : inventories)
+                {
+                    List<ItemStack> items = inventory.getItems();
+                    if(slot < items.size())
+                    {
+                        items.set(slot, entry.stack());
+                        break;
+                    }
+                    slot -= items.size();
+                }
+            }
+            return;
+        }
+
         int index = 0;
         for (ValueInput view : readView.childrenListOrEmpty("inventory" + BEKeys.HAS_INVENTORY))
         {
@@ -358,4 +401,12 @@ public class InventoryConnector<T extends SimpleContainer> extends StorageConnec
             index++;
         }
     }
+
+    private int getTotalSlots()
+    {
+        int slots = 0;
+        for (T inventory : inventories)
+            slots += inventory.getItems().size();
+        return slots;
+    }
 }
\ No newline at end of file
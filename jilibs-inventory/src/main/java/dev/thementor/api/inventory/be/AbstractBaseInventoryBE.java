@@ -26,7 +26,6 @@ import net.minecraft.world.SimpleContainer;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.level.block.state.properties.BlockStateProperties;
 import net.minecraft.world.level.storage.ValueInput;
 import net.minecraft.world.level.storage.ValueOutput;
 
@@ -41,7 +40,6 @@ import dev.thementor.api.shared.enumerations.MappedDirection;
 import dev.thementor.api.shared.interfaces.IStorageConnector;
 import dev.thementor.api.shared.interfaces.IStorageProvider;
 import dev.thementor.api.shared.records.BlockPosPayload;
-import dev.thementor.api.shared.utils.DirectionHelper;
 /**
  * Abstract base class for block entities that support inventory storage.
  *
@@ -73,6 +71,7 @@ public abstract class AbstractBaseInventoryBE<T extends AbstractBaseInventoryBE<
     {
         super(type, pos, state);
         inventoryConnector = new InventoryConnector<>();
+        registerSyncChannel("inventory", inventoryConnector);
         this.properties.update()
                         .sync()
                         .waitEndTick();
@@ -124,12 +123,7 @@ public abstract class AbstractBaseInventoryBE<T extends AbstractBaseInventoryBE<
     @Override
     public @Nullable InventoryStorage getStorageProvider(Direction direction, Direction facing)
     {
-        Direction side = DirectionHelper.relativeDirection(direction, facing);
-        return this.inventoryConnector.getSidedMap().containsKey(MappedDirection.fromDirection(side))
-                ? this.inventoryConnector.getStorage(side)
-                : this.inventoryConnector.getSidedMap().containsKey(MappedDirection.NONE)
-                    ? this.inventoryConnector.getStorage(MappedDirection.NONE)
-                    : null;
+        return this.inventoryConnector.getFacingStorage(direction, facing);
     }
 
     /**
@@ -198,11 +192,10 @@ public abstract class AbstractBaseInventoryBE<T extends AbstractBaseInventoryBE<
     {
         if(level == null)
             return null;
-        return this.level.getBlockState(this.worldPosition).getProperties().contains(BlockStateProperties.FACING)
-                ? this.getStorageProvider(direction, this.level.getBlockState(this.worldPosition).getValue(BlockStateProperties.FACING))
-                : this.level.getBlockState(this.worldPosition).getProperties().contains(BlockStateProperties.HORIZONTAL_FACING)
-                    ? this.getStorageProvider(direction, this.level.getBlockState(this.worldPosition).getValue(BlockStateProperties.HORIZONTAL_FACING))
-                    : this.inventoryConnector.getStorage(direction);
+        Direction facing = getFacing();
+        return facing != null
+               ? this.getStorageProvider(direction, facing)
+               : this.inventoryConnector.getStorage(direction);
     }
 
     /**
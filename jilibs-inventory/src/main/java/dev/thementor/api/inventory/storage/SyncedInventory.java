@@ -23,6 +23,7 @@ import net.minecraft.world.level.block.entity.BlockEntity;
 
 import dev.thementor.api.base.blockentity.AbstractBaseBE;
 import dev.thementor.api.shared.annotations.*;
+import dev.thementor.api.shared.interfaces.IDeltaSyncable;
 import dev.thementor.api.shared.interfaces.ISyncable;
 
 @SuppressWarnings("unused")
@@ -33,10 +34,11 @@ import dev.thementor.api.shared.interfaces.ISyncable;
 @Discord("https://discord.turtywurty.dev/")
 @Youtube("https://www.youtube.com/@TurtyWurty")
 
-public class SyncedInventory extends RecipeInventory implements ISyncable
+public class SyncedInventory extends RecipeInventory implements ISyncable, IDeltaSyncable
 {
     private final BlockEntity blockEntity;
     private boolean isDirty = false;
+    private boolean deltaDirty = true;
 
     public SyncedInventory(BlockEntity blockEntity, int size)
     {
@@ -69,6 +71,25 @@ public class SyncedInventory extends RecipeInventory implements ISyncable
     {
         super.setChanged();
         this.isDirty = true;
+        this.deltaDirty = true;
+
+        if(this.blockEntity instanceof AbstractBaseBE<?> be)
+        {
+            be.wake();
+            be.markStorageChanged(this);
+        }
+    }
+
+    @Override
+    public boolean isDeltaDirty()
+    {
+        return this.deltaDirty;
+    }
+
+    @Override
+    public void clearDeltaDirty()
+    {
+        this.deltaDirty = false;
     }
 
     public BlockEntity getBlockEntity()
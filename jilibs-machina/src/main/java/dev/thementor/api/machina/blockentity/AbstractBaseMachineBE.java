@@ -32,7 +32,6 @@ import net.minecraft.core.component.DataComponentType;
 import net.minecraft.world.SimpleContainer;
 import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.level.block.state.properties.BlockStateProperties;
 import net.minecraft.world.level.storage.ValueInput;
 import net.minecraft.world.level.storage.ValueOutput;
 
@@ -46,7 +45,6 @@ import dev.thementor.api.fluid.be.AbstractBaseFluidBE;
 import dev.thementor.api.shared.enumerations.MappedDirection;
 import dev.thementor.api.shared.records.LongPayload;
 import dev.thementor.api.shared.records.lists.LongList;
-import dev.thementor.api.shared.utils.DirectionHelper;
 
 @SuppressWarnings("unused")
 public abstract class AbstractBaseMachineBE<T extends AbstractBaseMachineBE<T, B, C, D>,
@@ -62,6 +60,7 @@ public abstract class AbstractBaseMachineBE<T extends AbstractBaseMachineBE<T, B
     {
         super(type, pos, state);
         energyConnector = new EnergyConnector<>();
+        registerSyncChannel("energy", energyConnector);
     }
 
     @Override
@@ -94,12 +93,7 @@ public abstract class AbstractBaseMachineBE<T extends AbstractBaseMachineBE<T, B
     @Override
     public @Nullable D getEnergyStorageProvider(Direction direction, Direction facing)
     {
-        Direction side = DirectionHelper.relativeDirection(direction, facing);
-        return this.energyConnector.getSidedMap().containsKey(MappedDirection.fromDirection(side))
-               ? (D) this.energyConnector.getStorage(side)
-               : this.energyConnector.getSidedMap().containsKey(MappedDirection.NONE)
-                 ? (D) this.energyConnector.getStorage(MappedDirection.NONE)
-                 : null;
+        return (D) this.energyConnector.getFacingStorage(direction, facing);
     }
 
     @SuppressWarnings("unchecked")
@@ -107,11 +101,10 @@ public abstract class AbstractBaseMachineBE<T extends AbstractBaseMachineBE<T, B
     {
         if(level == null)
             return null;
-        return this.level.getBlockState(this.worldPosition).getProperties().contains(BlockStateProperties.FACING)
-               ? this.getEnergyStorageProvider(direction, this.level.getBlockState(this.worldPosition).getValue(BlockStateProperties.FACING))
-               : this.level.getBlockState(this.worldPosition).getProperties().contains(BlockStateProperties.HORIZONTAL_FACING)
-                 ? this.getEnergyStorageProvider(direction, this.level.getBlockState(this.worldPosition).getValue(BlockStateProperties.HORIZONTAL_FACING))
-                 : (D) this.energyConnector.getStorage(direction);
+        Direction facing = getFacing();
+        return facing != null
+               ? this.getEnergyStorageProvider(direction, facing)
+               : (D) this.energyConnector.getStorage(direction);
     }
 
     public D getEnergyStorage(MappedDirection direction)
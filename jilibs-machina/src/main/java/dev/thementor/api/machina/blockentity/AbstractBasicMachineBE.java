@@ -18,13 +18,15 @@ package dev.thementor.api.machina.blockentity;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import team.reborn.energy.api.base.SimpleEnergyStorage;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.Containers;
-import net.minecraft.world.inventory.ContainerData;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.BlockEntityType;
@@ -40,17 +42,16 @@ import dev.thementor.api.energy.storage.SyncedEnergyStorage;
 import dev.thementor.api.fluid.storage.SyncedFluidStorage;
 import dev.thementor.api.inventory.storage.OutputInventory;
 import dev.thementor.api.inventory.storage.SyncedInventory;
+import dev.thementor.api.shared.enumerations.FlowWindow;
 import dev.thementor.api.shared.enumerations.MappedDirection;
-import dev.thementor.api.shared.interfaces.IContainerDataProvider;
+import dev.thementor.api.shared.interfaces.IFlowMetered;
 
 @SuppressWarnings("unused")
 public abstract class AbstractBasicMachineBE<T extends AbstractBasicMachineBE<T>>
         extends AbstractBaseMachineBE<T, @NotNull SyncedInventory, @NotNull SyncedFluidStorage, SimpleEnergyStorage>
-        implements IContainerDataProvider
 {
     protected SyncedFluidStorage fluidStorage;
     protected SyncedEnergyStorage energyStorage;
-    protected final ContainerData containerData;
 
     protected int energyUpgradeCount;
     protected int fluidUpgradeCount;
@@ -59,7 +60,6 @@ public abstract class AbstractBasicMachineBE<T extends AbstractBasicMachineBE<T>
     protected int progress;
     protected int maxProgress;
 
-    public static final int DELEGATE_SIZE = 2;
     public static final int OUTPUT_INVENTORY_INDEX = 0;
     public static final int INPUT_INVENTORY_INDEX = 1;
     public static final int UPGRADE_INPUT_INVENTORY_INDEX = 2;
@@ -83,9 +83,16 @@ public abstract class AbstractBasicMachineBE<T extends AbstractBasicMachineBE<T>
     public static final String PROP_UPGRADE_FLUID_ID = "fluid_upgrade";
     public static final String PROP_UPGRADE_ENERGY_ID = "energy_upgrade";
     public static final String PROP_UPGRADE_SPEED_ID = "speed_upgrade";
+    public static final String PROP_ENERGY_FLOW_ID = "energy_flow";
+    public static final String PROP_FLUID_FLOW_ID = "fluid_flow";
+
+    private static final int FLOW_PUSH_INTERVAL = 20;
 
     private final String modID;
 
+    private long lastFlowPush;
+    private boolean wasFlowing;
+
     public AbstractBasicMachineBE(String modID, BlockEntityType<@NotNull T> type, BlockPos pos, BlockState state)
     {
         super(type, pos, state);
@@ -113,45 +120,23 @@ public abstract class AbstractBasicMachineBE<T extends AbstractBasicMachineBE<T>
             energyStorage = createEnergyStorage();
             this.energyConnector.addStorage(energyStorage, energyIODirection());
         }
-
-        containerData = createContainerData();
     }
 
     //region overrides
-    @Override
-    public ContainerData getContainerData()
-    {
-        return containerData;
-    }
-
-    @Override
-    public int getContainerDataSize()
-    {
-        return DELEGATE_SIZE;
-    }
-
     @Override
     protected void saveAdditional(@NotNull ValueOutput view)
     {
         super.saveAdditional(view);
-        view.putInt(modID + ".energy.upgrade.count", this.energyUpgradeCount);
-        view.putInt(modID + ".fluid.upgrade.count", this.fluidUpgradeCount);
-        view.putInt(modID + ".speed.upgrade.count", this.speedUpgradeCount);
-
-        view.putInt(modID + ".machine.progress", this.progress);
-        view.putInt(modID + ".machine.progress.max", this.maxProgress);
+        ensureFieldsRegistered();
+        this.properties.fields().schema(getType()).save(this.properties.fields(), this.properties.blockEntity(), view);
     }
 
     @Override
     protected void loadAdditional(@NotNull ValueInput view)
     {
         super.loadAdditional(view);
-        this.energyUpgradeCount = view.getIntOr(modID + ".energy.upgrade.count", 0);
-        this.fluidUpgradeCount = view.getIntOr(modID + ".fluid.upgrade.count", 0);
-        this.speedUpgradeCount = view.getIntOr(modID + ".speed.upgrade.count", 0);
-
-        this.progress = view.getIntOr(modID + ".machine.progress", 0);
-        this.maxProgress = view.getIntOr(modID + ".machine.progress.max", 0);
+        ensureFieldsRegistered();
+        this.properties.fields().schema(getType()).load(this.properties.fields(), this.properties.blockEntity(), view);
     }
 
     @Override
@@ -159,50 +144,139 @@ public abstract class AbstractBasicMachineBE<T extends AbstractBasicMachineBE<T>
     {
         super.registerDefaultFields();
 
-        this.properties.fields().addField(PROP_ENERGY_AMOUNT_ID,
-                                          this.getEnergyAmount(),
-                                          AbstractBasicMachineBE::getEnergyAmount,
-                                          AbstractBasicMachineBE::setEnergyAmount);
+        this.properties.fields().addLongField(PROP_ENERGY_AMOUNT_ID,
+                                              this.getEnergyAmount(),
+                                              AbstractBasicMachineBE::getEnergyAmount,
+                                              AbstractBasicMachineBE::setEnergyAmount);
 
-        this.properties.fields().addField(PROP_ENERGY_CAPACITY_ID,
-                                          this.getEnergyCapacity(),
-                                          AbstractBasicMachineBE::getEnergyCapacity,
-                                          null);
+        this.properties.fields().addLongField(PROP_ENERGY_CAPACITY_ID,
+                                              this.getEnergyCapacity(),
+                                              AbstractBasicMachineBE::getEnergyCapacity,
+                                              null);
 
-        this.properties.fields().addField(PROP_FLUID_AMOUNT_ID,
-                                          this.getFluidAmount(),
+        this.properties.fields().addLongField(PROP_FLUID_AMOUNT_ID,
+                                              this.getFluidAmount(),
                                               AbstractBasicMachineBE::getFluidAmount,
                                               AbstractBasicMachineBE::setFluidAmount);
 
-        this.properties.fields().addField(PROP_FLUID_CAPACITY_ID,
-                                          this.getFluidCapacity(),
-                                          AbstractBasicMachineBE::getFluidCapacity,
-                                          null);
+        this.properties.fields().addLongField(PROP_FLUID_CAPACITY_ID,
+                                              this.getFluidCapacity(),
+                                              AbstractBasicMachineBE::getFluidCapacity,
+                                              null);
+
+        this.properties.fields().addIntField(PROP_PROGRESS_ID,
+                                             this.progress,
+                                             blockEntity -> blockEntity.progress,
+                                             (blockEntity, value) -> blockEntity.progress = value);
+
+        this.properties.fields().addIntField(PROP_PROGRESS_MAX_ID,
+                                             this.maxProgress,
+                                             blockEntity -> blockEntity.maxProgress,
+                                             (blockEntity, value) -> blockEntity.maxProgress = value);
+
+        this.properties.fields().addIntField(PROP_UPGRADE_FLUID_ID,
+                                             this.fluidUpgradeCount,
+                                             blockEntity -> blockEntity.fluidUpgradeCount,
+                                             (blockEntity, value) -> blockEntity.fluidUpgradeCount = value);
+
+        this.properties.fields().addIntField(PROP_UPGRADE_ENERGY_ID,
+                                             this.energyUpgradeCount,
+                                             blockEntity -> blockEntity.energyUpgradeCount,
+                                             (blockEntity, value) -> blockEntity.energyUpgradeCount = value);
+
+        this.properties.fields().addIntField(PROP_UPGRADE_SPEED_ID,
+                                             this.speedUpgradeCount,
+                                             blockEntity -> blockEntity.speedUpgradeCount,
+                                             (blockEntity, value) -> blockEntity.speedUpgradeCount = value);
+
+        // commits of the storages move the amount fields, so conditions depending on them see the change
+        if(this.energyStorage != null)
+            this.properties.fields().bindStorage(this.energyStorage, PROP_ENERGY_AMOUNT_ID);
+        if(this.fluidStorage != null)
+            this.properties.fields().bindStorage(this.fluidStorage, PROP_FLUID_AMOUNT_ID);
+
+        // same keys as the hand written save, so existing worlds keep loading
+        this.properties.fields().persistField(PROP_UPGRADE_ENERGY_ID, modID + ".energy.upgrade.count")
+                                .persistField(PROP_UPGRADE_FLUID_ID, modID + ".fluid.upgrade.count")
+                                .persistField(PROP_UPGRADE_SPEED_ID, modID + ".speed.upgrade.count")
+                                .persistField(PROP_PROGRESS_ID, modID + ".machine.progress")
+                                .persistField(PROP_PROGRESS_MAX_ID, modID + ".machine.progress.max");
+
+        this.properties.fields().syncField(PROP_PROGRESS_ID)
+                                .syncField(PROP_PROGRESS_MAX_ID)
+                                .syncField(PROP_UPGRADE_FLUID_ID)
+                                .syncField(PROP_UPGRADE_ENERGY_ID)
+                                .syncField(PROP_UPGRADE_SPEED_ID);
+
+        // the meters only measure on the server, the client storages report the synced rates
+        registerFlowFields(PROP_ENERGY_FLOW_ID, AbstractBasicMachineBE::getEnergyStorage);
+        registerFlowFields(PROP_FLUID_FLOW_ID, AbstractBasicMachineBE::getFluidStorage);
+    }
+
+    private void registerFlowFields(String prefix, Function<T, @Nullable IFlowMetered> storage)
+    {
+        for(FlowWindow window : FlowWindow.values())
+        {
+            String suffix = "_" + window.name().toLowerCase(Locale.ROOT);
+
+            this.properties.fields().addDoubleField(prefix + "_insert" + suffix, 0,
+                                                    blockEntity ->
+                                                    {
+                                                        IFlowMetered metered = storage.apply(blockEntity);
+                                                        return metered != null ? metered.getInsertRate(window) : 0;
+                                                    },
+                                                    (blockEntity, value) ->
+                                                    {
+                                                        IFlowMetered metered = storage.apply(blockEntity);
+                                                        if(metered != null)
+                                                            metered.getFlowMeter().setSyncedInsertRate(window, value);
+                                                    });
+
+            this.properties.fields().addDoubleField(prefix + "_extract" + suffix, 0,
+                                                    blockEntity ->
+                                                    {
+                                                        IFlowMetered metered = storage.apply(blockEntity);
+                                                        return metered != null ? metered.getExtractRate(window) : 0;
+                                                    },
+                                                    (blockEntity, value) ->
+                                                    {
+                                                        IFlowMetered metered = storage.apply(blockEntity);
+                                                        if(metered != null)
+                                                            metered.getFlowMeter().setSyncedExtractRate(window, value);
+                                                    });
+
+            this.properties.fields().syncField(prefix + "_insert" + suffix)
+                                    .syncField(prefix + "_extract" + suffix);
+        }
+    }
 
-        this.properties.fields().addField(PROP_PROGRESS_ID,
-                                          this.progress,
-                                          blockEntity -> blockEntity.progress,
-                                          (blockEntity, value) -> blockEntity.progress = value);
+    @Override
+    public void onTickEnd()
+    {
+        // rates decay without any commit, so while a meter still reports flow they are pushed once a second
+        if(!this.isDirty && isFlowPushDue())
+            sendUpdate();
 
-        this.properties.fields().addField(PROP_PROGRESS_MAX_ID,
-                                          this.maxProgress,
-                                          blockEntity -> blockEntity.maxProgress,
-                                          (blockEntity, value) -> blockEntity.maxProgress = value);
+        super.onTickEnd();
+    }
 
-        this.properties.fields().addField(PROP_UPGRADE_FLUID_ID,
-                                          this.fluidUpgradeCount,
-                                          blockEntity -> blockEntity.fluidUpgradeCount,
-                                          (blockEntity, value) -> blockEntity.fluidUpgradeCount = value);
+    private boolean isFlowPushDue()
+    {
+        if(this.level == null || this.level.isClientSide() || this.level.getGameTime() - this.lastFlowPush < FLOW_PUSH_INTERVAL)
+            return false;
 
-        this.properties.fields().addField(PROP_UPGRADE_ENERGY_ID,
-                                          this.energyUpgradeCount,
-                                          blockEntity -> blockEntity.energyUpgradeCount,
-                                          (blockEntity, value) -> blockEntity.energyUpgradeCount = value);
+        this.lastFlowPush = this.level.getGameTime();
 
-        this.properties.fields().addField(PROP_UPGRADE_SPEED_ID,
-                                          this.speedUpgradeCount,
-                                          blockEntity -> blockEntity.speedUpgradeCount,
-                                          (blockEntity, value) -> blockEntity.speedUpgradeCount = value);
+        boolean flowing = isFlowing(this.energyStorage) || isFlowing(this.fluidStorage);
+        boolean due = flowing || this.wasFlowing;
+        this.wasFlowing = flowing;
+        return due;
+    }
+
+    private static boolean isFlowing(@Nullable IFlowMetered storage)
+    {
+        // the longest window is the last to reach zero
+        return storage != null && (storage.getInsertRate(FlowWindow.SIXTY_SECONDS) != 0 || storage.getExtractRate(FlowWindow.SIXTY_SECONDS) != 0);
     }
 
     @Override
@@ -258,8 +332,13 @@ public abstract class AbstractBasicMachineBE<T extends AbstractBasicMachineBE<T>
 
     public void setFluidAmount(long amount)
     {
-        if(hasFluidStorage() && this.fluidStorage != null)
+        if(hasFluidStorage() && this.fluidStorage != null && this.fluidStorage.amount != amount)
+        {
+            // a direct write skips the transaction commit, so it reports the change the same way a commit does
             this.fluidStorage.amount = amount;
+            this.fluidStorage.markDirty();
+            markStorageChanged(this.fluidStorage);
+        }
     }
 
     public long getFluidCapacity()
@@ -279,8 +358,12 @@ public abstract class AbstractBasicMachineBE<T extends AbstractBasicMachineBE<T>
 
     public void setEnergyAmount(long amount)
     {
-        if(hasEnergyStorage() && this.energyStorage != null)
+        if(hasEnergyStorage() && this.energyStorage != null && this.energyStorage.amount != amount)
+        {
             this.energyStorage.amount = amount;
+            this.energyStorage.markDirty();
+            markStorageChanged(this.energyStorage);
+        }
     }
 
     public long getEnergyCapacity()
@@ -301,24 +384,28 @@ public abstract class AbstractBasicMachineBE<T extends AbstractBasicMachineBE<T>
     public void incrementFluidUpgrades(int count)
     {
         this.fluidUpgradeCount += count;
+        markFieldChanged(PROP_UPGRADE_FLUID_ID);
         update();
     }
 
     public void incrementEnergyUpgrades(int count)
     {
         this.energyUpgradeCount += count;
+        markFieldChanged(PROP_UPGRADE_ENERGY_ID);
         update();
     }
 
     public void incrementSpeedUpgrades(int count)
     {
         this.speedUpgradeCount += count;
+        markFieldChanged(PROP_UPGRADE_SPEED_ID);
         update();
     }
 
     public void increaseProgress()
     {
         this.progress++;
+        markFieldChanged(PROP_PROGRESS_ID);
         update();
     }
 
@@ -326,12 +413,15 @@ public abstract class AbstractBasicMachineBE<T extends AbstractBasicMachineBE<T>
     {
         this.progress = 0;
         this.maxProgress = 0;
+        markFieldChanged(PROP_PROGRESS_ID);
+        markFieldChanged(PROP_PROGRESS_MAX_ID);
         update();
     }
 
     public void setMaxProgress(int amount)
     {
         this.maxProgress = amount;
+        markFieldChanged(PROP_PROGRESS_MAX_ID);
         update();
     }
 
@@ -397,39 +487,6 @@ public abstract class AbstractBasicMachineBE<T extends AbstractBasicMachineBE<T>
     //endregion
 
     //region protected methods
-    protected ContainerData createContainerData()
-    {
-        return new ContainerData()
-        {
-            @Override
-            public int get(int index)
-            {
-                return switch (index)
-                {
-                    case 0 -> AbstractBasicMachineBE.this.progress;
-                    case 1 -> AbstractBasicMachineBE.this.maxProgress;
-                    default -> 0;
-                };
-            }
-
-            @Override
-            public void set(int index, int value)
-            {
-                switch (index)
-                {
-                    case 0 -> AbstractBasicMachineBE.this.progress = value;
-                    case 1 -> AbstractBasicMachineBE.this.maxProgress = value;
-                }
-            }
-
-            @Override
-            public int getCount()
-            {
-                return DELEGATE_SIZE;
-            }
-        };
-    }
-
     protected int upgradeInventorySize()
     {
         return 0;
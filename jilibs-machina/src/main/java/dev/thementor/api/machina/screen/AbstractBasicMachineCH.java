@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.thementor.api.machina.screen;
+
+import org.jetbrains.annotations.NotNull;
+
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.inventory.MenuType;
+
+import dev.thementor.api.inventory.base.InventoryConnector;
+import dev.thementor.api.inventory.screen.AbstractBaseInventoryCH;
+import dev.thementor.api.machina.blockentity.AbstractBasicMachineBE;
+import dev.thementor.api.shared.data.CachedBlockEntity;
+import dev.thementor.api.shared.records.BlockPosPayload;
+
+/**
+ * Base menu of the basic machines. Progress and upgrade counts reach the player through the synced fields of the
+ * machine, pushed only when they change, instead of a ContainerData polled every tick. Subclasses that show more
+ * fields call {@link #watchFields(String...)} for them.
+ */
+@SuppressWarnings("unused")
+public abstract class AbstractBasicMachineCH<T extends AbstractBasicMachineBE<T>> extends AbstractBaseInventoryCH<@NotNull T>
+{
+    public AbstractBasicMachineCH(MenuType<?> type, int syncId, Inventory playerInventory, BlockPosPayload payload)
+    {
+        super(type, syncId, playerInventory, payload);
+        watchMachineFields();
+    }
+
+    public AbstractBasicMachineCH(MenuType<?> type, int syncID, Inventory playerInventory, BlockPosPayload payload, Class<T> blockEntityClass)
+    {
+        super(type, syncID, playerInventory, payload, blockEntityClass);
+        watchMachineFields();
+    }
+
+    public AbstractBasicMachineCH(MenuType<?> type, int syncID, Inventory playerInventory, BlockPosPayload payload, CachedBlockEntity<@NotNull T> cachedBE)
+    {
+        super(type, syncID, playerInventory, payload, cachedBE);
+        watchMachineFields();
+    }
+
+    public AbstractBasicMachineCH(MenuType<?> type, int syncId, Inventory playerInventory, InventoryConnector<?> inventory, T blockEntity)
+    {
+        super(type, syncId, playerInventory, inventory, blockEntity);
+        watchMachineFields();
+    }
+
+    private void watchMachineFields()
+    {
+        watchFields(AbstractBasicMachineBE.PROP_PROGRESS_ID,
+                    AbstractBasicMachineBE.PROP_PROGRESS_MAX_ID,
+                    AbstractBasicMachineBE.PROP_UPGRADE_FLUID_ID,
+                    AbstractBasicMachineBE.PROP_UPGRADE_ENERGY_ID,
+                    AbstractBasicMachineBE.PROP_UPGRADE_SPEED_ID);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.thementor.api.pipenetwork.be;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+import net.minecraft.world.level.block.state.BlockState;
+
+import dev.thementor.api.base.blockentity.AbstractBaseBE;
+import dev.thementor.api.pipenetwork.network.IPipe;
+import dev.thementor.api.pipenetwork.network.PipeNetwork;
+import dev.thementor.api.pipenetwork.network.PipeNetworkManager;
+
+/**
+ * Base block entity of pipes. It joins the pipe network of its level when it is loaded or placed and leaves it when it
+ * is unloaded or broken. A neighbor update drops the cached endpoints of its network, so blocks built on
+ * {@link dev.thementor.api.base.block.AbstractBaseBlock} keep the endpoints current without further calls.
+ */
+@SuppressWarnings("unused")
+public abstract class AbstractPipeBE<T extends AbstractPipeBE<T>> extends AbstractBaseBE<T> implements IPipe
+{
+    private boolean broken;
+
+    public AbstractPipeBE(BlockEntityType<@NotNull T> type, BlockPos pos, BlockState state)
+    {
+        super(type, pos, state);
+    }
+
+    @Override
+    public void clearRemoved()
+    {
+        super.clearRemoved();
+        this.broken = false;
+        PipeNetworkManager.addPipe(this);
+    }
+
+    @Override
+    public void preRemoveSideEffects(@NotNull BlockPos pos, @NotNull BlockState oldState)
+    {
+        super.preRemoveSideEffects(pos, oldState);
+        this.broken = true;
+    }
+
+    @Override
+    public void setRemoved()
+    {
+        super.setRemoved();
+
+        // only a broken pipe can split its network, unloading ones are split together at the end of the tick
+        if(this.broken)
+            PipeNetworkManager.removePipe(this);
+        else
+            PipeNetworkManager.unloadPipe(this);
+    }
+
+    @Override
+    public void invalidateNeighborCaches()
+    {
+        super.invalidateNeighborCaches();
+
+        PipeNetwork network = getNetwork();
+        if(network != null)
+            network.invalidateEndpoints();
+    }
+
+    public @Nullable PipeNetwork getNetwork()
+    {
+        return PipeNetworkManager.getNetwork(this.level, this.worldPosition);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.thementor.api.pipenetwork.network;
+
+import net.minecraft.core.Direction;
+
+/**
+ * Block entity that is part of a {@link PipeNetwork}.
+ * <p>
+ * Pipes join the networks of their level through {@link PipeNetworkManager#addPipe}, which
+ * {@link dev.thementor.api.pipenetwork.be.AbstractPipeBE} does when it is loaded or placed, and leave them when they
+ * are unloaded or broken. Two neighboring pipes are connected when both accept the side and they share a resource.
+ */
+@SuppressWarnings("unused")
+public interface IPipe
+{
+    /**
+     * The resources this pipe carries, as a mask of {@link PipeResource#getMask()} bits. The answer must not change
+     * while the pipe is part of a network; remove and add it again when it does.
+     */
+    int getPipeResources();
+
+    /**
+     * Determines whether this pipe connects on a side, to another pipe or to an endpoint. The same rule as for
+     * {@link #getPipeResources()} applies.
+     *
+     * @param side the side of this pipe
+     * @return true if resources can pass through the side, false otherwise
+     */
+    default boolean canConnect(Direction side)
+    {
+        return true;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.thementor.api.pipenetwork.network;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.Level;
+
+import dev.thementor.api.base.graph.NetworkGraph;
+
+/**
+ * The pipe networks of a single level, kept as a graph of pipes keyed by packed positions and updated incrementally
+ * as described in {@link NetworkGraph}. Two neighboring pipes are connected when both accept the side and they share
+ * a resource.
+ */
+@SuppressWarnings("unused")
+public final class LevelPipeNetworks extends NetworkGraph<IPipe, PipeNetwork>
+{
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final Level level;
+
+    LevelPipeNetworks(Level level)
+    {
+        this.level = level;
+    }
+
+    @Override
+    protected PipeNetwork createNetwork()
+    {
+        return new PipeNetwork(this);
+    }
+
+    @Override
+    protected boolean connects(IPipe pipe, IPipe neighbor, Direction side)
+    {
+        return (pipe.getPipeResources() & neighbor.getPipeResources()) != 0
+               && pipe.canConnect(side)
+               && neighbor.canConnect(side.getOpposite());
+    }
+
+    @Override
+    protected void onNodeJoined(PipeNetwork network, IPipe pipe)
+    {
+        network.join(pipe.getPipeResources());
+    }
+
+    /**
+     * Looks up the storages of a resource next to the pipes of a network that carry it.
+     */
+    <A> List<PipeEndpoint<?>> findEndpoints(PipeNetwork network, PipeResource<A> resource)
+    {
+        List<PipeEndpoint<?>> found = new ArrayList<>();
+
+        network.forEachNode(packed ->
+                            {
+                                IPipe pipe = get(packed);
+                                if(pipe == null || (pipe.getPipeResources() & resource.getMask()) == 0)
+                                    return;
+
+                                for(Direction side : DIRECTIONS)
+                                {
+                                    long neighbor = BlockPos.offset(packed, side);
+                                    if(contains(neighbor) || !pipe.canConnect(side))
+                                        continue;
+
+                                    BlockPos neighborPos = BlockPos.of(neighbor);
+                                    if(!this.level.isLoaded(neighborPos))
+                                        continue;
+
+                                    A target = resource.getLookup().find(this.level, neighborPos, side.getOpposite());
+                                    if(target != null)
+                                        found.add(new PipeEndpoint<>(neighborPos, side.getOpposite(), target));
+                                }
+                            });
+
+        return found;
+    }
+
+    /**
+     * Determines whether a position holds a pipe.
+     */
+    public boolean isPipe(BlockPos pos)
+    {
+        return contains(pos.asLong());
+    }
+
+    /**
+     * Mask of the sides a pipe is connected to other pipes on, by {@link Direction} ordinal.
+     */
+    public int getConnections(BlockPos pos)
+    {
+        return getConnections(pos.asLong());
+    }
+
+    public @Nullable PipeNetwork getNetwork(BlockPos pos)
+    {
+        return getNetwork(pos.asLong());
+    }
+
+    public Level getLevel()
+    {
+        return this.level;
+    }
+}
\ No newline at end of file
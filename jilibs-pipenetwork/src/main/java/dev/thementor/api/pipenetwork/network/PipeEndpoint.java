@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.thementor.api.pipenetwork.network;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+
+/**
+ * A storage next to a pipe network.
+ *
+ * @param pos    the position of the storage
+ * @param side   the side of the storage that faces the pipe, the side it was looked up with
+ * @param target the storage
+ */
+@SuppressWarnings("unused")
+public record PipeEndpoint<A>(BlockPos pos, Direction side, A target)
+{
+}
\ No newline at end of file
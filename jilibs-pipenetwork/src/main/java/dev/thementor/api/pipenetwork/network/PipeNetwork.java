@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.thementor.api.pipenetwork.network;
+
+import java.util.Collections;
+import java.util.List;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+
+import dev.thementor.api.base.graph.GraphNetwork;
+
+/**
+ * A set of connected pipes and the storages around them.
+ * <p>
+ * Networks merge and split as described in {@link GraphNetwork}; every method resolves to the live network, so a
+ * reference kept across merges stays usable until {@link #isRemoved()}.
+ * <p>
+ * Endpoints are looked up per resource the first time they are asked for and kept until a pipe of the network or a
+ * block next to it changes, or a chunk next to it unloads.
+ */
+@SuppressWarnings("unused")
+public final class PipeNetwork extends GraphNetwork<PipeNetwork>
+{
+    private final LevelPipeNetworks owner;
+
+    // only meaningful on a root
+    private int resources;
+    private final Reference2ObjectOpenHashMap<PipeResource<?>, List<PipeEndpoint<?>>> endpoints = new Reference2ObjectOpenHashMap<>();
+
+    PipeNetwork(LevelPipeNetworks owner)
+    {
+        this.owner = owner;
+    }
+
+    @Override
+    protected void onChanged()
+    {
+        this.endpoints.clear();
+    }
+
+    @Override
+    protected void onMerged(PipeNetwork from)
+    {
+        this.resources |= from.resources;
+        from.endpoints.clear();
+    }
+
+    @Override
+    protected void onRemoved()
+    {
+        this.endpoints.clear();
+    }
+
+    void join(int pipeResources)
+    {
+        this.resources |= pipeResources;
+    }
+
+    /**
+     * The storages of one resource next to the network, looked up once and cached until something around it changes.
+     */
+    @SuppressWarnings("unchecked")
+    public <A> List<PipeEndpoint<A>> getEndpoints(PipeResource<A> resource)
+    {
+        PipeNetwork root = find();
+        if(root.isRemoved() || (root.resources & resource.getMask()) == 0)
+            return Collections.emptyList();
+
+        List<PipeEndpoint<?>> cached = root.endpoints.get(resource);
+        if(cached == null)
+        {
+            cached = Collections.unmodifiableList(this.owner.findEndpoints(root, resource));
+            root.endpoints.put(resource, cached);
+        }
+        return (List<PipeEndpoint<A>>) (List<?>) cached;
+    }
+
+    /**
+     * Drops the cached endpoints, the next {@link #getEndpoints} looks them up again.
+     */
+    public void invalidateEndpoints()
+    {
+        find().endpoints.clear();
+    }
+
+    /**
+     * Mask of every resource a pipe of the network carries. Removing a pipe never clears bits, so it can name a
+     * resource no pipe of the network carries anymore.
+     */
+    public int getResources()
+    {
+        return find().resources;
+    }
+}
\ No newline at end of file
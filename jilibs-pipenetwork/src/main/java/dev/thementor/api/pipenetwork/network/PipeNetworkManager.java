@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.thementor.api.pipenetwork.network;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+
+/**
+ * Entry point of the pipe networks.
+ * <p>
+ * Call {@link #init()} once from your mod initializer. Pipes then register through {@link #addPipe},
+ * {@link #removePipe} and {@link #unloadPipe}, and blocks next to them report changes through
+ * {@link #endpointChanged}. Networks that lost pipes to unloading chunks are split at the end of the level tick, and
+ * networks next to an unloading chunk drop their cached endpoints. The networks only keep
+ * the graph and the endpoints; energy, fluid and item transports ask them through {@link #getNetwork} and
+ * {@link PipeNetwork#getEndpoints} and move the resources themselves. Until {@link #init()} is called nothing is
+ * tracked.
+ */
+@SuppressWarnings("unused")
+public final class PipeNetworkManager
+{
+    private static final Map<Level, LevelPipeNetworks> NETWORKS = new WeakHashMap<>();
+    private static boolean initialized;
+
+    private PipeNetworkManager() {}
+
+    public static void init()
+    {
+        if(initialized)
+            return;
+        initialized = true;
+
+        ServerTickEvents.END_WORLD_TICK.register(world ->
+                                                 {
+                                                     LevelPipeNetworks networks = NETWORKS.get(world);
+                                                     if(networks != null)
+                                                         networks.repartition();
+                                                 });
+        ServerChunkEvents.CHUNK_UNLOAD.register((world, chunk) ->
+                                                {
+                                                    LevelPipeNetworks networks = NETWORKS.get(world);
+                                                    if(networks != null)
+                                                        networks.chunkUnloaded(chunk.getPos());
+                                                });
+        ServerWorldEvents.UNLOAD.register((server, world) -> NETWORKS.remove(world));
+    }
+
+    public static boolean isInitialized()
+    {
+        return initialized;
+    }
+
+    /**
+     * Adds a pipe block entity to the networks of its level.
+     */
+    public static <P extends BlockEntity & IPipe> void addPipe(P pipe)
+    {
+        if(!initialized || !(pipe.getLevel() instanceof ServerLevel level))
+            return;
+        NETWORKS.computeIfAbsent(level, LevelPipeNetworks::new).add(pipe.getBlockPos().asLong(), pipe);
+    }
+
+    /**
+     * Removes a broken pipe block entity from the networks of its level, splitting its network when needed.
+     */
+    public static <P extends BlockEntity & IPipe> void removePipe(P pipe)
+    {
+        if(!initialized || pipe.getLevel() == null)
+            return;
+
+        LevelPipeNetworks networks = NETWORKS.get(pipe.getLevel());
+        if(networks != null)
+            networks.remove(pipe.getBlockPos().asLong());
+    }
+
+    /**
+     * Removes a pipe block entity unloading with its chunk. Its network is split once at the end of the level tick
+     * rather than for every pipe of the chunk.
+     */
+    public static <P extends BlockEntity & IPipe> void unloadPipe(P pipe)
+    {
+        if(!initialized || pipe.getLevel() == null)
+            return;
+
+        LevelPipeNetworks networks = NETWORKS.get(pipe.getLevel());
+        if(networks != null)
+            networks.detach(pipe.getBlockPos().asLong());
+    }
+
+    /**
+     * Tells the networks next to a position that the storage there appeared, went away or changed.
+     */
+    public static void endpointChanged(@Nullable Level level, BlockPos pos)
+    {
+        if(!initialized || level == null)
+            return;
+
+        LevelPipeNetworks networks = NETWORKS.get(level);
+        if(networks != null)
+            networks.neighborChanged(pos.asLong());
+    }
+
+    public static void endpointChanged(BlockEntity blockEntity)
+    {
+        endpointChanged(blockEntity.getLevel(), blockEntity.getBlockPos());
+    }
+
+    public static @Nullable PipeNetwork getNetwork(@Nullable Level level, BlockPos pos)
+    {
+        if(!initialized || level == null)
+            return null;
+
+        LevelPipeNetworks networks = NETWORKS.get(level);
+        return networks != null ? networks.getNetwork(pos) : null;
+    }
+
+    public static @Nullable LevelPipeNetworks get(Level level)
+    {
+        return NETWORKS.get(level);
+    }
+}
\ No newline at end of file
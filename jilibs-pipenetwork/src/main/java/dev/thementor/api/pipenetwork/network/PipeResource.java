@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.thementor.api.pipenetwork.network;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.jetbrains.annotations.Nullable;
+import team.reborn.energy.api.EnergyStorage;
+
+import net.minecraft.core.Direction;
+
+import net.fabricmc.fabric.api.lookup.v1.block.BlockApiLookup;
+import net.fabricmc.fabric.api.transfer.v1.fluid.FluidStorage;
+import net.fabricmc.fabric.api.transfer.v1.fluid.FluidVariant;
+import net.fabricmc.fabric.api.transfer.v1.item.ItemStorage;
+import net.fabricmc.fabric.api.transfer.v1.item.ItemVariant;
+import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
+
+/**
+ * A kind of resource pipes carry, with the sided lookup its endpoints are found through. Every resource owns one bit
+ * of the mask a pipe returns from {@link IPipe#getPipeResources()}, so at most 32 can be registered.
+ */
+@SuppressWarnings("unused")
+public final class PipeResource<A>
+{
+    private static final List<PipeResource<?>> RESOURCES = new ArrayList<>();
+
+    public static final PipeResource<EnergyStorage> ENERGY = register("energy", EnergyStorage.SIDED);
+    public static final PipeResource<Storage<FluidVariant>> FLUID = register("fluid", FluidStorage.SIDED);
+    public static final PipeResource<Storage<ItemVariant>> ITEM = register("item", ItemStorage.SIDED);
+
+    private final String name;
+    private final int mask;
+    private final BlockApiLookup<A, @Nullable Direction> lookup;
+
+    private PipeResource(String name, int mask, BlockApiLookup<A, @Nullable Direction> lookup)
+    {
+        this.name = name;
+        this.mask = mask;
+        this.lookup = lookup;
+    }
+
+    /**
+     * Registers a resource, call it once during mod initialization.
+     *
+     * @throws IllegalStateException if all 32 resource bits are taken
+     */
+    public static synchronized <A> PipeResource<A> register(String name, BlockApiLookup<A, @Nullable Direction> lookup)
+    {
+        if(RESOURCES.size() >= Integer.SIZE)
+            throw new IllegalStateException("No pipe resource bit left for '" + name + "'");
+
+        PipeResource<A> resource = new PipeResource<>(name, 1 << RESOURCES.size(), lookup);
+        RESOURCES.add(resource);
+        return resource;
+    }
+
+    /**
+     * Combines resources into the mask a pipe carrying all of them returns.
+     */
+    public static int maskOf(PipeResource<?>... resources)
+    {
+        int mask = 0;
+        for(PipeResource<?> resource : resources)
+            mask |= resource.mask;
+        return mask;
+    }
+
+    public static List<PipeResource<?>> getResources()
+    {
+        return Collections.unmodifiableList(RESOURCES);
+    }
+
+    public String getName()
+    {
+        return this.name;
+    }
+
+    public int getMask()
+    {
+        return this.mask;
+    }
+
+    public BlockApiLookup<A, @Nullable Direction> getLookup()
+    {
+        return this.lookup;
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.name;
+    }
+}
\ No newline at end of file
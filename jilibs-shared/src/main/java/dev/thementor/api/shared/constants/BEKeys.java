@@ -63,6 +63,21 @@ public class BEKeys {
      */
     public static final String HAS_FLUID = ".be.has.fluid";
 
+    /**
+     * Suffix for the packed amounts of a connector, written instead of one child view per storage.
+     */
+    public static final String PACKED = ".packed";
+
+    /**
+     * Suffix for the variant palette that goes with a packed fluid layout.
+     */
+    public static final String PALETTE = ".palette";
+
+    /**
+     * Suffix for the per-storage palette indices that go with a packed fluid layout.
+     */
+    public static final String VARIANTS = ".variants";
+
     /**
      * Key for the progress amount in a backend entity.
      */
@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.thementor.api.shared.data;
+
+import java.util.Arrays;
+
+import dev.thementor.api.shared.annotations.*;
+import dev.thementor.api.shared.enumerations.FlowWindow;
+
+/**
+ * Rolling totals of what a storage received and gave away, averaged over one, ten and sixty seconds.
+ * <p>
+ * The last second is kept per tick and older history per second, each in a fixed primitive ring, so a meter is a
+ * few hundred longs and every window is a running sum read in constant time. Nothing runs while a storage is idle:
+ * the rings are rolled forward to the current game time whenever the meter is written or read.
+ * <p>
+ * Storages report every insert and extract with the nesting depth of its transaction and close every transaction
+ * they took part in; only amounts that reach a committed outer transaction are counted.
+ */
+@SuppressWarnings("unused")
+@Developer("TheMentor")
+@CreatedAt("2026-10-18")
+@Repository("https://github.com/drkhodakarami/")
+@Discord("https://discord.gg/pmM4emCbuH")
+@Youtube("https://www.youtube.com/@TheMentorCodeLab")
+
+public final class FlowMeter
+{
+    private static final int TICKS = 20;
+    private static final int SECONDS = 60;
+    private static final int SHORT_SECONDS = 10;
+
+    private final long[] tickIn = new long[TICKS];
+    private final long[] tickOut = new long[TICKS];
+    private final long[] secondIn = new long[SECONDS];
+    private final long[] secondOut = new long[SECONDS];
+
+    private long sumTickIn, sumTickOut;
+    private long sumShortIn, sumShortOut;
+    private long sumLongIn, sumLongOut;
+    private long currentSecondIn, currentSecondOut;
+    private int secondHead;
+
+    private long lastTick = Long.MIN_VALUE;
+
+    // uncommitted amounts per transaction nesting depth
+    private long[] pendingIn = new long[4];
+    private long[] pendingOut = new long[4];
+
+    // rates received from the server, a client side meter reports these instead of its own empty history
+    private final double[] syncedIn = new double[FlowWindow.values().length];
+    private final double[] syncedOut = new double[FlowWindow.values().length];
+    private boolean remote;
+
+    /**
+     * Adds an amount inserted inside a transaction.
+     *
+     * @param depth  the nesting depth of the transaction
+     * @param amount the inserted amount
+     */
+    public void onInserted(int depth, long amount)
+    {
+        ensureDepth(depth);
+        this.pendingIn[depth] += amount;
+    }
+
+    /**
+     * Adds an amount extracted inside a transaction.
+     *
+     * @param depth  the nesting depth of the transaction
+     * @param amount the extracted amount
+     */
+    public void onExtracted(int depth, long amount)
+    {
+        ensureDepth(depth);
+        this.pendingOut[depth] += amount;
+    }
+
+    /**
+     * Resolves the amounts of a closing transaction: a committed nested transaction hands them to its parent, a
+     * committed outer transaction records them, and an aborted one drops them.
+     *
+     * @param depth     the nesting depth of the transaction
+     * @param committed whether the transaction was committed
+     * @param gameTime  the current game time, used when the outer transaction commits
+     */
+    public void onClose(int depth, boolean committed, long gameTime)
+    {
+        if(depth >= this.pendingIn.length)
+            return;
+
+        if(committed)
+        {
+            if(depth > 0)
+            {
+                this.pendingIn[depth - 1] += this.pendingIn[depth];
+                this.pendingOut[depth - 1] += this.pendingOut[depth];
+            }
+            else if(this.pendingIn[0] != 0 || this.pendingOut[0] != 0)
+                record(gameTime, this.pendingIn[0], this.pendingOut[0]);
+        }
+
+        this.pendingIn[depth] = 0;
+        this.pendingOut[depth] = 0;
+    }
+
+    /**
+     * Adds amounts moved on a game tick directly.
+     *
+     * @param gameTime the current game time
+     * @param in       the amount received
+     * @param out      the amount given away
+     */
+    public void record(long gameTime, long in, long out)
+    {
+        advance(gameTime);
+
+        int slot = (int) Math.floorMod(gameTime, (long) TICKS);
+        this.tickIn[slot] += in;
+        this.tickOut[slot] += out;
+        this.sumTickIn += in;
+        this.sumTickOut += out;
+        this.currentSecondIn += in;
+        this.currentSecondOut += out;
+    }
+
+    /**
+     * Retrieves the average amount received per tick over a window.
+     *
+     * @param gameTime the current game time
+     * @param window   the window to average over
+     * @return the inserted amount per tick
+     */
+    public double getInsertRate(long gameTime, FlowWindow window)
+    {
+        if(this.remote)
+            return this.syncedIn[window.ordinal()];
+
+        advance(gameTime);
+
+        return switch (window)
+        {
+            case ONE_SECOND -> (double) this.sumTickIn / TICKS;
+            case TEN_SECONDS -> (double) this.sumShortIn / (SHORT_SECONDS * TICKS);
+            case SIXTY_SECONDS -> (double) this.sumLongIn / (SECONDS * TICKS);
+        };
+    }
+
+    /**
+     * Retrieves the average amount given away per tick over a window.
+     *
+     * @param gameTime the current game time
+     * @param window   the window to average over
+     * @return the extracted amount per tick
+     */
+    public double getExtractRate(long gameTime, FlowWindow window)
+    {
+        if(this.remote)
+            return this.syncedOut[window.ordinal()];
+
+        advance(gameTime);
+
+        return switch (window)
+        {
+            case ONE_SECOND -> (double) this.sumTickOut / TICKS;
+            case TEN_SECONDS -> (double) this.sumShortOut / (SHORT_SECONDS * TICKS);
+            case SIXTY_SECONDS -> (double) this.sumLongOut / (SECONDS * TICKS);
+        };
+    }
+
+    /**
+     * Retrieves the average net amount per tick over a window, positive while the storage fills.
+     *
+     * @param gameTime the current game time
+     * @param window   the window to average over
+     * @return the net amount per tick
+     */
+    public double getNetRate(long gameTime, FlowWindow window)
+    {
+        return getInsertRate(gameTime, window) - getExtractRate(gameTime, window);
+    }
+
+    /**
+     * Sets the insert rate of a window as measured on the server. From then on the meter reports the synced rates.
+     */
+    public void setSyncedInsertRate(FlowWindow window, double rate)
+    {
+        this.remote = true;
+        this.syncedIn[window.ordinal()] = rate;
+    }
+
+    /**
+     * Sets the extract rate of a window as measured on the server. From then on the meter reports the synced rates.
+     */
+    public void setSyncedExtractRate(FlowWindow window, double rate)
+    {
+        this.remote = true;
+        this.syncedOut[window.ordinal()] = rate;
+    }
+
+    /**
+     * Forgets every recorded amount.
+     */
+    public void reset()
+    {
+        Arrays.fill(this.tickIn, 0);
+        Arrays.fill(this.tickOut, 0);
+        Arrays.fill(this.secondIn, 0);
+        Arrays.fill(this.secondOut, 0);
+        this.sumTickIn = this.sumTickOut = 0;
+        this.sumShortIn = this.sumShortOut = 0;
+        this.sumLongIn = this.sumLongOut = 0;
+        this.currentSecondIn = this.currentSecondOut = 0;
+        this.secondHead = 0;
+        this.lastTick = Long.MIN_VALUE;
+    }
+
+    /**
+     * Rolls the rings forward to a game tick, clearing the ticks that passed and closing the seconds that ended.
+     */
+    private void advance(long gameTime)
+    {
+        if(this.lastTick == Long.MIN_VALUE)
+        {
+            this.lastTick = gameTime;
+            return;
+        }
+
+        long steps = gameTime - this.lastTick;
+        if(steps <= 0)
+            return;
+
+        // idle for longer than the whole history, nothing of it is left
+        if(steps > (long) (SECONDS + 1) * TICKS)
+        {
+            reset();
+            this.lastTick = gameTime;
+            return;
+        }
+
+        for(long tick = this.lastTick + 1; tick <= gameTime; tick++)
+        {
+            if(Math.floorMod(tick, (long) TICKS) == 0)
+                closeSecond();
+
+            int slot = (int) Math.floorMod(tick, (long) TICKS);
+            this.sumTickIn -= this.tickIn[slot];
+            this.sumTickOut -= this.tickOut[slot];
+            this.tickIn[slot] = 0;
+            this.tickOut[slot] = 0;
+        }
+
+        this.lastTick = gameTime;
+    }
+
+    private void closeSecond()
+    {
+        int head = this.secondHead;
+        int dropped = (head - SHORT_SECONDS + SECONDS) % SECONDS;
+
+        this.sumLongIn += this.currentSecondIn - this.secondIn[head];
+        this.sumLongOut += this.currentSecondOut - this.secondOut[head];
+        this.sumShortIn += this.currentSecondIn - this.secondIn[dropped];
+        this.sumShortOut += this.currentSecondOut - this.secondOut[dropped];
+
+        this.secondIn[head] = this.currentSecondIn;
+        this.secondOut[head] = this.currentSecondOut;
+        this.currentSecondIn = 0;
+        this.currentSecondOut = 0;
+        this.secondHead = (head + 1) % SECONDS;
+    }
+
+    private void ensureDepth(int depth)
+    {
+        if(depth < this.pendingIn.length)
+            return;
+
+        int size = Math.max(depth + 1, this.pendingIn.length * 2);
+        this.pendingIn = Arrays.copyOf(this.pendingIn, size);
+        this.pendingOut = Arrays.copyOf(this.pendingOut, size);
+    }
+}
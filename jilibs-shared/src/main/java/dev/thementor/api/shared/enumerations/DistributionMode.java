@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.thementor.api.shared.enumerations;
+
+import dev.thementor.api.shared.annotations.*;
+
+/**
+ * Enum representing how an amount is split between several targets that can each accept a limited amount.
+ */
+@SuppressWarnings("unused")
+@Developer("TheMentor")
+@CreatedAt("2026-10-18")
+@Repository("https://github.com/drkhodakarami/")
+@Discord("https://discord.gg/pmM4emCbuH")
+@Youtube("https://www.youtube.com/@TheMentorCodeLab")
+
+public enum DistributionMode
+{
+    /**
+     * Every target gets an equal share. What a target cannot take goes to the others, and the indivisible remainder
+     * goes one unit each to the targets after a rotating start.
+     */
+    ROUND_ROBIN,
+
+    /**
+     * Every target gets a share proportional to what it can accept. The rounding remainder goes one unit each to the
+     * targets after a rotating start.
+     */
+    PROPORTIONAL
+}
@@ -87,6 +87,17 @@ public enum MappedDirection
                           map.put(Direction.WEST, MappedDirection.WEST);
                       });
 
+    /**
+     * All mapped directions by ordinal. The first six share the ordinals of {@link Direction}, so conversion is a single
+     * array load instead of a map lookup.
+     */
+    private static final MappedDirection[] VALUES = values();
+
+    /**
+     * All Minecraft directions by ordinal.
+     */
+    private static final Direction[] DIRECTIONS = Direction.values();
+
     /**
      * Converts a Minecraft Direction to its corresponding MappedDirection.
      *
@@ -95,7 +106,7 @@ public enum MappedDirection
      */
     public static MappedDirection fromDirection(Direction direction)
     {
-        return biMap.get(direction);
+        return direction == null ? NONE : VALUES[direction.ordinal()];
     }
 
     /**
@@ -106,6 +117,6 @@ public enum MappedDirection
      */
     public static Direction toDirection(MappedDirection direction)
     {
-        return biMap.inverse().get(direction);
+        return direction == null || direction == NONE ? null : DIRECTIONS[direction.ordinal()];
     }
 }
\ No newline at end of file
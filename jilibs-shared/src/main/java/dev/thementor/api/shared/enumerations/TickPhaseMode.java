@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.thementor.api.shared.enumerations;
+
+import dev.thementor.api.shared.annotations.*;
+
+/**
+ * Enum representing how a block entity with a tick rate above one picks the game tick it fires on within its period.
+ */
+@SuppressWarnings("unused")
+@Developer("TheMentor")
+@CreatedAt("2026-10-18")
+@Repository("https://github.com/drkhodakarami/")
+@Discord("https://discord.gg/pmM4emCbuH")
+@Youtube("https://www.youtube.com/@TheMentorCodeLab")
+
+public enum TickPhaseMode
+{
+    /**
+     * Fires on the game tick the block entity was loaded on, so entities loaded together fire together.
+     */
+    LOAD,
+
+    /**
+     * Fires on a phase hashed from the block position, stable across reloads and evenly spread for dense builds.
+     */
+    HASHED,
+
+    /**
+     * Fires on the least loaded phase of the per level histogram, spreading entities evenly even after others of the
+     * same rate were removed.
+     */
+    ROUND_ROBIN
+}
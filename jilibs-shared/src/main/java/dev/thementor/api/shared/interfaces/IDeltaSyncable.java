@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.thementor.api.shared.interfaces;
+
+import dev.thementor.api.shared.annotations.*;
+
+/**
+ * Represents an interface for components that track whether they changed since their state was last sent to clients,
+ * so a delta sync only ships the parts that actually changed.
+ */
+@SuppressWarnings("unused")
+@Developer("TheMentor")
+@CreatedAt("2026-10-18")
+@Repository("https://github.com/drkhodakarami/")
+@Discord("https://discord.gg/pmM4emCbuH")
+@Youtube("https://www.youtube.com/@TheMentorCodeLab")
+
+public interface IDeltaSyncable
+{
+    /**
+     * Determines whether the component changed since it was last sent to clients.
+     *
+     * @return true if the component has to be sent again, false otherwise
+     */
+    boolean isDeltaDirty();
+
+    /**
+     * Marks the component as sent to clients.
+     */
+    void clearDeltaDirty();
+}
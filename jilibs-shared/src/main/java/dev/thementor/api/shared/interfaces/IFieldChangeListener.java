@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.thementor.api.shared.interfaces;
+
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+import dev.thementor.api.shared.annotations.*;
+
+/**
+ * Represents a listener notified when a field of a BlockEntity changes through the setters of
+ * {@link dev.thementor.api.shared.properties.BlockEntityFields}.
+ */
+@SuppressWarnings("unused")
+@Developer("TheMentor")
+@CreatedAt("2026-10-18")
+@Repository("https://github.com/drkhodakarami/")
+@Discord("https://discord.gg/pmM4emCbuH")
+@Youtube("https://www.youtube.com/@TheMentorCodeLab")
+
+@FunctionalInterface
+public interface IFieldChangeListener
+{
+    /**
+     * Called after the value of a field changed. The new value is read from the BlockEntity when it is needed, so
+     * several changes of the same field within a tick can be coalesced.
+     *
+     * @param blockEntity the BlockEntity the field belongs to
+     * @param name        the name of the changed field
+     */
+    void onFieldChanged(BlockEntity blockEntity, String name);
+}
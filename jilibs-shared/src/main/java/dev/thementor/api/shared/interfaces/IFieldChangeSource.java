@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.thementor.api.shared.interfaces;
+
+import java.util.Collection;
+
+import net.minecraft.server.level.ServerPlayer;
+
+import dev.thementor.api.shared.annotations.*;
+
+/**
+ * Represents an interface for BlockEntities that publish field changes, so menus can push only the fields that
+ * changed to the players that have the screen open instead of polling every value each tick.
+ */
+@SuppressWarnings("unused")
+@Developer("TheMentor")
+@CreatedAt("2026-10-18")
+@Repository("https://github.com/drkhodakarami/")
+@Discord("https://discord.gg/pmM4emCbuH")
+@Youtube("https://www.youtube.com/@TheMentorCodeLab")
+
+public interface IFieldChangeSource
+{
+    /**
+     * Subscribes a listener to the changes of every field.
+     *
+     * @param listener the listener to notify
+     */
+    void subscribeFieldChanges(IFieldChangeListener listener);
+
+    /**
+     * Removes a listener previously added with {@link #subscribeFieldChanges(IFieldChangeListener)}.
+     *
+     * @param listener the listener to remove
+     */
+    void unsubscribeFieldChanges(IFieldChangeListener listener);
+
+    /**
+     * Sends the current values of the named fields to a single player.
+     *
+     * @param player the player to send the values to
+     * @param names  the names of the fields to send
+     * @return false if the values could not be sent, for example because field sync is not initialized
+     */
+    boolean sendFieldValues(ServerPlayer player, Collection<String> names);
+}
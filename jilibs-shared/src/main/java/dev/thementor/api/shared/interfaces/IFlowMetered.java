@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.thementor.api.shared.interfaces;
+
+import dev.thementor.api.shared.annotations.*;
+import dev.thementor.api.shared.data.FlowMeter;
+import dev.thementor.api.shared.enumerations.FlowWindow;
+
+/**
+ * Represents an interface for storages that measure how much flows in and out of them, for GUIs and monitoring.
+ */
+@SuppressWarnings("unused")
+@Developer("TheMentor")
+@CreatedAt("2026-10-18")
+@Repository("https://github.com/drkhodakarami/")
+@Discord("https://discord.gg/pmM4emCbuH")
+@Youtube("https://www.youtube.com/@TheMentorCodeLab")
+
+public interface IFlowMetered
+{
+    /**
+     * Retrieves the meter of this storage.
+     *
+     * @return the flow meter
+     */
+    FlowMeter getFlowMeter();
+
+    /**
+     * Retrieves the average amount inserted per tick over a window.
+     *
+     * @param window the window to average over
+     * @return the inserted amount per tick
+     */
+    double getInsertRate(FlowWindow window);
+
+    /**
+     * Retrieves the average amount extracted per tick over a window.
+     *
+     * @param window the window to average over
+     * @return the extracted amount per tick
+     */
+    double getExtractRate(FlowWindow window);
+
+    /**
+     * Retrieves the average net amount per tick over a window, positive while the storage fills.
+     *
+     * @param window the window to average over
+     * @return the net amount per tick
+     */
+    default double getNetRate(FlowWindow window)
+    {
+        return getInsertRate(window) - getExtractRate(window);
+    }
+}
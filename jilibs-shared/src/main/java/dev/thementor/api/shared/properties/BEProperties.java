@@ -20,6 +20,7 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 
 import dev.thementor.api.shared.annotations.*;
+import dev.thementor.api.shared.enumerations.TickPhaseMode;
 import dev.thementor.api.shared.interfaces.ITickLogic;
 
 /**
@@ -67,6 +68,21 @@ public class BEProperties<T extends BlockEntity>
      */
     private int tickRate = 0;
 
+    /**
+     * The way the BlockEntity picks the game tick it fires on within its tick rate period.
+     */
+    private TickPhaseMode tickPhaseMode = TickPhaseMode.LOAD;
+
+    /**
+     * Indicates whether a dormant BlockEntity should be woken up when one of its neighbors changes.
+     */
+    private boolean wakeOnNeighborUpdate = true;
+
+    /**
+     * Indicates whether updates of the BlockEntity only send its changed parts to clients once delta sync is initialized.
+     */
+    private boolean deltaSync = true;
+
     /**
      * The logic to be executed when processing the BlockEntity during ticks.
      */
@@ -165,6 +181,36 @@ public class BEProperties<T extends BlockEntity>
         return this.tickRate;
     }
 
+    /**
+     * Retrieves the way the BlockEntity picks the game tick it fires on within its tick rate period.
+     *
+     * @return the tick phase mode
+     */
+    public TickPhaseMode getTickPhaseMode()
+    {
+        return this.tickPhaseMode;
+    }
+
+    /**
+     * Retrieves whether a dormant BlockEntity is woken up when one of its neighbors changes.
+     *
+     * @return true if neighbor updates wake the BlockEntity, false otherwise
+     */
+    public boolean isWakingOnNeighborUpdate()
+    {
+        return this.wakeOnNeighborUpdate;
+    }
+
+    /**
+     * Retrieves whether updates of the BlockEntity only send its changed parts to clients.
+     *
+     * @return true if delta sync is used, false if every update sends the full update tag
+     */
+    public boolean isDeltaSynced()
+    {
+        return this.deltaSync;
+    }
+
     /**
      * Retrieves a collection of fields associated with the BlockEntity.
      *
@@ -213,6 +259,60 @@ public class BEProperties<T extends BlockEntity>
         return this;
     }
 
+    /**
+     * Sets the tick rate and the way the BlockEntity picks the game tick it fires on within that period.
+     *
+     * @param tickRate the tick rate to set
+     * @param tickPhaseMode the tick phase mode to set
+     * @return the current instance of BEProperties for method chaining
+     */
+    public BEProperties<T> setTickRate(int tickRate, TickPhaseMode tickPhaseMode)
+    {
+        return setTickRate(tickRate).setTickPhaseMode(tickPhaseMode);
+    }
+
+    /**
+     * Sets the way the BlockEntity picks the game tick it fires on within its tick rate period. Use
+     * {@link TickPhaseMode#HASHED} or {@link TickPhaseMode#ROUND_ROBIN} to spread entities with the same tick rate
+     * over the whole period instead of firing together.
+     *
+     * @param tickPhaseMode the tick phase mode to set
+     * @return the current instance of BEProperties for method chaining
+     */
+    public BEProperties<T> setTickPhaseMode(TickPhaseMode tickPhaseMode)
+    {
+        if(tickPhaseMode == null)
+            throw new IllegalArgumentException("Tick phase mode cannot be null");
+        this.tickPhaseMode = tickPhaseMode;
+        return this;
+    }
+
+    /**
+     * Sets whether a dormant BlockEntity is woken up when one of its neighbors changes. Storage commits and inventory
+     * changes always wake it.
+     *
+     * @param flag true to wake on neighbor updates, false to only wake on storage changes or the alarm
+     * @return the current instance of BEProperties for method chaining
+     */
+    public BEProperties<T> wakeOnNeighborUpdate(boolean flag)
+    {
+        this.wakeOnNeighborUpdate = flag;
+        return this;
+    }
+
+    /**
+     * Sets whether updates of the BlockEntity only send its changed parts to clients. Has no effect until delta sync
+     * is initialized; the full NBT is always used for the initial chunk data.
+     *
+     * @param flag true to use delta sync, false to send the full update tag on every update
+     * @return the current instance of BEProperties for method chaining
+     */
+    public BEProperties<T> deltaSync(boolean flag)
+    {
+        this.deltaSync = flag;
+        return this;
+    }
+
     /**
      * Sets the logic to be executed when processing the BlockEntity during ticks.
      *
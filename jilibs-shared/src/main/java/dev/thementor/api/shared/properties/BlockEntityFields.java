@@ -16,14 +16,26 @@
 
 package dev.thementor.api.shared.properties;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.BlockEntityType;
 
 import dev.thementor.api.shared.annotations.*;
+import dev.thementor.api.shared.interfaces.IFieldChangeListener;
 import dev.thementor.api.shared.interfaces.IFieldGetter;
 import dev.thementor.api.shared.interfaces.IFieldSetter;
+import dev.thementor.api.shared.properties.handles.*;
 
 /**
  * Manages a collection of fields associated with a BlockEntity.
@@ -45,6 +57,75 @@ public class BlockEntityFields<B extends BlockEntity>
      */
     private final Map<String, BlockEntityField<?, B>> fields = new HashMap<>();
 
+    /**
+     * The names of the fields that are sent to clients when they change, in registration order.
+     */
+    private final Set<String> syncedFields = new LinkedHashSet<>();
+
+    /**
+     * The position of every registered field in the compiled handle table, assigned once per name.
+     */
+    private final Map<String, Integer> indices = new HashMap<>();
+
+    /**
+     * The compiled handles, indexed by field position. A slot is null until the field is compiled.
+     */
+    @SuppressWarnings("unchecked")
+    private FieldHandle<B>[] handles = new FieldHandle[8];
+
+    /**
+     * The names of the fields, indexed like the handles, so a handle can be compiled from its index alone.
+     */
+    private String[] names = new String[8];
+
+    /**
+     * The write counter of every field, indexed like the handles. Readers compare it to skip work while a field has
+     * not been written.
+     */
+    private int[] versions = new int[8];
+
+    /**
+     * The storage keys of the persisted fields, indexed by field name in registration order.
+     */
+    private final Map<String, String> persistedFields = new LinkedHashMap<>();
+
+    /**
+     * The generated schemas of the persisted fields, shared by every BlockEntity of a type.
+     */
+    private static final Map<BlockEntityType<?>, FieldSchema<?>> PERSISTED_SCHEMAS = new ConcurrentHashMap<>();
+
+    /**
+     * The generated schemas of every field that can be sent to clients, shared by every BlockEntity of a type.
+     */
+    private static final Map<BlockEntityType<?>, FieldSchema<?>> SYNC_SCHEMAS = new ConcurrentHashMap<>();
+
+    /**
+     * The schema of the persisted fields, looked up once per instance.
+     */
+    private FieldSchema<B> schema;
+
+    /**
+     * The schema of the fields that can be sent to clients, looked up once per instance.
+     */
+    private FieldSchema<B> syncSchema;
+
+    /**
+     * The listeners notified when a field changes through one of the setters. Menus subscribe and unsubscribe while
+     * the list may be iterated, so it is copied on write.
+     */
+    private final List<IFieldChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * The indices of the fields backed by a storage, keyed by the storage instance.
+     */
+    private final Map<Object, int[]> storageFields = new IdentityHashMap<>();
+
+    /**
+     * Counts every write, change and storage commit reported to the fields, so a cache built from them can tell that
+     * any of them moved.
+     */
+    private int modCount;
+
     /**
      * Adds a field to the collection with the specified name and default value.
      *
@@ -57,6 +138,7 @@ public class BlockEntityFields<B extends BlockEntity>
     {
         BlockEntityField<T, B> field = new BlockEntityField<>(defaultValue);
         this.fields.put(name, field);
+        invalidateHandle(name);
         return field;
     }
 
@@ -75,9 +157,115 @@ public class BlockEntityFields<B extends BlockEntity>
     {
         BlockEntityField<T, B> field = new BlockEntityField<>(defaultValue, getter, setter);
         this.fields.put(name, field);
+        invalidateHandle(name);
         return field;
     }
 
+    /**
+     * Adds an integer field and compiles it right away. The field stays reachable through the name based methods, but the
+     * returned handle reads and writes it without boxing.
+     *
+     * @param name         the name of the field
+     * @param defaultValue the value returned when there is no getter
+     * @param getter       the method to retrieve the field's value from the BlockEntity
+     * @param setter       the method to set the field's value on the BlockEntity
+     * @return the compiled handle of the field
+     */
+    public IntFieldHandle<B> addIntField(String name, int defaultValue, IntFieldHandle.Getter<B> getter, IntFieldHandle.Setter<B> setter)
+    {
+        this.fields.put(name, new BlockEntityField<Integer, B>(defaultValue,
+                                                            getter == null ? null : getter::get,
+                                                            setter == null ? null : setter::set));
+        invalidateHandle(name);
+        IntFieldHandle<B> handle = new IntFieldHandle<>(this, name, indexOf(name), defaultValue, getter, setter);
+        this.handles[handle.getIndex()] = handle;
+        return handle;
+    }
+
+    /**
+     * Adds a long field and compiles it right away. The field stays reachable through the name based methods, but the
+     * returned handle reads and writes it without boxing.
+     *
+     * @param name         the name of the field
+     * @param defaultValue the value returned when there is no getter
+     * @param getter       the method to retrieve the field's value from the BlockEntity
+     * @param setter       the method to set the field's value on the BlockEntity
+     * @return the compiled handle of the field
+     */
+    public LongFieldHandle<B> addLongField(String name, long defaultValue, LongFieldHandle.Getter<B> getter, LongFieldHandle.Setter<B> setter)
+    {
+        this.fields.put(name, new BlockEntityField<Long, B>(defaultValue,
+                                                            getter == null ? null : getter::get,
+                                                            setter == null ? null : setter::set));
+        invalidateHandle(name);
+        LongFieldHandle<B> handle = new LongFieldHandle<>(this, name, indexOf(name), defaultValue, getter, setter);
+        this.handles[handle.getIndex()] = handle;
+        return handle;
+    }
+
+    /**
+     * Adds a float field and compiles it right away. The field stays reachable through the name based methods, but the
+     * returned handle reads and writes it without boxing.
+     *
+     * @param name         the name of the field
+     * @param defaultValue the value returned when there is no getter
+     * @param getter       the method to retrieve the field's value from the BlockEntity
+     * @param setter       the method to set the field's value on the BlockEntity
+     * @return the compiled handle of the field
+     */
+    public FloatFieldHandle<B> addFloatField(String name, float defaultValue, FloatFieldHandle.Getter<B> getter, FloatFieldHandle.Setter<B> setter)
+    {
+        this.fields.put(name, new BlockEntityField<Float, B>(defaultValue,
+                                                            getter == null ? null : getter::get,
+                                                            setter == null ? null : setter::set));
+        invalidateHandle(name);
+        FloatFieldHandle<B> handle = new FloatFieldHandle<>(this, name, indexOf(name), defaultValue, getter, setter);
+        this.handles[handle.getIndex()] = handle;
+        return handle;
+    }
+
+    /**
+     * Adds a double field and compiles it right away. The field stays reachable through the name based methods, but the
+     * returned handle reads and writes it without boxing.
+     *
+     * @param name         the name of the field
+     * @param defaultValue the value returned when there is no getter
+     * @param getter       the method to retrieve the field's value from the BlockEntity
+     * @param setter       the method to set the field's value on the BlockEntity
+     * @return the compiled handle of the field
+     */
+    public DoubleFieldHandle<B> addDoubleField(String name, double defaultValue, DoubleFieldHandle.Getter<B> getter, DoubleFieldHandle.Setter<B> setter)
+    {
+        this.fields.put(name, new BlockEntityField<Double, B>(defaultValue,
+                                                            getter == null ? null : getter::get,
+                                                            setter == null ? null : setter::set));
+        invalidateHandle(name);
+        DoubleFieldHandle<B> handle = new DoubleFieldHandle<>(this, name, indexOf(name), defaultValue, getter, setter);
+        this.handles[handle.getIndex()] = handle;
+        return handle;
+    }
+
+    /**
+     * Adds a boolean field and compiles it right away. The field stays reachable through the name based methods, but the
+     * returned handle reads and writes it without boxing.
+     *
+     * @param name         the name of the field
+     * @param defaultValue the value returned when there is no getter
+     * @param getter       the method to retrieve the field's value from the BlockEntity
+     * @param setter       the method to set the field's value on the BlockEntity
+     * @return the compiled handle of the field
+     */
+    public BooleanFieldHandle<B> addBooleanField(String name, boolean defaultValue, BooleanFieldHandle.Getter<B> getter, BooleanFieldHandle.Setter<B> setter)
+    {
+        this.fields.put(name, new BlockEntityField<Boolean, B>(defaultValue,
+                                                            getter == null ? null : getter::get,
+                                                            setter == null ? null : setter::set));
+        invalidateHandle(name);
+        BooleanFieldHandle<B> handle = new BooleanFieldHandle<>(this, name, indexOf(name), defaultValue, getter, setter);
+        this.handles[handle.getIndex()] = handle;
+        return handle;
+    }
+
     /**
      * Checks if a field with the specified name exists in the collection.
      *
@@ -89,6 +277,529 @@ public class BlockEntityFields<B extends BlockEntity>
         return this.fields.containsKey(name);
     }
 
+    /**
+     * Marks a field to be sent to clients whenever its value changes. Only int, long, float, double, boolean and
+     * String fields with a getter can be synced; the client applies the value through the field setter.
+     *
+     * @param name the name of the field to sync
+     * @return the current instance of BlockEntityFields for method chaining
+     */
+    public BlockEntityFields<B> syncField(String name)
+    {
+        if(!containsField(name))
+            throw new IllegalArgumentException("Field does not exist: " + name);
+        this.syncedFields.add(name);
+        return this;
+    }
+
+    /**
+     * Marks a field to be written by the generated {@link FieldSchema} under the given storage key. Only primitive and
+     * String fields can be persisted; the key is interned once here instead of being built on every save.
+     *
+     * @param name the name of the field to persist
+     * @param key  the key the value is stored under
+     * @return the current instance of BlockEntityFields for method chaining
+     */
+    public BlockEntityFields<B> persistField(String name, String key)
+    {
+        if(!containsField(name))
+            throw new IllegalArgumentException("Field does not exist: " + name);
+        this.persistedFields.put(name, key.intern());
+        return this;
+    }
+
+    /**
+     * Retrieves the schema of the persisted fields. It is generated from the compiled handles of the first instance
+     * of the type asking for it and shared with every other instance, which therefore has to register the same fields.
+     *
+     * @param type the type of the BlockEntity the fields belong to
+     * @return the generated field schema
+     */
+    @SuppressWarnings("unchecked")
+    public FieldSchema<B> schema(BlockEntityType<?> type)
+    {
+        if(this.schema == null)
+            this.schema = (FieldSchema<B>) PERSISTED_SCHEMAS.computeIfAbsent(type, ignored -> buildSchema(this.persistedFields));
+        return this.schema;
+    }
+
+    /**
+     * Retrieves the schema of every primitive and String field, used to send field values to clients by their
+     * position instead of their name. It is shared by every instance of the type like {@link #schema(BlockEntityType)}.
+     *
+     * @param type the type of the BlockEntity the fields belong to
+     * @return the generated field schema, keyed by field name
+     */
+    @SuppressWarnings("unchecked")
+    public FieldSchema<B> syncSchema(BlockEntityType<?> type)
+    {
+        if(this.syncSchema == null)
+            this.syncSchema = (FieldSchema<B>) SYNC_SCHEMAS.computeIfAbsent(type, ignored ->
+            {
+                Map<String, String> keys = new LinkedHashMap<>();
+                for(int i = 0; i < this.indices.size(); i++)
+                    if(FieldSchema.isSupported(getHandle(i)))
+                        keys.put(this.names[i], this.names[i]);
+                return buildSchema(keys);
+            });
+        return this.syncSchema;
+    }
+
+    /**
+     * Builds a schema over the named fields.
+     *
+     * @param keys the keys of the fields, indexed by field name
+     * @return the built schema
+     */
+    @SuppressWarnings("unchecked")
+    private FieldSchema<B> buildSchema(Map<String, String> keys)
+    {
+        String[] schemaKeys = new String[keys.size()];
+        FieldHandle<B>[] fieldHandles = new FieldHandle[schemaKeys.length];
+        int index = 0;
+
+        for(Map.Entry<String, String> entry : keys.entrySet())
+        {
+            schemaKeys[index] = entry.getValue();
+            fieldHandles[index] = getHandle(entry.getKey());
+            index++;
+        }
+
+        return new FieldSchema<>(schemaKeys, fieldHandles);
+    }
+
+    /**
+     * Checks if a field is sent to clients when it changes.
+     *
+     * @param name the name of the field to check
+     * @return true if the field is synced, false otherwise
+     */
+    public boolean isSyncedField(String name)
+    {
+        return this.syncedFields.contains(name);
+    }
+
+    /**
+     * Retrieves the names of the fields that are sent to clients when they change.
+     *
+     * @return an unmodifiable view of the synced field names
+     */
+    public Set<String> getSyncedFields()
+    {
+        return Collections.unmodifiableSet(this.syncedFields);
+    }
+
+    /**
+     * Retrieves a BlockEntityField instance by name without checking its type.
+     *
+     * @param name the name of the field
+     * @return the BlockEntityField instance, or null if it does not exist
+     */
+    public BlockEntityField<?, B> getField(String name)
+    {
+        return this.fields.get(name);
+    }
+
+    //region CHANGE EVENTS
+    /**
+     * Subscribes a listener to the changes of every field. Only changes made through the setters of this class or
+     * reported with {@link #markChanged(String, BlockEntity)} are published.
+     *
+     * @param listener the listener to notify
+     */
+    public void subscribe(IFieldChangeListener listener)
+    {
+        if(!this.listeners.contains(listener))
+            this.listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener previously added with {@link #subscribe(IFieldChangeListener)}.
+     *
+     * @param listener the listener to remove
+     */
+    public void unsubscribe(IFieldChangeListener listener)
+    {
+        this.listeners.remove(listener);
+    }
+
+    /**
+     * Checks if any listener is subscribed. Setters skip the change comparison entirely when nobody listens.
+     *
+     * @return true if at least one listener is subscribed, false otherwise
+     */
+    public boolean hasListeners()
+    {
+        return !this.listeners.isEmpty();
+    }
+
+    /**
+     * Publishes a change of a field to every listener and advances its version. Use it when the value behind a field
+     * was changed directly instead of through a setter of this class.
+     *
+     * @param name        the name of the changed field
+     * @param blockEntity the BlockEntity the field belongs to
+     */
+    public void markChanged(String name, B blockEntity)
+    {
+        Integer index = this.indices.get(name);
+        if(index != null)
+            this.versions[index]++;
+        this.modCount++;
+
+        for(IFieldChangeListener listener : this.listeners)
+            listener.onFieldChanged(blockEntity, name);
+    }
+
+    /**
+     * Publishes a change of a field by its index, advancing its version. Handles call it on their own when a write
+     * changed the value.
+     *
+     * @param index       the index of the changed field
+     * @param blockEntity the BlockEntity the field belongs to
+     */
+    public void markChanged(int index, B blockEntity)
+    {
+        this.versions[index]++;
+        this.modCount++;
+
+        if(this.listeners.isEmpty())
+            return;
+
+        String name = this.handles[index].getName();
+        for(IFieldChangeListener listener : this.listeners)
+            listener.onFieldChanged(blockEntity, name);
+    }
+
+    /**
+     * Advances the version of a field after a write through its handle. Handles call it on their own.
+     *
+     * @param index the index of the written field
+     */
+    public void markWritten(int index)
+    {
+        this.versions[index]++;
+        this.modCount++;
+    }
+
+    /**
+     * Binds fields to a storage that holds their value, so a commit reported through
+     * {@link #markStorageChanged(Object, BlockEntity)} advances them too.
+     *
+     * @param storage the storage the fields read from
+     * @param names   the names of the fields backed by the storage
+     * @return the current instance of BlockEntityFields for method chaining
+     */
+    public BlockEntityFields<B> bindStorage(Object storage, String... names)
+    {
+        int[] bound = new int[names.length];
+        for(int i = 0; i < names.length; i++)
+        {
+            if(!containsField(names[i]))
+                throw new IllegalArgumentException("Field does not exist: " + names[i]);
+            bound[i] = getHandle(names[i]).getIndex();
+        }
+        this.storageFields.put(storage, bound);
+        return this;
+    }
+
+    /**
+     * Reports that the content of a storage changed, advancing the fields bound to it with
+     * {@link #bindStorage(Object, String...)} and publishing them to the listeners.
+     *
+     * @param storage     the storage that changed
+     * @param blockEntity the BlockEntity the fields belong to
+     */
+    public void markStorageChanged(Object storage, B blockEntity)
+    {
+        this.modCount++;
+
+        int[] bound = this.storageFields.get(storage);
+        if(bound == null)
+            return;
+
+        for(int index : bound)
+            markChanged(index, blockEntity);
+    }
+
+    /**
+     * Retrieves the number of writes, changes and storage commits reported so far. Caches built from the fields
+     * store it and are stale once it moved.
+     *
+     * @return the modification count of the fields
+     */
+    public int getModCount()
+    {
+        return this.modCount;
+    }
+
+    /**
+     * Retrieves the position of a field in the compiled handle table, assigning one if the field has none yet.
+     *
+     * @param name the name of the field
+     * @return the index of the field, or -1 if the field does not exist
+     */
+    public int getFieldIndex(String name)
+    {
+        return containsField(name) ? indexOf(name) : -1;
+    }
+
+    /**
+     * Retrieves the write counter of a field. It advances whenever the field is written through its handle or a setter
+     * of this class, its storage commits, or it is reported with {@link #markChanged(String, BlockEntity)}, so an
+     * unchanged version means an unchanged value.
+     *
+     * @param index the index of the field
+     * @return the current version of the field
+     */
+    public int getVersion(int index)
+    {
+        return this.versions[index];
+    }
+    //endregion
+
+    //region HANDLES
+    /**
+     * Compiles every registered field into its typed handle. Call it once after all fields are registered so later
+     * lookups never have to compile.
+     *
+     * @return the current instance of BlockEntityFields for method chaining
+     */
+    public BlockEntityFields<B> compile()
+    {
+        for(String name : this.fields.keySet())
+            getHandle(name);
+        return this;
+    }
+
+    /**
+     * Retrieves the compiled handle of a field by name, compiling it on first use.
+     *
+     * @param name the name of the field
+     * @return the compiled handle
+     */
+    public FieldHandle<B> getHandle(String name)
+    {
+        // a compiled field is found with a single lookup
+        Integer compiled = this.indices.get(name);
+        if(compiled != null && this.handles[compiled] != null)
+            return this.handles[compiled];
+
+        BlockEntityField<?, B> field = this.fields.get(name);
+        if(field == null)
+            throw new IllegalArgumentException("Field does not exist: " + name);
+
+        int index = indexOf(name);
+        FieldHandle<B> handle = this.handles[index];
+
+        if(handle == null)
+        {
+            handle = compile(name, index, field);
+            this.handles[index] = handle;
+        }
+
+        return handle;
+    }
+
+    /**
+     * Retrieves a compiled handle by its index, compiling it on first use.
+     *
+     * @param index the index of the handle
+     * @return the compiled handle
+     */
+    public FieldHandle<B> getHandle(int index)
+    {
+        FieldHandle<B> handle = this.handles[index];
+        return handle != null ? handle : getHandle(this.names[index]);
+    }
+
+    /**
+     * Retrieves the number of slots in the compiled handle table.
+     *
+     * @return the number of field indices assigned so far
+     */
+    public int getHandleCount()
+    {
+        return this.indices.size();
+    }
+
+    /**
+     * Retrieves the compiled handle of an integer field, compiling it on first use.
+     *
+     * @param name the name of the field
+     * @return the compiled handle
+     */
+    public IntFieldHandle<B> intHandle(String name)
+    {
+        if(getHandle(name) instanceof IntFieldHandle<B> handle)
+            return handle;
+        throw new IllegalArgumentException("Field with name '" + name + "' is not of type Integer");
+    }
+
+    /**
+     * Retrieves the compiled handle of a long field, compiling it on first use.
+     *
+     * @param name the name of the field
+     * @return the compiled handle
+     */
+    public LongFieldHandle<B> longHandle(String name)
+    {
+        if(getHandle(name) instanceof LongFieldHandle<B> handle)
+            return handle;
+        throw new IllegalArgumentException("Field with name '" + name + "' is not of type Long");
+    }
+
+    /**
+     * Retrieves the compiled handle of a float field, compiling it on first use.
+     *
+     * @param name the name of the field
+     * @return the compiled handle
+     */
+    public FloatFieldHandle<B> floatHandle(String name)
+    {
+        if(getHandle(name) instanceof FloatFieldHandle<B> handle)
+            return handle;
+        throw new IllegalArgumentException("Field with name '" + name + "' is not of type Float");
+    }
+
+    /**
+     * Retrieves the compiled handle of a double field, compiling it on first use.
+     *
+     * @param name the name of the field
+     * @return the compiled handle
+     */
+    public DoubleFieldHandle<B> doubleHandle(String name)
+    {
+        if(getHandle(name) instanceof DoubleFieldHandle<B> handle)
+            return handle;
+        throw new IllegalArgumentException("Field with name '" + name + "' is not of type Double");
+    }
+
+    /**
+     * Retrieves the compiled handle of a boolean field, compiling it on first use.
+     *
+     * @param name the name of the field
+     * @return the compiled handle
+     */
+    public BooleanFieldHandle<B> booleanHandle(String name)
+    {
+        if(getHandle(name) instanceof BooleanFieldHandle<B> handle)
+            return handle;
+        throw new IllegalArgumentException("Field with name '" + name + "' is not of type Boolean");
+    }
+
+    /**
+     * Retrieves the compiled handle of an object field, compiling it on first use.
+     *
+     * @param <T>  the type of the value stored in the field
+     * @param name the name of the field
+     * @param type the class type of the value
+     * @return the compiled handle
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ObjectFieldHandle<T, B> objectHandle(String name, Class<T> type)
+    {
+        if(getHandle(name) instanceof ObjectFieldHandle<?, B> handle && type.isAssignableFrom(handle.getType()))
+            return (ObjectFieldHandle<T, B>) handle;
+        throw new IllegalArgumentException("Field with name '" + name + "' is not of type " + type.getSimpleName());
+    }
+
+    /**
+     * Assigns a stable index to a field name, growing the handle table when needed.
+     *
+     * @param name the name of the field
+     * @return the index of the field
+     */
+    private int indexOf(String name)
+    {
+        Integer index = this.indices.get(name);
+        if(index != null)
+            return index;
+
+        int next = this.indices.size();
+        if(next == this.handles.length)
+        {
+            this.handles = Arrays.copyOf(this.handles, next << 1);
+            this.versions = Arrays.copyOf(this.versions, next << 1);
+            this.names = Arrays.copyOf(this.names, next << 1);
+        }
+        this.indices.put(name, next);
+        this.names[next] = name;
+        return next;
+    }
+
+    /**
+     * Assigns the index of a newly registered field, so indices follow the registration order, and drops the compiled
+     * handle of a field that was registered again, so it is compiled from the new field.
+     *
+     * @param name the name of the field
+     */
+    private void invalidateHandle(String name)
+    {
+        this.handles[indexOf(name)] = null;
+    }
+
+    /**
+     * Builds the typed handle matching the type of the default value of a field, calling the accessors of the field
+     * directly. Fields registered through {@link #addField} still unbox on every access through their generic
+     * accessors; register primitive fields with the add&lt;Type&gt;Field methods to avoid it.
+     *
+     * @param name  the name of the field
+     * @param index the index of the field
+     * @param field the field to compile
+     * @return the compiled handle
+     */
+    @SuppressWarnings("unchecked")
+    private FieldHandle<B> compile(String name, int index, BlockEntityField<?, B> field)
+    {
+        Object value = field.getValue();
+
+        return switch(value)
+        {
+            case Integer v ->
+            {
+                IFieldGetter<Integer, B> getter = ((BlockEntityField<Integer, B>) field).getGetter();
+                IFieldSetter<Integer, B> setter = ((BlockEntityField<Integer, B>) field).getSetter();
+                yield new IntFieldHandle<B>(this, name, index, v, getter == null ? null : getter::get, setter == null ? null : setter::set);
+            }
+            case Long v ->
+            {
+                IFieldGetter<Long, B> getter = ((BlockEntityField<Long, B>) field).getGetter();
+                IFieldSetter<Long, B> setter = ((BlockEntityField<Long, B>) field).getSetter();
+                yield new LongFieldHandle<B>(this, name, index, v, getter == null ? null : getter::get, setter == null ? null : setter::set);
+            }
+            case Float v ->
+            {
+                IFieldGetter<Float, B> getter = ((BlockEntityField<Float, B>) field).getGetter();
+                IFieldSetter<Float, B> setter = ((BlockEntityField<Float, B>) field).getSetter();
+                yield new FloatFieldHandle<B>(this, name, index, v, getter == null ? null : getter::get, setter == null ? null : setter::set);
+            }
+            case Double v ->
+            {
+                IFieldGetter<Double, B> getter = ((BlockEntityField<Double, B>) field).getGetter();
+                IFieldSetter<Double, B> setter = ((BlockEntityField<Double, B>) field).getSetter();
+                yield new DoubleFieldHandle<B>(this, name, index, v, getter == null ? null : getter::get, setter == null ? null : setter::set);
+            }
+            case Boolean v ->
+            {
+                IFieldGetter<Boolean, B> getter = ((BlockEntityField<Boolean, B>) field).getGetter();
+                IFieldSetter<Boolean, B> setter = ((BlockEntityField<Boolean, B>) field).getSetter();
+                yield new BooleanFieldHandle<B>(this, name, index, v, getter == null ? null : getter::get, setter == null ? null : setter::set);
+            }
+            case null ->
+            {
+                BlockEntityField<Object, B> typed = (BlockEntityField<Object, B>) field;
+                yield new ObjectFieldHandle<>(this, name, index, Object.class, null, typed.getGetter(), typed.getSetter());
+            }
+            default ->
+            {
+                BlockEntityField<Object, B> typed = (BlockEntityField<Object, B>) field;
+                yield new ObjectFieldHandle<>(this, name, index, (Class<Object>) value.getClass(), value, typed.getGetter(), typed.getSetter());
+            }
+        };
+    }
+    //endregion
+
     //region GET FIELD
     /**
      * Retrieves a BlockEntityField instance by name and type.
@@ -103,9 +814,6 @@ public class BlockEntityFields<B extends BlockEntity>
     {
         try
         {
-            if(!containsField(name))
-                throw new IllegalArgumentException("Field does not exist: " + name);
-
             BlockEntityField<?, B> field = this.fields.get(name);
             if(field == null)
                 throw new IllegalArgumentException("Field does not exist: " + name);
@@ -144,7 +852,7 @@ public class BlockEntityFields<B extends BlockEntity>
      */
     public int getFieldValueInt(String name, B blockEntity)
     {
-        return getFieldValue(name, Integer.class, blockEntity);
+        return intHandle(name).get(blockEntity);
     }
 
     /**
@@ -156,7 +864,7 @@ public class BlockEntityFields<B extends BlockEntity>
      */
     public long getFieldValueLong(String name, B blockEntity)
     {
-        return getFieldValue(name, Long.class, blockEntity);
+        return longHandle(name).get(blockEntity);
     }
 
     /**
@@ -168,7 +876,7 @@ public class BlockEntityFields<B extends BlockEntity>
      */
     public float getFieldValueFloat(String name, B blockEntity)
     {
-        return getFieldValue(name, Float.class, blockEntity);
+        return floatHandle(name).get(blockEntity);
     }
 
     /**
@@ -180,7 +888,7 @@ public class BlockEntityFields<B extends BlockEntity>
      */
     public double getFieldValueDouble(String name, B blockEntity)
     {
-        return getFieldValue(name, Double.class, blockEntity);
+        return doubleHandle(name).get(blockEntity);
     }
 
     /**
@@ -192,7 +900,7 @@ public class BlockEntityFields<B extends BlockEntity>
      */
     public boolean getFieldValueBoolean(String name, B blockEntity)
     {
-        return getFieldValue(name, Boolean.class, blockEntity);
+        return booleanHandle(name).get(blockEntity);
     }
 
     /**
@@ -204,7 +912,7 @@ public class BlockEntityFields<B extends BlockEntity>
      */
     public String getFieldValueString(String name, B blockEntity)
     {
-        return getFieldValue(name, String.class, blockEntity);
+        return objectHandle(name, String.class).get(blockEntity);
     }
     //endregion
 
@@ -220,7 +928,9 @@ public class BlockEntityFields<B extends BlockEntity>
      */
     public <T> void setFieldValue(String name, Class<T> type, B blockEntity, T value)
     {
-        getField(name, type).set(blockEntity, value);
+        // rejects a value of the wrong type before it reaches the setter
+        getField(name, type);
+        getHandle(name).setBoxed(blockEntity, value);
     }
 
     /**
@@ -232,7 +942,7 @@ public class BlockEntityFields<B extends BlockEntity>
      */
     public void setFieldValueInt(String name, B blockEntity, int value)
     {
-        setFieldValue(name, Integer.class, blockEntity, value);
+        intHandle(name).set(blockEntity, value);
     }
 
     /**
@@ -244,7 +954,7 @@ public class BlockEntityFields<B extends BlockEntity>
      */
     public void setFieldValueLong(String name, B blockEntity, long value)
     {
-        setFieldValue(name, Long.class, blockEntity, value);
+        longHandle(name).set(blockEntity, value);
     }
 
     /**
@@ -256,7 +966,7 @@ public class BlockEntityFields<B extends BlockEntity>
      */
     public void setFieldValueFloat(String name, B blockEntity, float value)
     {
-        setFieldValue(name, Float.class, blockEntity, value);
+        floatHandle(name).set(blockEntity, value);
     }
 
     /**
@@ -268,7 +978,7 @@ public class BlockEntityFields<B extends BlockEntity>
      */
     public void setFieldValueDouble(String name, B blockEntity, double value)
     {
-        setFieldValue(name, Double.class, blockEntity, value);
+        doubleHandle(name).set(blockEntity, value);
     }
 
     /**
@@ -280,7 +990,7 @@ public class BlockEntityFields<B extends BlockEntity>
      */
     public void setFieldValueBoolean(String name, B blockEntity, boolean value)
     {
-        setFieldValue(name, Boolean.class, blockEntity, value);
+        booleanHandle(name).set(blockEntity, value);
     }
 
     /**
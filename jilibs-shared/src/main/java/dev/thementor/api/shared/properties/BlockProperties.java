@@ -113,6 +113,12 @@ public class BlockProperties<T extends BlockEntity>
      */
     private boolean shouldTick;
 
+    /**
+     * Indicates whether the server-side ticking of the block entity is handled by the level-wide batched scheduler
+     * instead of a vanilla per-entity ticker.
+     */
+    private boolean shouldBatchTick;
+
     /**
      * Factory for creating BlockEntities for this block.
      */
@@ -159,6 +165,7 @@ public class BlockProperties<T extends BlockEntity>
 
         this.blockEntityTypeSupplier = blockEntityTypeSupplier;
         shouldTick = false;
+        shouldBatchTick = false;
         rightClickToOpenGui = false;
         dropContentsOnBreak = false;
 
@@ -376,6 +383,16 @@ public class BlockProperties<T extends BlockEntity>
         return this.shouldTick;
     }
 
+    /**
+     * Retrieves whether the block entity is ticked on the server by the level-wide batched scheduler.
+     *
+     * @return true if the block entity should be batch ticked, false otherwise
+     */
+    public boolean isBatchTicked()
+    {
+        return this.shouldTick && this.shouldBatchTick;
+    }
+
     /**
      * Retrieves the factory for creating BlockEntities for this block.
      *
@@ -925,6 +942,31 @@ public class BlockProperties<T extends BlockEntity>
         return this;
     }
 
+    /**
+     * Marks the block as tickable and hands its server-side ticking to the level-wide batched scheduler.
+     *
+     * @return the current instance of BlockProperties for method chaining
+     */
+    public BlockProperties<T> batchTick()
+    {
+        return batchTick(true);
+    }
+
+    /**
+     * Sets whether the server-side ticking of the block entity is handled by the level-wide batched scheduler.
+     * Enabling it also marks the block as tickable.
+     *
+     * @param flag true to batch tick the block entity, false to use a vanilla per-entity ticker
+     * @return the current instance of BlockProperties for method chaining
+     */
+    public BlockProperties<T> batchTick(boolean flag)
+    {
+        this.shouldBatchTick = flag;
+        if(flag)
+            this.shouldTick = true;
+        return this;
+    }
+
     /**
      * Adds a GUI to the block.
      *
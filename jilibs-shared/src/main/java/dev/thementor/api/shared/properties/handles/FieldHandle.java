@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.thementor.api.shared.properties.handles;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+import dev.thementor.api.shared.annotations.*;
+import dev.thementor.api.shared.properties.BlockEntityFields;
+
+/**
+ * Represents a field of a BlockEntity resolved once at registration. Handles are stored by index in
+ * {@code BlockEntityFields}, so reading one never hashes the field name or checks the value type again.
+ *
+ * @param <B> the type of BlockEntity the field belongs to
+ */
+@SuppressWarnings("unused")
+@Developer("TheMentor")
+@CreatedAt("2026-10-18")
+@Repository("https://github.com/drkhodakarami/")
+@Discord("https://discord.gg/pmM4emCbuH")
+@Youtube("https://www.youtube.com/@TheMentorCodeLab")
+
+public abstract class FieldHandle<B extends BlockEntity>
+{
+    /**
+     * The fields the handle belongs to, notified of every write. Null for a handle used on its own.
+     */
+    private final @Nullable BlockEntityFields<B> owner;
+
+    /**
+     * The name the field was registered with.
+     */
+    private final String name;
+
+    /**
+     * The position of the handle in the compiled field table.
+     */
+    private final int index;
+
+    /**
+     * Constructs a new handle for the named field at the given index.
+     *
+     * @param owner the fields the handle belongs to, notified of every write
+     * @param name  the name of the field
+     * @param index the position of the handle in the compiled field table
+     */
+    protected FieldHandle(@Nullable BlockEntityFields<B> owner, String name, int index)
+    {
+        this.owner = owner;
+        this.name = name;
+        this.index = index;
+    }
+
+    /**
+     * Retrieves the name the field was registered with.
+     *
+     * @return the name of the field
+     */
+    public String getName()
+    {
+        return this.name;
+    }
+
+    /**
+     * Retrieves the position of the handle in the compiled field table.
+     *
+     * @return the index of the handle
+     */
+    public int getIndex()
+    {
+        return this.index;
+    }
+
+    /**
+     * Checks whether the owning fields have listeners, so a write has to compare the old and the new value.
+     *
+     * @return true if a write of the field is observed
+     */
+    protected boolean isObserved()
+    {
+        return this.owner != null && this.owner.hasListeners();
+    }
+
+    /**
+     * Reports a write through the setter to the owning fields, advancing the version of the field and publishing the
+     * change to the listeners when the value changed.
+     *
+     * @param blockEntity the BlockEntity that was written
+     * @param changed     whether the value of the field changed
+     */
+    protected void written(B blockEntity, boolean changed)
+    {
+        if(this.owner == null)
+            return;
+
+        if(changed)
+            this.owner.markChanged(this.index, blockEntity);
+        else
+            this.owner.markWritten(this.index);
+    }
+
+    /**
+     * Retrieves the value of the field as an object. This boxes primitive values and is meant for generic code only.
+     *
+     * @param blockEntity the BlockEntity to read from
+     * @return the boxed value of the field
+     */
+    public abstract Object getBoxed(B blockEntity);
+
+    /**
+     * Sets the value of the field from an object. This unboxes primitive values and is meant for generic code only.
+     *
+     * @param blockEntity the BlockEntity to write to
+     * @param value       the boxed value to set
+     */
+    public abstract void setBoxed(B blockEntity, Object value);
+}
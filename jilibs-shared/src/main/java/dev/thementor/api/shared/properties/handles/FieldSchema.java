@@ -0,0 +1,514 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.thementor.api.shared.properties.handles;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.network.Utf8String;
+import net.minecraft.network.VarInt;
+import net.minecraft.network.VarLong;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.storage.ValueInput;
+import net.minecraft.world.level.storage.ValueOutput;
+
+import dev.thementor.api.shared.annotations.*;
+import dev.thementor.api.shared.properties.BlockEntityFields;
+
+/**
+ * Represents a fixed list of primitive and String fields of a {@code BlockEntityFields} collection, generated once per
+ * BlockEntityType. The schema only stores the keys, field indices and value kinds, the handles are resolved from the
+ * fields of the instance passed to every method, so one schema serves every BlockEntity of the type. It writes and
+ * reads the fields to and from a {@link ValueOutput}/{@link ValueInput} with keys interned at registration, and
+ * provides a compact {@link StreamCodec} and delta encoding that var-int pack ints and longs.
+ * <p>
+ * Every instance of the type has to register the same fields in the same order, and the accessors of the fields have
+ * to read and write through their BlockEntity parameter instead of a captured instance.
+ *
+ * @param <B> the type of BlockEntity the fields belong to
+ */
+@SuppressWarnings("unused")
+@Developer("TheMentor")
+@CreatedAt("2026-10-18")
+@Repository("https://github.com/drkhodakarami/")
+@Discord("https://discord.gg/pmM4emCbuH")
+@Youtube("https://www.youtube.com/@TheMentorCodeLab")
+
+public final class FieldSchema<B extends BlockEntity>
+{
+    /**
+     * The maximum length of a String field value on the wire.
+     */
+    private static final int MAX_STRING_LENGTH = 32767;
+
+    /**
+     * The kinds of value a schema can hold, resolved once from the handles the schema was generated from.
+     */
+    private enum Kind
+    {
+        INT, LONG, FLOAT, DOUBLE, BOOLEAN, STRING
+    }
+
+    /**
+     * The keys of the fields, interned once.
+     */
+    private final String[] keys;
+
+    /**
+     * The indices of the fields in the compiled handle table, in the same order as the keys.
+     */
+    private final int[] indices;
+
+    /**
+     * The kinds of the fields, in the same order as the keys.
+     */
+    private final Kind[] kinds;
+
+    /**
+     * The position of every key in the schema.
+     */
+    private final Map<String, Integer> positions = new HashMap<>();
+
+    /**
+     * The codec that sends a snapshot of the fields.
+     */
+    private final StreamCodec<ByteBuf, Snapshot> streamCodec = StreamCodec.of(this::encode, this::decode);
+
+    /**
+     * Constructs a new schema from the keys and compiled handles of the fields. Only the indices and kinds of the
+     * handles are kept.
+     *
+     * @param keys    the keys of the fields
+     * @param handles the compiled handles of the fields, in the same order as the keys
+     */
+    public FieldSchema(String[] keys, FieldHandle<B>[] handles)
+    {
+        if(keys.length != handles.length)
+            throw new IllegalArgumentException("Every field of a schema needs exactly one key");
+
+        this.keys = new String[keys.length];
+        this.indices = new int[keys.length];
+        this.kinds = new Kind[keys.length];
+
+        for(int i = 0; i < keys.length; i++)
+        {
+            this.keys[i] = keys[i].intern();
+            this.indices[i] = handles[i].getIndex();
+            this.kinds[i] = kindOf(handles[i]);
+            this.positions.put(this.keys[i], i);
+        }
+    }
+
+    /**
+     * Retrieves the number of fields in the schema.
+     *
+     * @return the number of fields in the schema
+     */
+    public int size()
+    {
+        return this.keys.length;
+    }
+
+    /**
+     * Retrieves the key of the field at a position of the schema.
+     *
+     * @param position the position of the field
+     * @return the key of the field
+     */
+    public String getKey(int position)
+    {
+        return this.keys[position];
+    }
+
+    /**
+     * Retrieves the position of a key in the schema.
+     *
+     * @param key the key of the field
+     * @return the position of the field, or -1 if the schema has no such key
+     */
+    public int positionOf(String key)
+    {
+        Integer position = this.positions.get(key);
+        return position != null ? position : -1;
+    }
+
+    /**
+     * Writes every field of the BlockEntity to a write view.
+     *
+     * @param fields      the fields of the BlockEntity
+     * @param blockEntity the BlockEntity to read the values from
+     * @param view        the write view where the data should be written
+     */
+    @SuppressWarnings("unchecked")
+    public void save(BlockEntityFields<B> fields, B blockEntity, ValueOutput view)
+    {
+        for(int i = 0; i < this.keys.length; i++)
+        {
+            FieldHandle<B> handle = fields.getHandle(this.indices[i]);
+            switch(this.kinds[i])
+            {
+                case INT -> view.putInt(this.keys[i], ((IntFieldHandle<B>) handle).get(blockEntity));
+                case LONG -> view.putLong(this.keys[i], ((LongFieldHandle<B>) handle).get(blockEntity));
+                case FLOAT -> view.putFloat(this.keys[i], ((FloatFieldHandle<B>) handle).get(blockEntity));
+                case DOUBLE -> view.putDouble(this.keys[i], ((DoubleFieldHandle<B>) handle).get(blockEntity));
+                case BOOLEAN -> view.putBoolean(this.keys[i], ((BooleanFieldHandle<B>) handle).get(blockEntity));
+                case STRING ->
+                {
+                    String value = ((ObjectFieldHandle<String, B>) handle).get(blockEntity);
+                    if(value != null)
+                        view.putString(this.keys[i], value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads every field from a read view into the BlockEntity. Missing keys keep the current value.
+     *
+     * @param fields      the fields of the BlockEntity
+     * @param blockEntity the BlockEntity to write the values to
+     * @param view        the read view from which the data should be read
+     */
+    @SuppressWarnings("unchecked")
+    public void load(BlockEntityFields<B> fields, B blockEntity, ValueInput view)
+    {
+        for(int i = 0; i < this.keys.length; i++)
+        {
+            FieldHandle<B> handle = fields.getHandle(this.indices[i]);
+            switch(this.kinds[i])
+            {
+                case INT ->
+                {
+                    IntFieldHandle<B> typed = (IntFieldHandle<B>) handle;
+                    typed.set(blockEntity, view.getIntOr(this.keys[i], typed.get(blockEntity)));
+                }
+                case LONG ->
+                {
+                    LongFieldHandle<B> typed = (LongFieldHandle<B>) handle;
+                    typed.set(blockEntity, view.getLongOr(this.keys[i], typed.get(blockEntity)));
+                }
+                case FLOAT ->
+                {
+                    FloatFieldHandle<B> typed = (FloatFieldHandle<B>) handle;
+                    typed.set(blockEntity, view.getFloatOr(this.keys[i], typed.get(blockEntity)));
+                }
+                case DOUBLE ->
+                {
+                    DoubleFieldHandle<B> typed = (DoubleFieldHandle<B>) handle;
+                    typed.set(blockEntity, view.getDoubleOr(this.keys[i], typed.get(blockEntity)));
+                }
+                case BOOLEAN ->
+                {
+                    BooleanFieldHandle<B> typed = (BooleanFieldHandle<B>) handle;
+                    typed.set(blockEntity, view.getBooleanOr(this.keys[i], typed.get(blockEntity)));
+                }
+                case STRING ->
+                {
+                    ObjectFieldHandle<String, B> typed = (ObjectFieldHandle<String, B>) handle;
+                    view.getString(this.keys[i]).ifPresent(value -> typed.set(blockEntity, value));
+                }
+            }
+        }
+    }
+
+    /**
+     * Captures the current values of the fields. Numbers are stored as raw bits, so capturing only allocates the two
+     * arrays of the snapshot and two snapshots are compared without boxing.
+     *
+     * @param fields      the fields of the BlockEntity
+     * @param blockEntity the BlockEntity to read the values from
+     * @return the captured snapshot
+     */
+    @SuppressWarnings("unchecked")
+    public Snapshot capture(BlockEntityFields<B> fields, B blockEntity)
+    {
+        long[] values = new long[this.keys.length];
+        String[] strings = new String[this.keys.length];
+
+        for(int i = 0; i < this.keys.length; i++)
+        {
+            FieldHandle<B> handle = fields.getHandle(this.indices[i]);
+            switch(this.kinds[i])
+            {
+                case INT -> values[i] = ((IntFieldHandle<B>) handle).get(blockEntity);
+                case LONG -> values[i] = ((LongFieldHandle<B>) handle).get(blockEntity);
+                case FLOAT -> values[i] = Float.floatToRawIntBits(((FloatFieldHandle<B>) handle).get(blockEntity));
+                case DOUBLE -> values[i] = Double.doubleToRawLongBits(((DoubleFieldHandle<B>) handle).get(blockEntity));
+                case BOOLEAN -> values[i] = ((BooleanFieldHandle<B>) handle).get(blockEntity) ? 1 : 0;
+                case STRING -> strings[i] = ((ObjectFieldHandle<String, B>) handle).get(blockEntity);
+            }
+        }
+
+        return new Snapshot(values, strings);
+    }
+
+    /**
+     * Applies a snapshot to the fields of the BlockEntity through their setters.
+     *
+     * @param fields      the fields of the BlockEntity
+     * @param blockEntity the BlockEntity to write the values to
+     * @param snapshot    the snapshot to apply
+     */
+    public void apply(BlockEntityFields<B> fields, B blockEntity, Snapshot snapshot)
+    {
+        for(int i = 0; i < this.keys.length; i++)
+            applyValue(fields, blockEntity, i, snapshot.values()[i], snapshot.strings()[i]);
+    }
+
+    /**
+     * Retrieves the codec that sends a full snapshot of the fields. Both sides need the same schema.
+     *
+     * @return the stream codec of this schema
+     */
+    public StreamCodec<ByteBuf, Snapshot> streamCodec()
+    {
+        return this.streamCodec;
+    }
+
+    /**
+     * Encodes the fields of a snapshot that differ from a previous one as pairs of schema position and value. The
+     * values are written with the same packing as the {@link #streamCodec()}, the field names and types are never
+     * sent since both sides share the schema.
+     *
+     * @param current  the snapshot to encode
+     * @param previous the snapshot last sent, or null to encode every included field
+     * @param include  the positions that may be encoded, or null to include every field
+     * @return the encoded changes, or null if no included field changed
+     */
+    public byte @Nullable [] encodeDelta(Snapshot current, @Nullable Snapshot previous, boolean @Nullable [] include)
+    {
+        int count = 0;
+        for(int i = 0; i < this.keys.length; i++)
+            if(isDeltaEntry(current, previous, include, i))
+                count++;
+
+        if(count == 0)
+            return null;
+
+        ByteBuf buf = Unpooled.buffer();
+        VarInt.write(buf, count);
+        for(int i = 0; i < this.keys.length; i++)
+        {
+            if(!isDeltaEntry(current, previous, include, i))
+                continue;
+
+            VarInt.write(buf, i);
+            writeValue(buf, i, current);
+        }
+
+        byte[] bytes = new byte[buf.readableBytes()];
+        buf.readBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * Decodes changes written by {@link #encodeDelta} and applies them to the fields of the BlockEntity.
+     *
+     * @param fields      the fields of the BlockEntity
+     * @param blockEntity the BlockEntity to write the values to
+     * @param data        the encoded changes
+     */
+    public void applyDelta(BlockEntityFields<B> fields, B blockEntity, byte[] data)
+    {
+        if(data.length == 0)
+            return;
+
+        ByteBuf buf = Unpooled.wrappedBuffer(data);
+        long[] values = new long[1];
+        String[] strings = new String[1];
+        int count = VarInt.read(buf);
+
+        for(int entry = 0; entry < count; entry++)
+        {
+            int position = VarInt.read(buf);
+            if(position < 0 || position >= this.keys.length)
+                throw new IllegalArgumentException("Field position " + position + " is outside of the schema");
+
+            readValue(buf, position, values, strings, 0);
+            applyValue(fields, blockEntity, position, values[0], strings[0]);
+        }
+    }
+
+    /**
+     * Checks if the field at a position is part of a delta.
+     *
+     * @param current  the snapshot to encode
+     * @param previous the snapshot last sent, or null
+     * @param include  the positions that may be encoded, or null
+     * @param position the position of the field
+     * @return true if the field has to be encoded
+     */
+    private boolean isDeltaEntry(Snapshot current, @Nullable Snapshot previous, boolean @Nullable [] include, int position)
+    {
+        if(include != null && !include[position])
+            return false;
+        if(previous == null)
+            return true;
+
+        if(this.kinds[position] == Kind.STRING)
+            return !Objects.equals(current.strings()[position], previous.strings()[position]);
+        return current.values()[position] != previous.values()[position];
+    }
+
+    /**
+     * Writes a single value of a field through its handle.
+     *
+     * @param fields      the fields of the BlockEntity
+     * @param blockEntity the BlockEntity to write the value to
+     * @param position    the position of the field
+     * @param bits        the raw bits of a numeric or boolean value
+     * @param string      the value of a String field
+     */
+    @SuppressWarnings("unchecked")
+    private void applyValue(BlockEntityFields<B> fields, B blockEntity, int position, long bits, @Nullable String string)
+    {
+        FieldHandle<B> handle = fields.getHandle(this.indices[position]);
+        switch(this.kinds[position])
+        {
+            case INT -> ((IntFieldHandle<B>) handle).set(blockEntity, (int) bits);
+            case LONG -> ((LongFieldHandle<B>) handle).set(blockEntity, bits);
+            case FLOAT -> ((FloatFieldHandle<B>) handle).set(blockEntity, Float.intBitsToFloat((int) bits));
+            case DOUBLE -> ((DoubleFieldHandle<B>) handle).set(blockEntity, Double.longBitsToDouble(bits));
+            case BOOLEAN -> ((BooleanFieldHandle<B>) handle).set(blockEntity, bits != 0);
+            case STRING -> ((ObjectFieldHandle<String, B>) handle).set(blockEntity, string);
+        }
+    }
+
+    /**
+     * Writes the value at a position of a snapshot, var-int packing ints and longs.
+     *
+     * @param buf      the buffer to write to
+     * @param position the position of the field
+     * @param snapshot the snapshot holding the value
+     */
+    private void writeValue(ByteBuf buf, int position, Snapshot snapshot)
+    {
+        long bits = snapshot.values()[position];
+        switch(this.kinds[position])
+        {
+            case INT -> VarInt.write(buf, (int) bits);
+            case LONG -> VarLong.write(buf, bits);
+            case FLOAT -> buf.writeInt((int) bits);
+            case DOUBLE -> buf.writeLong(bits);
+            case BOOLEAN -> buf.writeBoolean(bits != 0);
+            case STRING ->
+            {
+                String value = snapshot.strings()[position];
+                buf.writeBoolean(value != null);
+                if(value != null)
+                    Utf8String.write(buf, value, MAX_STRING_LENGTH);
+            }
+        }
+    }
+
+    /**
+     * Reads the value of the field at a position into the given arrays.
+     *
+     * @param buf      the buffer to read from
+     * @param position the position of the field
+     * @param values   the array receiving numeric and boolean values as raw bits
+     * @param strings  the array receiving String values
+     * @param target   the index in the arrays to read into
+     */
+    private void readValue(ByteBuf buf, int position, long[] values, String[] strings, int target)
+    {
+        switch(this.kinds[position])
+        {
+            case INT -> values[target] = VarInt.read(buf);
+            case LONG -> values[target] = VarLong.read(buf);
+            case FLOAT -> values[target] = buf.readInt();
+            case DOUBLE -> values[target] = buf.readLong();
+            case BOOLEAN -> values[target] = buf.readBoolean() ? 1 : 0;
+            case STRING -> strings[target] = buf.readBoolean() ? Utf8String.read(buf, MAX_STRING_LENGTH) : null;
+        }
+    }
+
+    /**
+     * Writes a full snapshot to a buffer.
+     *
+     * @param buf      the buffer to write to
+     * @param snapshot the snapshot to write
+     */
+    private void encode(ByteBuf buf, Snapshot snapshot)
+    {
+        for(int i = 0; i < this.keys.length; i++)
+            writeValue(buf, i, snapshot);
+    }
+
+    /**
+     * Reads a full snapshot from a buffer.
+     *
+     * @param buf the buffer to read from
+     * @return the read snapshot
+     */
+    private Snapshot decode(ByteBuf buf)
+    {
+        long[] values = new long[this.keys.length];
+        String[] strings = new String[this.keys.length];
+
+        for(int i = 0; i < this.keys.length; i++)
+            readValue(buf, i, values, strings, i);
+
+        return new Snapshot(values, strings);
+    }
+
+    /**
+     * Resolves the kind of value a handle holds.
+     *
+     * @param handle the handle to resolve
+     * @return the kind of the handle
+     */
+    private static Kind kindOf(FieldHandle<?> handle)
+    {
+        return switch(handle)
+        {
+            case IntFieldHandle<?> ignored -> Kind.INT;
+            case LongFieldHandle<?> ignored -> Kind.LONG;
+            case FloatFieldHandle<?> ignored -> Kind.FLOAT;
+            case DoubleFieldHandle<?> ignored -> Kind.DOUBLE;
+            case BooleanFieldHandle<?> ignored -> Kind.BOOLEAN;
+            case ObjectFieldHandle<?, ?> objectHandle when objectHandle.getType() == String.class -> Kind.STRING;
+            default -> throw new IllegalArgumentException("Field with name '" + handle.getName() + "' can not be part of a schema, only primitive and String fields can");
+        };
+    }
+
+    /**
+     * Checks if a handle holds a value a schema can carry.
+     *
+     * @param handle the handle to check
+     * @return true if the handle is a primitive or String field
+     */
+    public static boolean isSupported(FieldHandle<?> handle)
+    {
+        return !(handle instanceof ObjectFieldHandle<?, ?> objectHandle) || objectHandle.getType() == String.class;
+    }
+
+    /**
+     * Represents the values of the fields at one point in time. Numbers are kept as raw bits in {@code values},
+     * Strings in {@code strings}, both indexed like the schema.
+     *
+     * @param values  the raw bits of the numeric and boolean fields
+     * @param strings the values of the String fields
+     */
+    public record Snapshot(long[] values, String[] strings) {}
+}
\ No newline at end of file
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.thementor.api.shared.properties.handles;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+import dev.thementor.api.shared.annotations.*;
+import dev.thementor.api.shared.properties.BlockEntityFields;
+
+/**
+ * Represents a compiled integer field of a BlockEntity. Reads and writes go straight through primitive accessors without
+ * boxing.
+ *
+ * @param <B> the type of BlockEntity the field belongs to
+ */
+@SuppressWarnings("unused")
+@Developer("TheMentor")
+@CreatedAt("2026-10-18")
+@Repository("https://github.com/drkhodakarami/")
+@Discord("https://discord.gg/pmM4emCbuH")
+@Youtube("https://www.youtube.com/@TheMentorCodeLab")
+
+public final class IntFieldHandle<B extends BlockEntity> extends FieldHandle<B>
+{
+    /**
+     * Represents a functional interface for reading an integer value from a block entity.
+     *
+     * @param <B> the type of the block entity
+     */
+    @FunctionalInterface
+    public interface Getter<B extends BlockEntity>
+    {
+        /**
+         * Retrieves the value from the specified block entity.
+         *
+         * @param blockEntity the block entity from which to retrieve the value
+         * @return the retrieved value
+         */
+        int get(B blockEntity);
+    }
+
+    /**
+     * Represents a functional interface for writing an integer value to a block entity.
+     *
+     * @param <B> the type of the block entity
+     */
+    @FunctionalInterface
+    public interface Setter<B extends BlockEntity>
+    {
+        /**
+         * Sets the value on the specified block entity.
+         *
+         * @param blockEntity the block entity on which to set the value
+         * @param value       the value to set
+         */
+        void set(B blockEntity, int value);
+    }
+
+    /**
+     * The value returned when the field has no getter.
+     */
+    private final int value;
+
+    /**
+     * The optional getter of the field.
+     */
+    private final @Nullable Getter<B> getter;
+
+    /**
+     * The optional setter of the field.
+     */
+    private final @Nullable Setter<B> setter;
+
+    /**
+     * Constructs a new integer field handle.
+     *
+     * @param owner  the fields the handle belongs to, notified of every write
+     * @param name   the name of the field
+     * @param index  the position of the handle in the compiled field table
+     * @param value  the value returned when the field has no getter
+     * @param getter the optional getter of the field
+     * @param setter the optional setter of the field
+     */
+    public IntFieldHandle(@Nullable BlockEntityFields<B> owner, String name, int index, int value, @Nullable Getter<B> getter, @Nullable Setter<B> setter)
+    {
+        super(owner, name, index);
+        this.value = value;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    /**
+     * Retrieves the value of the field from the specified BlockEntity.
+     *
+     * @param blockEntity the BlockEntity to read from
+     * @return the value of the field
+     */
+    public int get(B blockEntity)
+    {
+        return this.getter != null ? this.getter.get(blockEntity) : this.value;
+    }
+
+    /**
+     * Sets the value of the field on the specified BlockEntity. Does nothing when the field has no setter, every
+     * other write advances the version of the field and publishes a change of the value to the listeners of the owner.
+     *
+     * @param blockEntity the BlockEntity to write to
+     * @param value       the new value of the field
+     */
+    public void set(B blockEntity, int value)
+    {
+        if(this.setter == null)
+            return;
+
+        if(!isObserved())
+        {
+            this.setter.set(blockEntity, value);
+            written(blockEntity, false);
+            return;
+        }
+
+        int previous = get(blockEntity);
+        this.setter.set(blockEntity, value);
+        written(blockEntity, previous != get(blockEntity));
+    }
+
+    @Override
+    public Object getBoxed(B blockEntity)
+    {
+        return get(blockEntity);
+    }
+
+    @Override
+    public void setBoxed(B blockEntity, Object value)
+    {
+        set(blockEntity, (Integer) value);
+    }
+}
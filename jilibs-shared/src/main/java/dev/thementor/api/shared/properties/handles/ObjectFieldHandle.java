@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.thementor.api.shared.properties.handles;
+
+import java.util.Objects;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+import dev.thementor.api.shared.annotations.*;
+import dev.thementor.api.shared.interfaces.IFieldGetter;
+import dev.thementor.api.shared.interfaces.IFieldSetter;
+import dev.thementor.api.shared.properties.BlockEntityFields;
+
+/**
+ * Represents a compiled field of a BlockEntity holding a non primitive value.
+ *
+ * @param <T> the type of the value stored in the field
+ * @param <B> the type of BlockEntity the field belongs to
+ */
+@SuppressWarnings("unused")
+@Developer("TheMentor")
+@CreatedAt("2026-10-18")
+@Repository("https://github.com/drkhodakarami/")
+@Discord("https://discord.gg/pmM4emCbuH")
+@Youtube("https://www.youtube.com/@TheMentorCodeLab")
+
+public final class ObjectFieldHandle<T, B extends BlockEntity> extends FieldHandle<B>
+{
+    /**
+     * The type of the value stored in the field.
+     */
+    private final Class<T> type;
+
+    /**
+     * The value returned when the field has no getter.
+     */
+    private final T value;
+
+    /**
+     * The optional getter of the field.
+     */
+    private final @Nullable IFieldGetter<T, B> getter;
+
+    /**
+     * The optional setter of the field.
+     */
+    private final @Nullable IFieldSetter<T, B> setter;
+
+    /**
+     * Constructs a new object field handle.
+     *
+     * @param owner  the fields the handle belongs to, notified of every write
+     * @param name   the name of the field
+     * @param index  the position of the handle in the compiled field table
+     * @param type   the type of the value stored in the field
+     * @param value  the value returned when the field has no getter
+     * @param getter the optional getter of the field
+     * @param setter the optional setter of the field
+     */
+    public ObjectFieldHandle(@Nullable BlockEntityFields<B> owner, String name, int index, Class<T> type, T value, @Nullable IFieldGetter<T, B> getter, @Nullable IFieldSetter<T, B> setter)
+    {
+        super(owner, name, index);
+        this.type = type;
+        this.value = value;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    /**
+     * Retrieves the type of the value stored in the field.
+     *
+     * @return the value type
+     */
+    public Class<T> getType()
+    {
+        return this.type;
+    }
+
+    /**
+     * Retrieves the value of the field from the specified BlockEntity.
+     *
+     * @param blockEntity the BlockEntity to read from
+     * @return the value of the field
+     */
+    public T get(B blockEntity)
+    {
+        return this.getter != null ? this.getter.get(blockEntity) : this.value;
+    }
+
+    /**
+     * Sets the value of the field on the specified BlockEntity. Does nothing when the field has no setter, every
+     * other write advances the version of the field and publishes a change of the value to the listeners of the owner.
+     *
+     * @param blockEntity the BlockEntity to write to
+     * @param value       the new value of the field
+     */
+    public void set(B blockEntity, T value)
+    {
+        if(this.setter == null)
+            return;
+
+        if(!isObserved())
+        {
+            this.setter.set(blockEntity, value);
+            written(blockEntity, false);
+            return;
+        }
+
+        T previous = get(blockEntity);
+        this.setter.set(blockEntity, value);
+        written(blockEntity, !Objects.equals(previous, get(blockEntity)));
+    }
+
+    @Override
+    public Object getBoxed(B blockEntity)
+    {
+        return get(blockEntity);
+    }
+
+    @Override
+    public void setBoxed(B blockEntity, Object value)
+    {
+        set(blockEntity, this.type.cast(value));
+    }
+}
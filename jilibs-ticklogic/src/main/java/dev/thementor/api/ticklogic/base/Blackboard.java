@@ -16,6 +16,7 @@
 
 package dev.thementor.api.ticklogic.base;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -29,15 +30,65 @@ import net.minecraft.world.phys.Vec3;
 
 /**
  * A blackboard used to store and retrieve data in a key-value format.
+ *
+ * <p>Values stored under a {@link BlackboardKey} live in fixed slots of primitive and object arrays, so the typed
+ * accessors are array loads without hashing or boxing. The string accessors stay for compatibility; they use the slot
+ * of a key registered under the same name and fall back to a map for every other name.</p>
  */
 @SuppressWarnings("unused")
 public class Blackboard
 {
+    private static final Object[] NO_OBJECTS = new Object[0];
+    private static final int[] NO_INTS = new int[0];
+    private static final long[] NO_LONGS = new long[0];
+    private static final double[] NO_DOUBLES = new double[0];
+    private static final boolean[] NO_FLAGS = new boolean[0];
+
     /**
-     * The data stored in the blackboard.
+     * The data stored under names without a registered key.
      */
     private final Map<String, Object> data = new HashMap<>();
 
+    /**
+     * The values of object keys by slot, null when not set.
+     */
+    private Object[] objects = NO_OBJECTS;
+
+    /**
+     * The values of int keys by slot.
+     */
+    private int[] ints = NO_INTS;
+
+    /**
+     * The values of long keys by slot.
+     */
+    private long[] longs = NO_LONGS;
+
+    /**
+     * The values of double keys by slot.
+     */
+    private double[] doubles = NO_DOUBLES;
+
+    /**
+     * The write counter of every key, indexed by key ordinal.
+     */
+    private int[] versions = NO_INTS;
+
+    /**
+     * Whether the int slots hold a value.
+     */
+    private boolean[] intsSet = NO_FLAGS;
+
+    /**
+     * Whether the long slots hold a value.
+     */
+    private boolean[] longsSet = NO_FLAGS;
+
+    /**
+     * Whether the double slots hold a value.
+     */
+    private boolean[] doublesSet = NO_FLAGS;
+
     /**
      * Constructs a new Blackboard instance.
      */
@@ -53,6 +104,20 @@ public class Blackboard
      */
     public void put(String key, Object value)
     {
+        BlackboardKey<?> typed = BlackboardKey.lookup(key);
+
+        if(typed != null)
+        {
+            if(typed.accepts(value))
+            {
+                write(typed, value);
+                data.remove(key);
+                return;
+            }
+
+            remove(typed);
+        }
+
         data.put(key, value);
     }
 
@@ -67,7 +132,8 @@ public class Blackboard
     @Nullable
     public <T> T get(String key, Class<T> type)
     {
-        Object entry = data.get(key);
+        BlackboardKey<?> typed = BlackboardKey.lookup(key);
+        Object entry = typed != null && has(typed) ? read(typed) : data.get(key);
 
         if(entry == null)
             return null;
@@ -198,6 +264,234 @@ public class Blackboard
         return value == null ? Vec2.ZERO : value;
     }
 
+    //region TYPED KEYS
+    /**
+     * Retrieves the value stored under a typed key. Primitive keys are boxed here, use their primitive accessors on
+     * hot paths.
+     *
+     * @param key the key of the value
+     * @param <T> the type of the value
+     * @return the value, or null if not set
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(BlackboardKey<T> key)
+    {
+        return (T) read(key);
+    }
+
+    /**
+     * Stores a value under a typed key.
+     *
+     * @param key   the key of the value
+     * @param value the value to store, or null to remove it
+     * @param <T>   the type of the value
+     */
+    public <T> void put(BlackboardKey<T> key, @Nullable T value)
+    {
+        if(value == null)
+            remove(key);
+        else
+            write(key, value);
+    }
+
+    /**
+     * Determines whether a value is stored under a typed key.
+     *
+     * @param key the key to check
+     * @return true if a value is set, false otherwise
+     */
+    public boolean has(BlackboardKey<?> key)
+    {
+        int index = key.index;
+
+        return switch (key.kind)
+        {
+            case BlackboardKey.INT -> index < intsSet.length && intsSet[index];
+            case BlackboardKey.LONG -> index < longsSet.length && longsSet[index];
+            case BlackboardKey.DOUBLE -> index < doublesSet.length && doublesSet[index];
+            default -> index < objects.length && objects[index] != null;
+        };
+    }
+
+    /**
+     * Removes the value stored under a typed key.
+     *
+     * @param key the key of the value to remove
+     */
+    public void remove(BlackboardKey<?> key)
+    {
+        int index = key.index;
+        touch(key);
+
+        switch (key.kind)
+        {
+            case BlackboardKey.INT -> { if(index < intsSet.length) { intsSet[index] = false; ints[index] = 0; } }
+            case BlackboardKey.LONG -> { if(index < longsSet.length) { longsSet[index] = false; longs[index] = 0; } }
+            case BlackboardKey.DOUBLE -> { if(index < doublesSet.length) { doublesSet[index] = false; doubles[index] = 0; } }
+            default -> { if(index < objects.length) objects[index] = null; }
+        }
+    }
+
+    /**
+     * Retrieves the write counter of a typed key. It advances on every write or removal of the key, so an unchanged
+     * version means the value was not touched.
+     *
+     * @param key the key to check
+     * @return the current version of the key
+     */
+    public int getVersion(BlackboardKey<?> key)
+    {
+        int ordinal = key.ordinal;
+        return ordinal < versions.length ? versions[ordinal] : 0;
+    }
+
+    /**
+     * Retrieves an int value stored under a typed key without boxing.
+     *
+     * @param key the key of the value
+     * @return the value, or 0 if not set
+     */
+    public int getInt(IntKey key)
+    {
+        int index = key.index;
+        return index < ints.length ? ints[index] : 0;
+    }
+
+    /**
+     * Stores an int value under a typed key without boxing.
+     *
+     * @param key   the key of the value
+     * @param value the value to store
+     */
+    public void putInt(IntKey key, int value)
+    {
+        int index = key.index;
+        if(index >= ints.length)
+        {
+            ints = Arrays.copyOf(ints, index + 1);
+            intsSet = Arrays.copyOf(intsSet, index + 1);
+        }
+
+        ints[index] = value;
+        intsSet[index] = true;
+        touch(key);
+    }
+
+    /**
+     * Retrieves a long value stored under a typed key without boxing.
+     *
+     * @param key the key of the value
+     * @return the value, or 0 if not set
+     */
+    public long getLong(LongKey key)
+    {
+        int index = key.index;
+        return index < longs.length ? longs[index] : 0;
+    }
+
+    /**
+     * Stores a long value under a typed key without boxing.
+     *
+     * @param key   the key of the value
+     * @param value the value to store
+     */
+    public void putLong(LongKey key, long value)
+    {
+        int index = key.index;
+        if(index >= longs.length)
+        {
+            longs = Arrays.copyOf(longs, index + 1);
+            longsSet = Arrays.copyOf(longsSet, index + 1);
+        }
+
+        longs[index] = value;
+        longsSet[index] = true;
+        touch(key);
+    }
+
+    /**
+     * Retrieves a double value stored under a typed key without boxing.
+     *
+     * @param key the key of the value
+     * @return the value, or 0 if not set
+     */
+    public double getDouble(DoubleKey key)
+    {
+        int index = key.index;
+        return index < doubles.length ? doubles[index] : 0;
+    }
+
+    /**
+     * Stores a double value under a typed key without boxing.
+     *
+     * @param key   the key of the value
+     * @param value the value to store
+     */
+    public void putDouble(DoubleKey key, double value)
+    {
+        int index = key.index;
+        if(index >= doubles.length)
+        {
+            doubles = Arrays.copyOf(doubles, index + 1);
+            doublesSet = Arrays.copyOf(doublesSet, index + 1);
+        }
+
+        doubles[index] = value;
+        doublesSet[index] = true;
+        touch(key);
+    }
+
+    /**
+     * Reads the value of any key, boxing primitive values.
+     */
+    private @Nullable Object read(BlackboardKey<?> key)
+    {
+        if(!has(key))
+            return null;
+
+        return switch (key.kind)
+        {
+            case BlackboardKey.INT -> ints[key.index];
+            case BlackboardKey.LONG -> longs[key.index];
+            case BlackboardKey.DOUBLE -> doubles[key.index];
+            default -> objects[key.index];
+        };
+    }
+
+    /**
+     * Writes a value accepted by the key into its slot, unboxing primitive values.
+     */
+    private void write(BlackboardKey<?> key, Object value)
+    {
+        switch (key.kind)
+        {
+            case BlackboardKey.INT -> putInt((IntKey) key, (Integer) value);
+            case BlackboardKey.LONG -> putLong((LongKey) key, (Long) value);
+            case BlackboardKey.DOUBLE -> putDouble((DoubleKey) key, (Double) value);
+            default ->
+            {
+                int index = key.index;
+                if(index >= objects.length)
+                    objects = Arrays.copyOf(objects, index + 1);
+                objects[index] = value;
+                touch(key);
+            }
+        }
+    }
+
+    /**
+     * Advances the write version of a key.
+     */
+    private void touch(BlackboardKey<?> key)
+    {
+        int ordinal = key.ordinal;
+        if(ordinal >= versions.length)
+            versions = Arrays.copyOf(versions, ordinal + 1);
+        versions[ordinal]++;
+    }
+    //endregion
+
     /**
      * Removes a value from the blackboard with a given key.
      *
@@ -205,6 +499,10 @@ public class Blackboard
      */
     public void remove(String key)
     {
+        BlackboardKey<?> typed = BlackboardKey.lookup(key);
+        if(typed != null)
+            remove(typed);
+
         data.remove(key);
     }
 
@@ -214,6 +512,16 @@ public class Blackboard
     public void clear()
     {
         data.clear();
+        Arrays.fill(objects, null);
+        Arrays.fill(ints, 0);
+        Arrays.fill(intsSet, false);
+        Arrays.fill(longs, 0);
+        Arrays.fill(longsSet, false);
+        Arrays.fill(doubles, 0);
+        Arrays.fill(doublesSet, false);
+
+        for(int i = 0; i < versions.length; i++)
+            versions[i]++;
     }
 
     /**
@@ -223,7 +531,13 @@ public class Blackboard
      */
     public Map<String, Object> getData()
     {
-        return Collections.unmodifiableMap(data);
+        Map<String, Object> merged = new HashMap<>(data);
+
+        for(BlackboardKey<?> key : BlackboardKey.all())
+            if(has(key))
+                merged.put(key.getName(), read(key));
+
+        return Collections.unmodifiableMap(merged);
     }
 
     /**
@@ -234,7 +548,7 @@ public class Blackboard
     @Override
     public String toString()
     {
-        return "Blackboard {" + data + " }";
+        return "Blackboard {" + getData() + " }";
     }
 
     /**
@@ -246,7 +560,7 @@ public class Blackboard
     public static Blackboard fromMap(Map<String, Object> map)
     {
         Blackboard board = new Blackboard();
-        board.data.putAll(map);
+        map.forEach(board::put);
         return board;
     }
 }
\ No newline at end of file
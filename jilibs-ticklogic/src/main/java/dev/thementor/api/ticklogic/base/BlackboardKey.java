@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.thementor.api.ticklogic.base;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiFunction;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Represents a typed key of a {@link Blackboard}.
+ *
+ * <p>A key is resolved once, usually into a static final field, and gets a fixed slot in the arrays of every
+ * blackboard, so reading or writing it is an array access instead of a string hash. Primitive values use
+ * {@link IntKey}, {@link LongKey} and {@link DoubleKey}, which are stored without boxing. A name always resolves to the
+ * same key, and the string API of the blackboard reads and writes the same slot.</p>
+ *
+ * @param <T> the type of the value stored under the key
+ */
+@SuppressWarnings("unused")
+public class BlackboardKey<T>
+{
+    static final int OBJECT = 0;
+    static final int INT = 1;
+    static final int LONG = 2;
+    static final int DOUBLE = 3;
+
+    /**
+     * The keys by name, read by the string API of the blackboard.
+     */
+    private static final Map<String, BlackboardKey<?>> KEYS = new ConcurrentHashMap<>();
+
+    /**
+     * Every key in registration order.
+     */
+    private static final List<BlackboardKey<?>> ORDERED = new CopyOnWriteArrayList<>();
+
+    /**
+     * The number of slots handed out per kind.
+     */
+    private static final int[] SLOTS = new int[4];
+
+    /**
+     * The name of the key.
+     */
+    private final String name;
+
+    /**
+     * The type of the value stored under the key.
+     */
+    private final Class<T> type;
+
+    /**
+     * The kind of storage the key uses.
+     */
+    final int kind;
+
+    /**
+     * The slot of the key in the storage of its kind.
+     */
+    final int index;
+
+    /**
+     * The position of the key among all keys, used for the write versions of a blackboard.
+     */
+    int ordinal;
+
+    BlackboardKey(String name, Class<T> type, int kind, int index)
+    {
+        this.name = name;
+        this.type = type;
+        this.kind = kind;
+        this.index = index;
+    }
+
+    /**
+     * Resolves the object key with the given name and type.
+     *
+     * @param name the name of the key
+     * @param type the type of the value stored under the key
+     * @param <T>  the type of the value stored under the key
+     * @return the key
+     * @throws IllegalArgumentException if the name is already used by a key of another type
+     */
+    public static <T> BlackboardKey<T> of(String name, Class<T> type)
+    {
+        return resolve(name, type, OBJECT, (keyName, index) -> new BlackboardKey<>(keyName, type, OBJECT, index));
+    }
+
+    /**
+     * Resolves a key, creating it with the next free slot of its kind on first use.
+     */
+    @SuppressWarnings("unchecked")
+    static <K extends BlackboardKey<?>> K resolve(String name, Class<?> type, int kind, BiFunction<String, Integer, K> factory)
+    {
+        BlackboardKey<?> existing = KEYS.get(name);
+        if(existing == null)
+        {
+            synchronized (SLOTS)
+            {
+                existing = KEYS.get(name);
+                if(existing == null)
+                {
+                    K key = factory.apply(name, SLOTS[kind]++);
+                    key.ordinal = ORDERED.size();
+                    KEYS.put(name, key);
+                    ORDERED.add(key);
+                    return key;
+                }
+            }
+        }
+
+        if(existing.kind != kind || existing.type != type)
+            throw new IllegalArgumentException("Blackboard key '" + name + "' is already registered for " + existing.type.getSimpleName());
+
+        return (K) existing;
+    }
+
+    /**
+     * Retrieves the key registered under a name.
+     *
+     * @param name the name of the key
+     * @return the key, or null if no key uses the name
+     */
+    public static @Nullable BlackboardKey<?> lookup(String name)
+    {
+        return KEYS.get(name);
+    }
+
+    /**
+     * Retrieves every key in registration order.
+     *
+     * @return the registered keys
+     */
+    static List<BlackboardKey<?>> all()
+    {
+        return ORDERED;
+    }
+
+    /**
+     * Retrieves the name of the key.
+     *
+     * @return the name of the key
+     */
+    public String getName()
+    {
+        return this.name;
+    }
+
+    /**
+     * Retrieves the type of the value stored under the key.
+     *
+     * @return the value type
+     */
+    public Class<T> getType()
+    {
+        return this.type;
+    }
+
+    /**
+     * Determines whether a value can be stored under this key.
+     *
+     * @param value the value to check
+     * @return true if the value has the type of the key, false otherwise
+     */
+    public boolean accepts(@Nullable Object value)
+    {
+        return this.type.isInstance(value);
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.name;
+    }
+}
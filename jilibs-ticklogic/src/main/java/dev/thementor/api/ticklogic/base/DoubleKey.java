@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.thementor.api.ticklogic.base;
+
+/**
+ * Represents a blackboard key holding a primitive double value, stored in a double array without boxing. Read and write it
+ * with {@link Blackboard#getDouble(DoubleKey)} and {@link Blackboard#putDouble(DoubleKey, double)}.
+ */
+@SuppressWarnings("unused")
+public final class DoubleKey extends BlackboardKey<Double>
+{
+    private DoubleKey(String name, int index)
+    {
+        super(name, Double.class, DOUBLE, index);
+    }
+
+    /**
+     * Resolves the double key with the given name.
+     *
+     * @param name the name of the key
+     * @return the key
+     * @throws IllegalArgumentException if the name is already used by a key of another type
+     */
+    public static DoubleKey of(String name)
+    {
+        return resolve(name, Double.class, DOUBLE, DoubleKey::new);
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.thementor.api.ticklogic.base;
+
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+import dev.thementor.api.shared.enumerations.TickStatus;
+
+/**
+ * Represents the action of an action node. The action receives the tree it runs for, so a node built once can be
+ * shared by every instance of a {@link LogicProgram}.
+ *
+ * @param <T> the type of block entity associated with the tree
+ */
+@FunctionalInterface
+public interface ILogicAction<T extends BlockEntity>
+{
+    /**
+     * Executes the action.
+     *
+     * @param tree the tree instance the action runs for
+     * @return the tick status of the action
+     */
+    TickStatus run(LogicTree<T> tree);
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.thementor.api.ticklogic.base;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import dev.thementor.api.shared.enumerations.TickStatus;
+
+/**
+ * Collects tick counts, cumulative time and result distributions for every node of a {@link LogicProgram}, and keeps
+ * a ring buffer of sampled tree ticks for tracing.
+ *
+ * <p>A profiler is attached to a program with {@link LogicProgram#enableProfiling(int, int)}. Since a program is the
+ * shared definition of a tree, the numbers add up every instance ticking that definition. Programs without a
+ * profiler run their regular evaluation loop, the instrumented loop is only swapped in while profiling is enabled.</p>
+ *
+ * <p>The time of a node includes the time of its children. Nodes that are not compiled, like subclasses of the
+ * library nodes, are measured as a whole through their own {@code tick()}. The profiler is meant to be used from the
+ * thread ticking the trees; the export methods return copies.</p>
+ */
+@SuppressWarnings("unused")
+public final class LogicProfiler
+{
+    /**
+     * The number of statuses recorded per node.
+     */
+    private static final int STATUS_COUNT = TickStatus.values().length;
+
+    /**
+     * The statuses by ordinal, used to decode the trace.
+     */
+    private static final TickStatus[] STATUSES = TickStatus.values();
+
+    /**
+     * The simple class name of every node of the program.
+     */
+    private final String[] types;
+
+    /**
+     * The number of times every node was evaluated.
+     */
+    private final long[] ticks;
+
+    /**
+     * The cumulative nanoseconds spent in every node.
+     */
+    private final long[] nanos;
+
+    /**
+     * The number of results of every node, {@link #STATUS_COUNT} entries per node indexed by status ordinal.
+     */
+    private final long[] results;
+
+    /**
+     * The time every node on the evaluation stack started, indexed by stack position.
+     */
+    final long[] started;
+
+    /**
+     * Every how many tree ticks a tick is written to the trace, or 0 to disable the trace.
+     */
+    private final int sampleInterval;
+
+    // The trace ring buffer, one entry per node evaluated in a sampled tree tick.
+    private final long[] traceTick;
+    private final int[] traceNode;
+    private final byte[] traceStatus;
+    private final long[] traceNanos;
+    private int traceHead;
+    private int traceSize;
+
+    /**
+     * The number of tree ticks since the profiler was created or reset.
+     */
+    private long treeTicks;
+
+    /**
+     * Whether the current tree tick is written to the trace.
+     */
+    private boolean sampling;
+
+    /**
+     * Constructs a profiler for a program.
+     *
+     * @param nodes          the nodes of the program in program order
+     * @param depth          the maximum depth of the program
+     * @param traceCapacity  the number of node evaluations the trace keeps
+     * @param sampleInterval every how many tree ticks a tick is traced
+     */
+    LogicProfiler(Node<?>[] nodes, int depth, int traceCapacity, int sampleInterval)
+    {
+        this.types = new String[nodes.length];
+        for(int i = 0; i < nodes.length; i++)
+            this.types[i] = nodes[i].getClass().getSimpleName();
+
+        this.ticks = new long[nodes.length];
+        this.nanos = new long[nodes.length];
+        this.results = new long[nodes.length * STATUS_COUNT];
+        this.started = new long[Math.max(1, depth)];
+
+        int capacity = Math.max(0, traceCapacity);
+        this.sampleInterval = capacity == 0 ? 0 : Math.max(1, sampleInterval);
+        this.traceTick = new long[capacity];
+        this.traceNode = new int[capacity];
+        this.traceStatus = new byte[capacity];
+        this.traceNanos = new long[capacity];
+    }
+
+    /**
+     * Starts a tree tick and decides whether it is sampled into the trace.
+     */
+    void beginTick()
+    {
+        this.sampling = this.sampleInterval > 0 && this.treeTicks % this.sampleInterval == 0;
+        this.treeTicks++;
+    }
+
+    /**
+     * Records a finished node evaluation.
+     *
+     * @param node    the index of the node in the program
+     * @param status  the result of the node
+     * @param elapsed the nanoseconds the evaluation took
+     */
+    void record(int node, TickStatus status, long elapsed)
+    {
+        this.ticks[node]++;
+        this.nanos[node] += elapsed;
+        this.results[node * STATUS_COUNT + status.ordinal()]++;
+
+        if(!this.sampling)
+            return;
+
+        int index = this.traceHead;
+        this.traceTick[index] = this.treeTicks - 1;
+        this.traceNode[index] = node;
+        this.traceStatus[index] = (byte) status.ordinal();
+        this.traceNanos[index] = elapsed;
+        this.traceHead = (index + 1) % this.traceTick.length;
+        this.traceSize = Math.min(this.traceSize + 1, this.traceTick.length);
+    }
+
+    /**
+     * Clears every counter and the trace.
+     */
+    public void reset()
+    {
+        Arrays.fill(this.ticks, 0);
+        Arrays.fill(this.nanos, 0);
+        Arrays.fill(this.results, 0);
+        this.traceHead = 0;
+        this.traceSize = 0;
+        this.treeTicks = 0;
+    }
+
+    /**
+     * Retrieves the number of nodes of the profiled program.
+     *
+     * @return the node count
+     */
+    public int getNodeCount()
+    {
+        return this.types.length;
+    }
+
+    /**
+     * Retrieves the number of tree ticks recorded.
+     *
+     * @return the tree tick count
+     */
+    public long getTreeTicks()
+    {
+        return this.treeTicks;
+    }
+
+    /**
+     * Retrieves the type of a node.
+     *
+     * @param node the index of the node in the program
+     * @return the simple class name of the node
+     */
+    public String getNodeType(int node)
+    {
+        return this.types[node];
+    }
+
+    /**
+     * Retrieves the number of times a node was evaluated.
+     *
+     * @param node the index of the node in the program
+     * @return the evaluation count
+     */
+    public long getTicks(int node)
+    {
+        return this.ticks[node];
+    }
+
+    /**
+     * Retrieves the cumulative nanoseconds spent in a node, including its children.
+     *
+     * @param node the index of the node in the program
+     * @return the cumulative time in nanoseconds
+     */
+    public long getNanos(int node)
+    {
+        return this.nanos[node];
+    }
+
+    /**
+     * Retrieves how often a node returned a status.
+     *
+     * @param node   the index of the node in the program
+     * @param status the status to count
+     * @return the number of times the node returned the status
+     */
+    public long getResultCount(int node, TickStatus status)
+    {
+        return this.results[node * STATUS_COUNT + status.ordinal()];
+    }
+
+    /**
+     * Retrieves the statistics of every node of the program, in program order.
+     *
+     * @return the statistics per node
+     */
+    public List<NodeStats> getNodeStats()
+    {
+        List<NodeStats> stats = new ArrayList<>(this.types.length);
+        for(int i = 0; i < this.types.length; i++)
+            stats.add(statsOf(this.types[i], i, i + 1));
+        return stats;
+    }
+
+    /**
+     * Retrieves the statistics of the program summed per node type.
+     *
+     * @return the statistics per node type, in the order the types first appear in the program
+     */
+    public Map<String, NodeStats> getTypeStats()
+    {
+        Map<String, long[]> sums = new LinkedHashMap<>();
+        for(int i = 0; i < this.types.length; i++)
+        {
+            long[] sum = sums.computeIfAbsent(this.types[i], type -> new long[2 + STATUS_COUNT]);
+            sum[0] += this.ticks[i];
+            sum[1] += this.nanos[i];
+            for(int s = 0; s < STATUS_COUNT; s++)
+                sum[2 + s] += this.results[i * STATUS_COUNT + s];
+        }
+
+        Map<String, NodeStats> stats = new LinkedHashMap<>();
+        sums.forEach((type, sum) -> stats.put(type, new NodeStats(type, sum[0], sum[1], sum[2 + TickStatus.SUCCESS.ordinal()],
+                                                                  sum[2 + TickStatus.FAILURE.ordinal()],
+                                                                  sum[2 + TickStatus.RUNNING.ordinal()],
+                                                                  sum[2 + TickStatus.ERROR.ordinal()])));
+        return stats;
+    }
+
+    /**
+     * Exports the trace, oldest entry first. Entries of one tree tick appear in the order the nodes finished, so
+     * children come before their parent.
+     *
+     * @return a copy of the trace
+     */
+    public List<TraceEntry> exportTrace()
+    {
+        List<TraceEntry> trace = new ArrayList<>(this.traceSize);
+        int capacity = this.traceTick.length;
+        int first = (this.traceHead - this.traceSize + capacity) % Math.max(1, capacity);
+
+        for(int i = 0; i < this.traceSize; i++)
+        {
+            int index = (first + i) % capacity;
+            int node = this.traceNode[index];
+            trace.add(new TraceEntry(this.traceTick[index], node, this.types[node], STATUSES[this.traceStatus[index]], this.traceNanos[index]));
+        }
+
+        return trace;
+    }
+
+    private NodeStats statsOf(String type, int from, int to)
+    {
+        long ticks = 0, nanos = 0, success = 0, failure = 0, running = 0, error = 0;
+        for(int i = from; i < to; i++)
+        {
+            ticks += this.ticks[i];
+            nanos += this.nanos[i];
+            success += this.results[i * STATUS_COUNT + TickStatus.SUCCESS.ordinal()];
+            failure += this.results[i * STATUS_COUNT + TickStatus.FAILURE.ordinal()];
+            running += this.results[i * STATUS_COUNT + TickStatus.RUNNING.ordinal()];
+            error += this.results[i * STATUS_COUNT + TickStatus.ERROR.ordinal()];
+        }
+        return new NodeStats(type, ticks, nanos, success, failure, running, error);
+    }
+
+    /**
+     * The statistics of a node or of every node of a type.
+     *
+     * @param type    the simple class name of the node
+     * @param ticks   the number of evaluations
+     * @param nanos   the cumulative nanoseconds, including children
+     * @param success the number of SUCCESS results
+     * @param failure the number of FAILURE results
+     * @param running the number of RUNNING results
+     * @param error   the number of ERROR results
+     */
+    public record NodeStats(String type, long ticks, long nanos, long success, long failure, long running, long error)
+    {
+        /**
+         * Retrieves the average nanoseconds per evaluation.
+         *
+         * @return the average time, or 0 if the node never ran
+         */
+        public double averageNanos()
+        {
+            return this.ticks == 0 ? 0 : (double) this.nanos / this.ticks;
+        }
+    }
+
+    /**
+     * A node evaluation captured by the trace.
+     *
+     * @param treeTick the tree tick the evaluation belongs to, counted since the profiler was created or reset
+     * @param node     the index of the node in the program
+     * @param type     the simple class name of the node
+     * @param status   the result of the node
+     * @param nanos    the nanoseconds the evaluation took, including children
+     */
+    public record TraceEntry(long treeTick, int node, String type, TickStatus status, long nanos)
+    {
+    }
+}
@@ -0,0 +1,867 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.thementor.api.ticklogic.base;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+import dev.thementor.api.shared.enumerations.TickStatus;
+import dev.thementor.api.shared.properties.BlockEntityFields;
+import dev.thementor.api.ticklogic.node.*;
+
+/**
+ * Represents the immutable definition of a {@link LogicTree}, compiled into flat arrays.
+ *
+ * <p>Nodes are laid out in pre order, so the subtree of a node is the range from its index to its end and resetting a
+ * subtree is a single pass over that range. Subtrees of {@link SubTreeNode} are inlined. The program holds nothing
+ * that changes while ticking; running children, iteration counters and shuffle orders live in a {@link LogicState}
+ * that only reserves slots for the nodes that need them. Ticking walks an explicit stack instead of recursing, so a
+ * tick does not allocate.</p>
+ *
+ * <p>A program built with {@link #define(Node, AggregationPolicy)} from nodes whose actions and conditions take the
+ * tree as a parameter can be shared by every block entity of a type, so tree memory grows with the number of
+ * definitions instead of the number of instances. Nodes of other types than the library ones are ticked through
+ * their own {@code tick()} method and keep their state in the node, which is then shared as well.</p>
+ *
+ * <p>Every node behaves exactly like its {@link Node#tick()} implementation, and the root is resumed and aggregated
+ * like {@link StartNode} does.</p>
+ *
+ * <p>Profiling is opt in per definition through {@link #enableProfiling(int, int)}, see {@link LogicProfiler}.</p>
+ *
+ * @param <T> the type of block entity associated with this program
+ */
+@SuppressWarnings("unused")
+public final class LogicProgram<T extends BlockEntity>
+{
+    private static final byte OP_ERROR = 0;
+    private static final byte OP_CUSTOM = 1;
+    private static final byte OP_ACTION = 2;
+    private static final byte OP_CONDITION = 3;
+    private static final byte OP_NOT = 4;
+    private static final byte OP_UNTIL_SUCCESS = 5;
+    private static final byte OP_UNTIL_FAILURE = 6;
+    private static final byte OP_SEQUENCE = 7;
+    private static final byte OP_SELECTOR = 8;
+    private static final byte OP_RANDOM_SEQUENCE = 9;
+    private static final byte OP_RANDOM_SELECTOR = 10;
+    private static final byte OP_RANDOM = 11;
+    private static final byte OP_REPEAT = 12;
+    private static final byte OP_PARALLEL = 13;
+    private static final byte OP_SUBTREE = 14;
+    private static final byte OP_MEMO_CONDITION = 15;
+
+    /**
+     * The statuses by ordinal, used to decode the results of the evaluation steps.
+     */
+    private static final TickStatus[] STATUSES = TickStatus.values();
+
+    /**
+     * The status a parallel node child is reset to.
+     */
+    private static final int FAILURE = TickStatus.FAILURE.ordinal();
+
+    /**
+     * The status a parallel node child is skipped with.
+     */
+    private static final int SUCCESS = TickStatus.SUCCESS.ordinal();
+
+    // Slot layout: sequences and selectors keep a cursor and the running child, repeat nodes an iteration in the
+    // cursor, parallel nodes a running count and the evaluated child followed by one status per child, and random
+    // selectors their shuffle order after the running child.
+    private static final int CURSOR = 0;
+    private static final int RUNNING = 1;
+    private static final int RUNNING_COUNT = 0;
+    private static final int STEP = 1;
+    private static final int CHILDREN = 2;
+    // Memoized conditions keep the cached result (-1 for none), the dependency version it was computed at, and the
+    // resolved index of every field dependency.
+    private static final int MEMO_RESULT = 0;
+    private static final int MEMO_VERSION = 1;
+    private static final int MEMO_FIELDS = 2;
+
+    /**
+     * The operation of every node.
+     */
+    private final byte[] ops;
+
+    /**
+     * The exclusive end of the subtree of every node.
+     */
+    private final int[] ends;
+
+    /**
+     * The position of the first child of every node in the child table.
+     */
+    private final int[] childStart;
+
+    /**
+     * The number of children of every node.
+     */
+    private final int[] childCount;
+
+    /**
+     * The child table holding the node index of every child, grouped by parent.
+     */
+    private final int[] children;
+
+    /**
+     * The offset of the state slots of every node, or -1 for nodes without state.
+     */
+    private final int[] slot;
+
+    /**
+     * The tree owning every node inlined from a {@link SubTreeNode}, or null for nodes that run for the ticking tree.
+     */
+    private final LogicTree<T>[] owners;
+
+    /**
+     * The source node of every entry, used for the leaf callbacks and node parameters.
+     */
+    private final Node<T>[] nodes;
+
+    /**
+     * The policy used to combine the result of a resumed root.
+     */
+    private final AggregationPolicy aggregationPolicy;
+
+    /**
+     * The maximum depth of the program, which sizes the evaluation stack.
+     */
+    private final int depth;
+
+    /**
+     * The number of state slots an instance needs.
+     */
+    private final int slotCount;
+
+    /**
+     * The root node the program was compiled from, or null if the start node had no single root.
+     */
+    private final @Nullable Node<T> root;
+
+    /**
+     * The random source used to shuffle random selector nodes, shared by every instance.
+     */
+    private final Random random = new Random();
+
+    /**
+     * The profiler collecting node statistics, or null while profiling is disabled.
+     */
+    private @Nullable LogicProfiler profiler;
+
+    @SuppressWarnings("unchecked")
+    private LogicProgram(Builder<T> builder, @Nullable Node<T> root, AggregationPolicy aggregationPolicy)
+    {
+        int size = builder.nodes.size();
+        this.ops = new byte[size];
+        this.ends = new int[size];
+        this.childStart = new int[size];
+        this.childCount = new int[size];
+        this.slot = new int[size];
+        this.nodes = builder.nodes.toArray(new Node[size]);
+        this.owners = builder.owners.toArray(new LogicTree[size]);
+
+        for(int i = 0; i < size; i++)
+        {
+            int[] entry = builder.entries.get(i);
+            this.ops[i] = (byte) entry[0];
+            this.ends[i] = entry[1];
+            this.childStart[i] = entry[2];
+            this.childCount[i] = entry[3];
+            this.slot[i] = entry[4];
+        }
+
+        this.children = new int[builder.children.size()];
+        for(int i = 0; i < this.children.length; i++)
+            this.children[i] = builder.children.get(i);
+
+        this.root = root;
+        this.aggregationPolicy = aggregationPolicy;
+        this.depth = builder.depth;
+        this.slotCount = builder.slots;
+    }
+
+    /**
+     * Compiles the tree below a start node. Changes made to the nodes afterward, other than replacing actions,
+     * conditions or thresholds, require compiling again.
+     *
+     * @param startNode the start node of the tree
+     * @param <T>       the type of block entity associated with the tree
+     * @return the compiled program
+     */
+    public static <T extends BlockEntity> LogicProgram<T> compile(@Nullable StartNode<T> startNode)
+    {
+        if(startNode == null || startNode.children.size() != 1)
+            return new LogicProgram<>(new Builder<>(), null, AggregationPolicy.SUCCEED_IF_ALL_SUCCESS);
+
+        return define(startNode.children.getFirst(), startNode.getAggregationPolicy());
+    }
+
+    /**
+     * Compiles a shared tree definition from a root node. Build it once per block entity type and give it to every
+     * {@link LogicTree} of that type; use actions and conditions that take the tree as a parameter, since anything
+     * captured by a node is shared by all instances.
+     *
+     * @param root              the root node of the tree
+     * @param aggregationPolicy the policy used to combine the result of a resumed root
+     * @param <T>               the type of block entity associated with the tree
+     * @return the compiled program
+     */
+    public static <T extends BlockEntity> LogicProgram<T> define(Node<T> root, AggregationPolicy aggregationPolicy)
+    {
+        Builder<T> builder = new Builder<>();
+        builder.add(root, 1, null);
+        return new LogicProgram<>(builder, root, aggregationPolicy);
+    }
+
+    /**
+     * Creates a fresh state for one instance of this program.
+     *
+     * @return the new state
+     */
+    @SuppressWarnings("unchecked")
+    public LogicState createState()
+    {
+        LogicState state = new LogicState(this.slotCount, this.depth);
+        reset(state, 0, this.ops.length);
+
+        for(int i = 0; i < this.ops.length; i++)
+            if(this.ops[i] == OP_MEMO_CONDITION)
+                Arrays.fill(state.slots, this.slot[i], this.slot[i] + MEMO_FIELDS + ((ConditionNode<T>) this.nodes[i]).getFieldDependencies().length, -1);
+
+        return state;
+    }
+
+    /**
+     * Resets every node of the program and forgets a running root.
+     *
+     * @param state the state to reset
+     */
+    public void reset(LogicState state)
+    {
+        state.rootRunning = false;
+        reset(state, 0, this.ops.length);
+    }
+
+    /**
+     * Retrieves the number of nodes in the program.
+     *
+     * @return the node count
+     */
+    public int size()
+    {
+        return this.ops.length;
+    }
+
+    /**
+     * Retrieves the number of state slots every instance of this program needs.
+     *
+     * @return the slot count
+     */
+    public int getSlotCount()
+    {
+        return this.slotCount;
+    }
+
+    /**
+     * Retrieves the root node the program was compiled from.
+     *
+     * @return the root node, or null if the program has none and always returns ERROR
+     */
+    public @Nullable Node<T> getRoot()
+    {
+        return this.root;
+    }
+
+    /**
+     * Enables profiling of this program, replacing any previous profiler. While enabled, ticks run an instrumented
+     * evaluation loop that records every node; while disabled the regular loop runs without any extra work.
+     *
+     * @param traceCapacity  the number of node evaluations the trace keeps, or 0 to keep no trace
+     * @param sampleInterval every how many tree ticks a tick is written to the trace
+     * @return the new profiler
+     */
+    public LogicProfiler enableProfiling(int traceCapacity, int sampleInterval)
+    {
+        LogicProfiler created = new LogicProfiler(this.nodes, this.depth, traceCapacity, sampleInterval);
+        this.profiler = created;
+        return created;
+    }
+
+    /**
+     * Disables profiling of this program. The detached profiler keeps its numbers.
+     */
+    public void disableProfiling()
+    {
+        this.profiler = null;
+    }
+
+    /**
+     * Retrieves the profiler of this program.
+     *
+     * @return the profiler, or null if profiling is disabled
+     */
+    public @Nullable LogicProfiler getProfiler()
+    {
+        return this.profiler;
+    }
+
+    /**
+     * Ticks the program. Without a running root the whole tree is reset and evaluated from the root, otherwise the
+     * running root is resumed and its result is combined by the aggregation policy, like {@link StartNode#tick()}.
+     *
+     * @param tree  the tree instance passed to actions and conditions
+     * @param state the state of the instance to tick
+     * @return the tick status of the tree
+     */
+    public TickStatus tick(LogicTree<T> tree, LogicState state)
+    {
+        if(this.root == null)
+            return TickStatus.ERROR;
+
+        if(!state.rootRunning)
+        {
+            reset(state, 0, this.ops.length);
+            TickStatus result = evaluate(tree, state);
+            if(result == TickStatus.RUNNING)
+                state.rootRunning = true;
+            return result;
+        }
+
+        TickStatus result = evaluate(tree, state);
+        if(result == TickStatus.RUNNING)
+            return TickStatus.RUNNING;
+
+        state.rootRunning = false;
+
+        return switch (this.aggregationPolicy)
+        {
+            case SUCCEED_ON_ANY_SUCCESS, FAIL_IF_ALL_FAILURE -> result == TickStatus.SUCCESS ? TickStatus.SUCCESS : TickStatus.FAILURE;
+            case FAIL_ON_ANY_FAILURE, SUCCEED_IF_ALL_SUCCESS -> result == TickStatus.FAILURE ? TickStatus.FAILURE : TickStatus.SUCCESS;
+        };
+    }
+
+    /**
+     * Evaluates the tree with the instrumented loop while a profiler is attached, so the regular loop has no
+     * profiling checks per node.
+     */
+    private TickStatus evaluate(LogicTree<T> tree, LogicState state)
+    {
+        LogicProfiler current = this.profiler;
+        return current == null ? run(tree, state) : runProfiled(tree, state, current);
+    }
+
+    /**
+     * Evaluates the tree from the root with an explicit stack. Every step either returns the index of a child to
+     * evaluate next or a finished status encoded by {@link #done(TickStatus)}.
+     */
+    private TickStatus run(LogicTree<T> tree, LogicState state)
+    {
+        int[] stack = state.stack;
+        int top = 0;
+        stack[top++] = 0;
+        int signal = enter(tree, state, 0);
+
+        while (true)
+        {
+            if(signal >= 0)
+            {
+                stack[top++] = signal;
+                signal = enter(tree, state, signal);
+                continue;
+            }
+
+            top--;
+            if(top == 0)
+                return STATUSES[-signal - 1];
+
+            signal = resume(state, stack[top - 1], STATUSES[-signal - 1]);
+        }
+    }
+
+    /**
+     * Evaluates the tree like {@link #run(LogicTree, LogicState)} and records the time and result of every node that
+     * finishes.
+     */
+    private TickStatus runProfiled(LogicTree<T> tree, LogicState state, LogicProfiler profiler)
+    {
+        int[] stack = state.stack;
+        long[] started = profiler.started;
+        int top = 0;
+        profiler.beginTick();
+        stack[top] = 0;
+        started[top++] = System.nanoTime();
+        int signal = enter(tree, state, 0);
+
+        while (true)
+        {
+            if(signal >= 0)
+            {
+                stack[top] = signal;
+                started[top++] = System.nanoTime();
+                signal = enter(tree, state, signal);
+                continue;
+            }
+
+            top--;
+            TickStatus status = STATUSES[-signal - 1];
+            profiler.record(stack[top], status, System.nanoTime() - started[top]);
+            if(top == 0)
+                return status;
+
+            signal = resume(state, stack[top - 1], status);
+        }
+    }
+
+    /**
+     * Starts the evaluation of a node.
+     */
+    @SuppressWarnings("unchecked")
+    private int enter(LogicTree<T> tree, LogicState state, int node)
+    {
+        int[] slots = state.slots;
+        int slot = this.slot[node];
+        LogicTree<T> context = this.owners[node] != null ? this.owners[node] : tree;
+
+        switch (this.ops[node])
+        {
+            case OP_CUSTOM:
+                return done(this.nodes[node].tick());
+
+            case OP_ACTION:
+                try
+                {
+                    return done(((ActionNode<T>) this.nodes[node]).getLogicAction().run(context));
+                }
+                catch (Exception e)
+                {
+                    throw new RuntimeException(e.getMessage());
+                }
+
+            case OP_CONDITION:
+                try
+                {
+                    return done(((ConditionNode<T>) this.nodes[node]).getLogicCondition().test(context) ? TickStatus.SUCCESS : TickStatus.FAILURE);
+                }
+                catch (Exception e)
+                {
+                    throw new RuntimeException(e.getMessage());
+                }
+
+            case OP_MEMO_CONDITION:
+                return done(testMemoized(context, slots, slot, (ConditionNode<T>) this.nodes[node]) ? TickStatus.SUCCESS : TickStatus.FAILURE);
+
+            case OP_NOT, OP_UNTIL_SUCCESS, OP_UNTIL_FAILURE, OP_SUBTREE:
+                if(this.ops[node] == OP_SUBTREE)
+                    reset(state, node + 1, this.ends[node]);
+                return child(node, 0);
+
+            case OP_SEQUENCE, OP_SELECTOR, OP_RANDOM_SEQUENCE:
+                if(slots[slot + RUNNING] != -1)
+                    slots[slot + CURSOR] = slots[slot + RUNNING];
+                return next(state, node);
+
+            case OP_RANDOM_SELECTOR:
+                if(slots[slot + RUNNING] == -1)
+                {
+                    reset(state, node, this.ends[node]);
+                    shuffle(state, node);
+                }
+                else
+                    slots[slot + CURSOR] = slots[slot + RUNNING];
+                return next(state, node);
+
+            case OP_RANDOM:
+                return child(node, (int) (Math.random() * (this.childCount[node] - 1)));
+
+            case OP_REPEAT:
+                if(slots[slot + CURSOR] < ((RepeatNode<T>) this.nodes[node]).getRepeatCount())
+                    return child(node, 0);
+                reset(state, node, this.ends[node]);
+                return done(TickStatus.SUCCESS);
+
+            case OP_PARALLEL:
+                slots[slot + STEP] = 0;
+                return nextParallel(state, node);
+
+            default:
+                return done(TickStatus.ERROR);
+        }
+    }
+
+    /**
+     * Continues the evaluation of a node after one of its children finished.
+     */
+    @SuppressWarnings("unchecked")
+    private int resume(LogicState state, int node, TickStatus status)
+    {
+        int[] slots = state.slots;
+        int slot = this.slot[node];
+
+        switch (this.ops[node])
+        {
+            case OP_NOT:
+                if(status == TickStatus.FAILURE)
+                    return done(TickStatus.SUCCESS);
+                if(status == TickStatus.SUCCESS)
+                    return done(TickStatus.FAILURE);
+                return done(status);
+
+            case OP_UNTIL_SUCCESS:
+                return done(status == TickStatus.SUCCESS || status == TickStatus.ERROR ? status : TickStatus.RUNNING);
+
+            case OP_UNTIL_FAILURE:
+                return done(status == TickStatus.FAILURE || status == TickStatus.ERROR ? status : TickStatus.RUNNING);
+
+            case OP_SEQUENCE, OP_SELECTOR, OP_RANDOM_SEQUENCE, OP_RANDOM_SELECTOR:
+            {
+                TickStatus stop = this.ops[node] == OP_SEQUENCE || this.ops[node] == OP_RANDOM_SEQUENCE ? TickStatus.FAILURE : TickStatus.SUCCESS;
+                if(status == stop)
+                {
+                    reset(state, node, this.ends[node]);
+                    return done(stop);
+                }
+                if(status == TickStatus.RUNNING)
+                {
+                    slots[slot + RUNNING] = slots[slot + CURSOR];
+                    return done(TickStatus.RUNNING);
+                }
+                slots[slot + CURSOR]++;
+                return next(state, node);
+            }
+
+            case OP_RANDOM:
+                if(status != TickStatus.RUNNING)
+                    reset(state, node, this.ends[node]);
+                return done(status);
+
+            case OP_REPEAT:
+                if(status == TickStatus.RUNNING)
+                    return done(TickStatus.RUNNING);
+                if(++slots[slot + CURSOR] >= ((RepeatNode<T>) this.nodes[node]).getRepeatCount())
+                {
+                    reset(state, node, this.ends[node]);
+                    return done(status);
+                }
+                return child(node, 0);
+
+            case OP_PARALLEL:
+            {
+                int index = slots[slot + STEP];
+                slots[slot + CHILDREN + index] = status.ordinal();
+                if(status == TickStatus.RUNNING)
+                    slots[slot + RUNNING_COUNT]++;
+                slots[slot + STEP] = index + 1;
+                return nextParallel(state, node);
+            }
+
+            case OP_SUBTREE:
+                return done(status);
+
+            default:
+                return done(TickStatus.ERROR);
+        }
+    }
+
+    /**
+     * Evaluates a condition with declared dependencies, reusing the cached result while the summed write versions of
+     * its blackboard keys and fields are unchanged. Versions only grow, so any write changes the sum. The cache is not
+     * cleared by resets, it only depends on the data.
+     */
+    private boolean testMemoized(LogicTree<T> context, int[] slots, int slot, ConditionNode<T> condition)
+    {
+        int version = 0;
+
+        Blackboard blackboard = context.getBlackboard();
+        if(blackboard != null)
+            for(BlackboardKey<?> key : condition.getKeyDependencies())
+                version += blackboard.getVersion(key);
+
+        String[] fields = condition.getFieldDependencies();
+        if(fields.length > 0 && context.getProperties() != null)
+        {
+            BlockEntityFields<T> entityFields = context.getProperties().fields();
+            for(int i = 0; i < fields.length; i++)
+            {
+                int index = slots[slot + MEMO_FIELDS + i];
+                if(index < 0)
+                    slots[slot + MEMO_FIELDS + i] = index = entityFields.getFieldIndex(fields[i]);
+                if(index >= 0)
+                    version += entityFields.getVersion(index);
+            }
+        }
+
+        int cached = slots[slot + MEMO_RESULT];
+        if(cached >= 0 && slots[slot + MEMO_VERSION] == version)
+            return cached == 1;
+
+        boolean result;
+        try
+        {
+            result = condition.getLogicCondition().test(context);
+        }
+        catch (Exception e)
+        {
+            throw new RuntimeException(e.getMessage());
+        }
+
+        slots[slot + MEMO_RESULT] = result ? 1 : 0;
+        slots[slot + MEMO_VERSION] = version;
+        return result;
+    }
+
+    /**
+     * Evaluates the child at the cursor of a sequence or selector, or finishes the node when all children ran.
+     */
+    private int next(LogicState state, int node)
+    {
+        int slot = this.slot[node];
+        int cursor = state.slots[slot + CURSOR];
+        if(cursor < this.childCount[node])
+            return this.ops[node] == OP_RANDOM_SELECTOR
+                   ? child(node, state.slots[slot + CHILDREN + cursor])
+                   : child(node, cursor);
+
+        reset(state, node, this.ends[node]);
+        return done(this.ops[node] == OP_SEQUENCE || this.ops[node] == OP_RANDOM_SEQUENCE ? TickStatus.SUCCESS : TickStatus.FAILURE);
+    }
+
+    /**
+     * Evaluates the next child of a parallel node that has not succeeded yet, or finishes the node.
+     */
+    @SuppressWarnings("unchecked")
+    private int nextParallel(LogicState state, int node)
+    {
+        int[] slots = state.slots;
+        int slot = this.slot[node];
+        int count = this.childCount[node];
+
+        for(int i = slots[slot + STEP]; i < count; i++)
+        {
+            if(slots[slot + CHILDREN + i] != SUCCESS)
+            {
+                slots[slot + STEP] = i;
+                return child(node, i);
+            }
+        }
+
+        int threshold = ((ParallelNode<T>) this.nodes[node]).getSuccessThreshold();
+        // matches ParallelNode, which never counts successful children, so only a threshold of zero succeeds
+        if(threshold <= 0)
+        {
+            reset(state, node, this.ends[node]);
+            return done(TickStatus.SUCCESS);
+        }
+
+        if(slots[slot + RUNNING_COUNT] >= threshold)
+            return done(TickStatus.RUNNING);
+
+        reset(state, node, this.ends[node]);
+        return done(TickStatus.FAILURE);
+    }
+
+    /**
+     * Resets the nodes in the given range to the state they have after {@link Node#reset()}. Shuffle orders are not
+     * touched, a random selector shuffles again whenever it starts without a running child.
+     */
+    private void reset(LogicState state, int from, int to)
+    {
+        int[] slots = state.slots;
+
+        for(int i = from; i < to; i++)
+        {
+            int slot = this.slot[i];
+
+            switch (this.ops[i])
+            {
+                case OP_SEQUENCE, OP_SELECTOR, OP_RANDOM_SEQUENCE, OP_RANDOM_SELECTOR:
+                    slots[slot + CURSOR] = 0;
+                    slots[slot + RUNNING] = -1;
+                    break;
+                case OP_REPEAT:
+                    slots[slot + CURSOR] = 0;
+                    break;
+                case OP_PARALLEL:
+                    slots[slot + RUNNING_COUNT] = 0;
+                    slots[slot + STEP] = 0;
+                    Arrays.fill(slots, slot + CHILDREN, slot + CHILDREN + this.childCount[i], FAILURE);
+                    break;
+                case OP_CUSTOM:
+                    this.nodes[i].reset();
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Shuffles the child order of a random selector in place.
+     */
+    private void shuffle(LogicState state, int node)
+    {
+        int[] slots = state.slots;
+        int start = this.slot[node] + CHILDREN;
+        int count = this.childCount[node];
+
+        for(int i = 0; i < count; i++)
+            slots[start + i] = i;
+
+        for(int i = count - 1; i > 0; i--)
+        {
+            int j = this.random.nextInt(i + 1);
+            int swap = slots[start + i];
+            slots[start + i] = slots[start + j];
+            slots[start + j] = swap;
+        }
+    }
+
+    private int child(int node, int index)
+    {
+        return this.children[this.childStart[node] + index];
+    }
+
+    private static int done(TickStatus status)
+    {
+        return -status.ordinal() - 1;
+    }
+
+    /**
+     * Collects the nodes of a tree in pre order while compiling.
+     */
+    private static final class Builder<T extends BlockEntity>
+    {
+        private final List<Node<T>> nodes = new ArrayList<>();
+        private final List<LogicTree<T>> owners = new ArrayList<>();
+        private final List<int[]> entries = new ArrayList<>();
+        private final List<Integer> children = new ArrayList<>();
+        private int depth;
+        private int slots;
+
+        @SuppressWarnings("unchecked")
+        private int add(Node<T> node, int level, @Nullable LogicTree<T> owner)
+        {
+            int index = this.nodes.size();
+            int[] entry = new int[5];
+            this.nodes.add(node);
+            this.owners.add(owner);
+            this.entries.add(entry);
+            this.depth = Math.max(this.depth, level);
+
+            byte op = opOf(node);
+            List<Node<T>> nodeChildren = childrenOf(node, op);
+            LogicTree<T> childOwner = op == OP_SUBTREE ? ((SubTreeNode<T>) node).getSubTree() : owner;
+
+            entry[0] = op;
+            entry[2] = this.children.size();
+            entry[3] = nodeChildren.size();
+            entry[4] = reserve(node, op, nodeChildren.size());
+
+            for(int i = 0; i < nodeChildren.size(); i++)
+                this.children.add(-1);
+
+            for(int i = 0; i < nodeChildren.size(); i++)
+                this.children.set(entry[2] + i, add(nodeChildren.get(i), level + 1, childOwner));
+
+            entry[1] = this.nodes.size();
+            return index;
+        }
+
+        /**
+         * Reserves the state slots of a node and returns their offset, or -1 if the node keeps no state.
+         */
+        @SuppressWarnings("unchecked")
+        private int reserve(Node<T> node, byte op, int childCount)
+        {
+            int width = switch (op)
+            {
+                case OP_MEMO_CONDITION -> MEMO_FIELDS + ((ConditionNode<T>) node).getFieldDependencies().length;
+                case OP_SEQUENCE, OP_SELECTOR, OP_RANDOM_SEQUENCE -> 2;
+                case OP_RANDOM_SELECTOR, OP_PARALLEL -> CHILDREN + childCount;
+                case OP_REPEAT -> 1;
+                default -> 0;
+            };
+
+            if(width == 0)
+                return -1;
+
+            int offset = this.slots;
+            this.slots += width;
+            return offset;
+        }
+
+        /**
+         * Selects the operation of a node. Only the exact library types are compiled, subclasses may override
+         * {@code tick()} and run through their own implementation. Nodes that always return ERROR because of their
+         * child count are compiled to ERROR up front.
+         */
+        private static byte opOf(Node<?> node)
+        {
+            Class<?> type = node.getClass();
+            int count = node.children.size();
+
+            if(type == ActionNode.class)
+                return count == 0 ? OP_ACTION : OP_ERROR;
+            if(type == ConditionNode.class)
+                return count > 0 ? OP_ERROR : ((ConditionNode<?>) node).isMemoized() ? OP_MEMO_CONDITION : OP_CONDITION;
+            if(type == NotNode.class)
+                return count == 1 ? OP_NOT : OP_ERROR;
+            if(type == UntilSuccessNode.class)
+                return count == 1 ? OP_UNTIL_SUCCESS : OP_ERROR;
+            if(type == UntilFailureNode.class)
+                return count == 1 ? OP_UNTIL_FAILURE : OP_ERROR;
+            if(type == RepeatNode.class)
+                return count == 1 ? OP_REPEAT : OP_ERROR;
+            if(type == SequenceNode.class)
+                return count > 0 ? OP_SEQUENCE : OP_ERROR;
+            if(type == SelectorNode.class)
+                return count > 0 ? OP_SELECTOR : OP_ERROR;
+            if(type == RandomSequenceNode.class)
+                return count > 0 ? OP_RANDOM_SEQUENCE : OP_ERROR;
+            if(type == RandomSelectorNode.class)
+                return count > 0 ? OP_RANDOM_SELECTOR : OP_ERROR;
+            if(type == RandomNode.class)
+                return count > 0 ? OP_RANDOM : OP_ERROR;
+            if(type == ParallelNode.class)
+                return count > 0 ? OP_PARALLEL : OP_ERROR;
+            if(type == SubTreeNode.class)
+            {
+                LogicTree<?> subTree = ((SubTreeNode<?>) node).getSubTree();
+                return count == 0 && subTree != null && subTree.getRoot() != null ? OP_SUBTREE : OP_ERROR;
+            }
+
+            return OP_CUSTOM;
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<Node<T>> childrenOf(Node<T> node, byte op)
+        {
+            return switch (op)
+            {
+                case OP_SUBTREE -> List.of(((SubTreeNode<T>) node).getSubTree().getRoot());
+                case OP_ERROR, OP_CUSTOM, OP_ACTION, OP_CONDITION, OP_MEMO_CONDITION -> List.of();
+                default -> node.children;
+            };
+        }
+    }
+}
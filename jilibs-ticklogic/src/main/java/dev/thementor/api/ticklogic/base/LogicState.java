@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package dev.thementor.api.ticklogic.base;
+
+/**
+ * Holds the per instance state of a {@link LogicProgram}. Only nodes that remember something between ticks get
+ * slots, and all of them share a single int array sized once when the state is created, so an instance costs a few
+ * ints per stateful node and ticking never allocates.
+ */
+@SuppressWarnings("unused")
+public final class LogicState
+{
+    /**
+     * The state slots of the stateful nodes, laid out by the program.
+     */
+    final int[] slots;
+
+    /**
+     * The explicit evaluation stack used instead of recursion.
+     */
+    final int[] stack;
+
+    /**
+     * Whether the root returned RUNNING and is resumed on the next tick instead of restarting the tree.
+     */
+    boolean rootRunning;
+
+    /**
+     * Constructs the state of a program with the given sizes.
+     *
+     * @param slots the number of state slots of the program
+     * @param depth the maximum depth of the program
+     */
+    LogicState(int slots, int depth)
+    {
+        this.slots = new int[slots];
+        this.stack = new int[Math.max(1, depth)];
+    }
+
+    /**
+     * Determines whether the tree is resuming a running root instead of starting over on the next tick.
+     *
+     * @return true if the root is running, false otherwise
+     */
+    public boolean isRunning()
+    {
+        return this.rootRunning;
+    }
+
+    /**
+     * Retrieves the number of state slots held by this instance.
+     *
+     * @return the slot count
+     */
+    public int getSlotCount()
+    {
+        return this.slots.length;
+    }
+}
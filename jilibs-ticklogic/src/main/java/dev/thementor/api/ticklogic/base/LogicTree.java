@@ -16,6 +16,8 @@
 
 package dev.thementor.api.ticklogic.base;
 
+import org.jetbrains.annotations.Nullable;
+
 import net.minecraft.world.level.block.entity.BlockEntity;
 
 import dev.thementor.api.shared.enumerations.TickStatus;
@@ -45,6 +47,17 @@ public class LogicTree<T extends BlockEntity>
      */
     protected StartNode<T> startNode;
 
+    /**
+     * The compiled form of the tree, either shared by every instance of a type or built from the start node on the
+     * first tick.
+     */
+    protected LogicProgram<T> program;
+
+    /**
+     * The state of this tree instance for the compiled program.
+     */
+    protected LogicState state;
+
     /**
      * Constructs an empty LogicTree instance.
      */
@@ -67,6 +80,22 @@ public class LogicTree<T extends BlockEntity>
         this.startNode.setTree(this);
     }
 
+    /**
+     * Constructs a LogicTree instance that runs a shared definition. Only the state of this instance is allocated, the
+     * nodes belong to the definition.
+     *
+     * @param properties the properties associated with the block entity
+     * @param program    the shared definition of the tree
+     * @param blackboard the blackboard used to store data during tick operations
+     */
+    public LogicTree(BEProperties<T> properties, LogicProgram<T> program, Blackboard blackboard)
+    {
+        this.properties = properties;
+        this.blackboard = blackboard;
+        this.program = program;
+        this.state = program.createState();
+    }
+
     /**
      * Ticks the logic tree by starting the tick process from the root node.
      *
@@ -74,7 +103,10 @@ public class LogicTree<T extends BlockEntity>
      */
     public TickStatus tick()
     {
-        return startNode.tick();
+        if(this.program == null)
+            compile();
+
+        return this.program.tick(this, this.state);
     }
 
     /**
@@ -82,7 +114,24 @@ public class LogicTree<T extends BlockEntity>
      */
     public void reset()
     {
-        this.startNode.reset();
+        if(this.startNode != null)
+            this.startNode.reset();
+
+        if(this.program != null)
+            this.program.reset(this.state);
+    }
+
+    /**
+     * Compiles the nodes of the tree into a {@link LogicProgram} with a fresh state. Happens on the first tick; call it
+     * again after adding or removing nodes. Trees running a shared definition have no nodes of their own and keep it.
+     */
+    public void compile()
+    {
+        if(this.startNode == null && this.program != null)
+            return;
+
+        this.program = LogicProgram.compile(this.startNode);
+        this.state = this.program.createState();
     }
 
     /**
@@ -102,7 +151,34 @@ public class LogicTree<T extends BlockEntity>
      */
     public void addRunningNode(Node<T> node)
     {
-        startNode.addRunningNode(node);
+        if(startNode != null)
+            startNode.addRunningNode(node);
+    }
+
+    /**
+     * Retrieves the program this tree runs, compiling it if needed.
+     *
+     * @return the compiled program
+     */
+    public LogicProgram<T> getProgram()
+    {
+        if(this.program == null)
+            compile();
+
+        return this.program;
+    }
+
+    /**
+     * Retrieves the root node of the tree, used to inline it as a subtree.
+     *
+     * @return the root node, or null if the tree has no single root
+     */
+    @Nullable Node<T> getRoot()
+    {
+        if(this.startNode != null)
+            return this.startNode.children.size() == 1 ? this.startNode.children.getFirst() : null;
+
+        return this.program != null ? this.program.getRoot() : null;
     }
 
     public BEProperties<T> getProperties()
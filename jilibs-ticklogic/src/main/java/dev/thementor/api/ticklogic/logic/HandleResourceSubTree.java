@@ -25,6 +25,7 @@ import dev.thementor.api.shared.enumerations.TickStatus;
 import dev.thementor.api.shared.properties.BEProperties;
 import dev.thementor.api.ticklogic.base.AggregationPolicy;
 import dev.thementor.api.ticklogic.base.Blackboard;
+import dev.thementor.api.ticklogic.base.LogicProgram;
 import dev.thementor.api.ticklogic.base.LogicTree;
 import dev.thementor.api.ticklogic.node.*;
 
@@ -36,6 +37,36 @@ import dev.thementor.api.ticklogic.node.*;
 @SuppressWarnings("unused")
 public class HandleResourceSubTree<T extends BlockEntity> extends LogicTree<T>
 {
+    /**
+     * The tree definition shared by every instance. Its nodes read the parameters of the instance they run for.
+     */
+    private static final LogicProgram<BlockEntity> DEFINITION = createDefinition();
+
+    /**
+     * Whether to use resource adjustments.
+     */
+    private final boolean useResource;
+
+    /**
+     * The amount to adjust resources by.
+     */
+    private final long adjustmentAmount;
+
+    /**
+     * A supplier that provides the current resource amount.
+     */
+    private final Supplier<Long> resourceAmountSupplier;
+
+    /**
+     * A supplier that provides the maximum resource amount (can be null).
+     */
+    private final Supplier<Long> resourceMaxAmountSupplier;
+
+    /**
+     * A consumer that adjusts the resource amount.
+     */
+    private final Consumer<Long> adjustResourceConsumer;
+
     /**
      * Constructs a HandleResourceSubTree instance with the specified parameters.
      *
@@ -47,50 +78,38 @@ public class HandleResourceSubTree<T extends BlockEntity> extends LogicTree<T>
      * @param resourceMaxAmountSupplier a supplier that provides the maximum resource amount (can be null)
      * @param adjustResourceConsumer a consumer that adjusts the resource amount
      */
+    @SuppressWarnings("unchecked")
     public HandleResourceSubTree(boolean shouldUseResource, BEProperties<T> properties, Blackboard blackboard,
                                  long adjustmentAmount,
                                  Supplier<Long> resourceAmountSupplier, Supplier<Long> resourceMaxAmountSupplier,
                                  Consumer<Long> adjustResourceConsumer)
     {
-        super();
-        this.properties = properties;
-        this.blackboard = blackboard;
-        initTree(shouldUseResource, adjustmentAmount, resourceAmountSupplier, resourceMaxAmountSupplier, adjustResourceConsumer);
+        super(properties, (LogicProgram<T>) (LogicProgram<?>) DEFINITION, blackboard);
+        this.useResource = shouldUseResource;
+        this.adjustmentAmount = adjustmentAmount;
+        this.resourceAmountSupplier = resourceAmountSupplier;
+        this.resourceMaxAmountSupplier = resourceMaxAmountSupplier;
+        this.adjustResourceConsumer = adjustResourceConsumer;
     }
 
     /**
-     * Initializes the logic tree based on the provided parameters.
+     * Builds the shared tree definition. Every node reads its parameters from the instance it runs for.
      *
-     * @param useResource whether to use resource adjustments
-     * @param adjustmentAmount the amount to adjust resources by
-     * @param resourceAmountSupplier a supplier that provides the current resource amount
-     * @param resourceMaxAmountSupplier a supplier that provides the maximum resource amount (can be null)
-     * @param adjustResourceConsumer a consumer that adjusts the resource amount
+     * @return the compiled tree definition
      */
-    private void initTree(boolean useResource, long adjustmentAmount, Supplier<Long> resourceAmountSupplier, Supplier<Long> resourceMaxAmountSupplier, Consumer<Long> adjustResourceConsumer)
+    private static LogicProgram<BlockEntity> createDefinition()
     {
-        ConditionNode<T> shouldUseResource = new ConditionNode<>(() -> useResource);
-        ConditionNode<T> shouldUseResourceNegated = new ConditionNode<>(() -> useResource);
+        ConditionNode<BlockEntity> shouldUseResource = new ConditionNode<>(tree -> of(tree).useResource);
+        ConditionNode<BlockEntity> shouldUseResourceNegated = new ConditionNode<>(tree -> of(tree).useResource);
 
-        ConditionNode<T> hasResourceNode = new ConditionNode<>(() -> resourceAmountSupplier != null &&
-                                                                     ((adjustmentAmount >= 0 && resourceMaxAmountSupplier != null &&
-                                                                       resourceAmountSupplier.get() + adjustmentAmount <= resourceMaxAmountSupplier.get()) ||
-                                                                      (adjustmentAmount < 0 && resourceAmountSupplier.get() >= adjustmentAmount)));
+        ConditionNode<BlockEntity> hasResourceNode = new ConditionNode<>(tree -> of(tree).hasResource());
 
-        SequenceNode<T> resourceCheckSequence = new SequenceNode<>();
-        NotNode<T> shouldUseResourceNot = new NotNode<>();
+        SequenceNode<BlockEntity> resourceCheckSequence = new SequenceNode<>();
+        NotNode<BlockEntity> shouldUseResourceNot = new NotNode<>();
 
-        ActionNode<T> reduceResourceAction = new ActionNode<>(() ->
-        {
-           if(adjustResourceConsumer != null)
-           {
-               adjustResourceConsumer.accept(adjustmentAmount);
-               return TickStatus.SUCCESS;
-           }
-           return TickStatus.FAILURE;
-        });
+        ActionNode<BlockEntity> reduceResourceAction = new ActionNode<>(tree -> of(tree).adjustResource());
 
-        SequenceNode<T> root = new SequenceNode<>();
+        SequenceNode<BlockEntity> root = new SequenceNode<>();
 
         resourceCheckSequence.addChild(shouldUseResource);
         resourceCheckSequence.addChild(hasResourceNode);
@@ -101,7 +120,39 @@ public class HandleResourceSubTree<T extends BlockEntity> extends LogicTree<T>
         root.addChild(resourceCheckSequence);
         root.addChild(shouldUseResourceNot);
 
-        startNode = new StartNode<>(root, AggregationPolicy.SUCCEED_IF_ALL_SUCCESS);
-        this.startNode.setTree(this);
+        return LogicProgram.define(root, AggregationPolicy.SUCCEED_IF_ALL_SUCCESS);
+    }
+
+    /**
+     * Determines whether the resource can be adjusted by the adjustment amount.
+     *
+     * @return true if the adjustment fits, false otherwise
+     */
+    private boolean hasResource()
+    {
+        return resourceAmountSupplier != null &&
+               ((adjustmentAmount >= 0 && resourceMaxAmountSupplier != null &&
+                 resourceAmountSupplier.get() + adjustmentAmount <= resourceMaxAmountSupplier.get()) ||
+                (adjustmentAmount < 0 && resourceAmountSupplier.get() >= adjustmentAmount));
+    }
+
+    /**
+     * Adjusts the resource by the adjustment amount.
+     *
+     * @return SUCCESS if the resource was adjusted, FAILURE if there is no consumer
+     */
+    private TickStatus adjustResource()
+    {
+        if(adjustResourceConsumer != null)
+        {
+            adjustResourceConsumer.accept(adjustmentAmount);
+            return TickStatus.SUCCESS;
+        }
+        return TickStatus.FAILURE;
+    }
+
+    private static HandleResourceSubTree<?> of(LogicTree<?> tree)
+    {
+        return (HandleResourceSubTree<?>) tree;
     }
-}
\ No newline at end of file
+}
@@ -23,11 +23,11 @@ import net.minecraft.world.level.block.entity.BlockEntity;
 import dev.thementor.api.shared.properties.BEProperties;
 import dev.thementor.api.ticklogic.base.AggregationPolicy;
 import dev.thementor.api.ticklogic.base.Blackboard;
+import dev.thementor.api.ticklogic.base.LogicProgram;
 import dev.thementor.api.ticklogic.base.LogicTree;
 import dev.thementor.api.ticklogic.node.ConditionNode;
 import dev.thementor.api.ticklogic.node.NotNode;
 import dev.thementor.api.ticklogic.node.SequenceNode;
-import dev.thementor.api.ticklogic.node.StartNode;
 
 /**
  * A logic tree that checks if a resource exists based on a condition.
@@ -37,6 +37,21 @@ import dev.thementor.api.ticklogic.node.StartNode;
 @SuppressWarnings("unused")
 public class HasResourceSubTree<T extends BlockEntity> extends LogicTree<T>
 {
+    /**
+     * The tree definition shared by every instance. Its nodes read the parameters of the instance they run for.
+     */
+    private static final LogicProgram<BlockEntity> DEFINITION = createDefinition();
+
+    /**
+     * Whether to use resource checks.
+     */
+    private final boolean useResource;
+
+    /**
+     * A supplier that provides the current resource amount.
+     */
+    private final Supplier<Long> resourceAmountSupplier;
+
     /**
      * Constructs a HasResourceSubTree instance with the specified parameters.
      *
@@ -45,29 +60,29 @@ public class HasResourceSubTree<T extends BlockEntity> extends LogicTree<T>
      * @param blackboard        the blackboard used for data storage
      * @param resourceAmountSupplier a supplier that provides the current resource amount
      */
+    @SuppressWarnings("unchecked")
     public HasResourceSubTree(boolean shouldUseResource, BEProperties<T> properties, Blackboard blackboard,
                               Supplier<Long> resourceAmountSupplier)
     {
-        super();
-        this.properties = properties;
-        this.blackboard = blackboard;
-        initTree(shouldUseResource, resourceAmountSupplier);
+        super(properties, (LogicProgram<T>) (LogicProgram<?>) DEFINITION, blackboard);
+        this.useResource = shouldUseResource;
+        this.resourceAmountSupplier = resourceAmountSupplier;
     }
 
     /**
-     * Initializes the logic tree based on the provided parameters.
+     * Builds the shared tree definition. Every node reads its parameters from the instance it runs for.
      *
-     * @param useResource whether to use resource checks
-     * @param resourceAmountSupplier a supplier that provides the current resource amount
+     * @return the compiled tree definition
      */
-    private void initTree(boolean useResource, Supplier<Long> resourceAmountSupplier)
+    private static LogicProgram<BlockEntity> createDefinition()
     {
-        ConditionNode<T> shouldUseResource = new ConditionNode<>(() -> useResource);
-        ConditionNode<T> shouldUseResourceNegated = new ConditionNode<>(() -> useResource);
-        ConditionNode<T> hasResourceNode = new ConditionNode<>(() -> resourceAmountSupplier != null && resourceAmountSupplier.get() > 0);
-        SequenceNode<T> resourceCheckSequence = new SequenceNode<>();
-        NotNode<T> shouldUseResourceNot = new NotNode<>();
-        SequenceNode<T> root = new SequenceNode<>();
+        ConditionNode<BlockEntity> shouldUseResource = new ConditionNode<>(tree -> of(tree).useResource);
+        ConditionNode<BlockEntity> shouldUseResourceNegated = new ConditionNode<>(tree -> of(tree).useResource);
+        ConditionNode<BlockEntity> hasResourceNode = new ConditionNode<>(tree -> of(tree).resourceAmountSupplier != null &&
+                                                                                 of(tree).resourceAmountSupplier.get() > 0);
+        SequenceNode<BlockEntity> resourceCheckSequence = new SequenceNode<>();
+        NotNode<BlockEntity> shouldUseResourceNot = new NotNode<>();
+        SequenceNode<BlockEntity> root = new SequenceNode<>();
 
         resourceCheckSequence.addChild(shouldUseResource);
         resourceCheckSequence.addChild(hasResourceNode);
@@ -77,7 +92,11 @@ public class HasResourceSubTree<T extends BlockEntity> extends LogicTree<T>
         root.addChild(resourceCheckSequence);
         root.addChild(shouldUseResourceNot);
 
-        startNode = new StartNode<>(root, AggregationPolicy.SUCCEED_IF_ALL_SUCCESS);
-        this.startNode.setTree(this);
+        return LogicProgram.define(root, AggregationPolicy.SUCCEED_IF_ALL_SUCCESS);
+    }
+
+    private static HasResourceSubTree<?> of(LogicTree<?> tree)
+    {
+        return (HasResourceSubTree<?>) tree;
     }
-}
\ No newline at end of file
+}
@@ -21,6 +21,7 @@ import java.util.function.Supplier;
 import net.minecraft.world.level.block.entity.BlockEntity;
 
 import dev.thementor.api.shared.enumerations.TickStatus;
+import dev.thementor.api.ticklogic.base.ILogicAction;
 import dev.thementor.api.ticklogic.base.Node;
 
 /**
@@ -32,9 +33,9 @@ import dev.thementor.api.ticklogic.base.Node;
 public class ActionNode<T extends BlockEntity> extends Node<T>
 {
     /**
-     * The supplier for the action to be executed.
+     * The action to be executed.
      */
-    private Supplier<TickStatus> action;
+    private ILogicAction<T> action;
 
     /**
      * Constructs an ActionNode with no Blackboard.
@@ -42,6 +43,18 @@ public class ActionNode<T extends BlockEntity> extends Node<T>
      * @param action the action to be executed
      */
     public ActionNode(Supplier<TickStatus> action)
+    {
+        super();
+        setAction(action);
+    }
+
+    /**
+     * Constructs an ActionNode whose action receives the tree it runs for, so the node can be shared by every
+     * instance of a {@link dev.thementor.api.ticklogic.base.LogicProgram}.
+     *
+     * @param action the action to be executed
+     */
+    public ActionNode(ILogicAction<T> action)
     {
         super();
         this.action = action;
@@ -60,7 +73,7 @@ public class ActionNode<T extends BlockEntity> extends Node<T>
 
         try
         {
-            TickStatus status = action.get();
+            TickStatus status = action.run(this.tree);
 
             if(status != TickStatus.RUNNING)
                 return status;
@@ -80,7 +93,38 @@ public class ActionNode<T extends BlockEntity> extends Node<T>
      * @param action the new action to be executed
      */
     public void setAction(Supplier<TickStatus> action)
+    {
+        this.action = tree -> action.get();
+    }
+
+    /**
+     * Sets a new action for the node that receives the tree it runs for.
+     *
+     * @param action the new action to be executed
+     */
+    public void setAction(ILogicAction<T> action)
     {
         this.action = action;
     }
-}
\ No newline at end of file
+
+    /**
+     * Retrieves the action executed by the node, run against the tree the node is bound to.
+     *
+     * @return the action of the node
+     */
+    public Supplier<TickStatus> getAction()
+    {
+        return () -> this.action.run(this.tree);
+    }
+
+    /**
+     * Retrieves the action executed by the node in the form a compiled program runs it, receiving the tree it runs
+     * for.
+     *
+     * @return the tree aware action of the node
+     */
+    public ILogicAction<T> getLogicAction()
+    {
+        return this.action;
+    }
+}
@@ -21,6 +21,8 @@ import java.util.function.Supplier;
 import net.minecraft.world.level.block.entity.BlockEntity;
 
 import dev.thementor.api.shared.enumerations.TickStatus;
+import dev.thementor.api.ticklogic.base.BlackboardKey;
+import dev.thementor.api.ticklogic.base.ILogicCondition;
 import dev.thementor.api.ticklogic.base.Node;
 
 /**
@@ -32,9 +34,19 @@ import dev.thementor.api.ticklogic.base.Node;
 public class ConditionNode<T extends BlockEntity> extends Node<T>
 {
     /**
-     * The supplier for the condition to be evaluated.
+     * The condition to be evaluated.
      */
-    private Supplier<Boolean> condition;
+    private ILogicCondition<T> condition;
+
+    /**
+     * The blackboard keys the condition reads.
+     */
+    private BlackboardKey<?>[] keyDependencies = new BlackboardKey<?>[0];
+
+    /**
+     * The names of the block entity fields the condition reads.
+     */
+    private String[] fieldDependencies = new String[0];
 
     /**
      * Constructs a ConditionNode with no Blackboard.
@@ -42,6 +54,18 @@ public class ConditionNode<T extends BlockEntity> extends Node<T>
      * @param condition the condition to be evaluated
      */
     public ConditionNode(Supplier<Boolean> condition)
+    {
+        super();
+        setCondition(condition);
+    }
+
+    /**
+     * Constructs a ConditionNode whose condition receives the tree it is evaluated for, so the node can be shared by
+     * every instance of a {@link dev.thementor.api.ticklogic.base.LogicProgram}.
+     *
+     * @param condition the condition to be evaluated
+     */
+    public ConditionNode(ILogicCondition<T> condition)
     {
         super();
         this.condition = condition;
@@ -60,7 +84,7 @@ public class ConditionNode<T extends BlockEntity> extends Node<T>
 
         try
         {
-            if(condition.get())
+            if(condition.test(this.tree))
                 return TickStatus.SUCCESS;
             else
                 return TickStatus.FAILURE;
@@ -77,7 +101,95 @@ public class ConditionNode<T extends BlockEntity> extends Node<T>
      * @param condition the new condition to be evaluated
      */
     public void setCondition(Supplier<Boolean> condition)
+    {
+        this.condition = tree -> condition.get();
+    }
+
+    /**
+     * Sets a new condition for the node that receives the tree it is evaluated for.
+     *
+     * @param condition the new condition to be evaluated
+     */
+    public void setCondition(ILogicCondition<T> condition)
     {
         this.condition = condition;
     }
-}
\ No newline at end of file
+
+    /**
+     * Retrieves the condition evaluated by the node, tested against the tree the node is bound to.
+     *
+     * @return the condition of the node
+     */
+    public Supplier<Boolean> getCondition()
+    {
+        return () -> this.condition.test(this.tree);
+    }
+
+    /**
+     * Retrieves the condition evaluated by the node in the form a compiled program tests it, receiving the tree it
+     * is evaluated for.
+     *
+     * @return the tree aware condition of the node
+     */
+    public ILogicCondition<T> getLogicCondition()
+    {
+        return this.condition;
+    }
+
+    /**
+     * Declares the blackboard keys the condition reads. Once a condition declares a dependency, a compiled tree caches
+     * its result per instance and only evaluates it again after one of the dependencies was written.
+     *
+     * @param keys the keys the condition depends on
+     * @return this node for method chaining
+     */
+    public ConditionNode<T> dependsOn(BlackboardKey<?>... keys)
+    {
+        this.keyDependencies = keys.clone();
+        return this;
+    }
+
+    /**
+     * Declares the block entity fields the condition reads. Only writes made through the setters of
+     * {@code BlockEntityFields} or reported with {@code markChanged} are noticed.
+     *
+     * @param names the names of the fields the condition depends on
+     * @return this node for method chaining
+     * @see #dependsOn(BlackboardKey[])
+     */
+    public ConditionNode<T> dependsOnFields(String... names)
+    {
+        this.fieldDependencies = names.clone();
+        return this;
+    }
+
+    /**
+     * Retrieves the blackboard keys the condition reads.
+     *
+     * @return the key dependencies
+     */
+    public BlackboardKey<?>[] getKeyDependencies()
+    {
+        return this.keyDependencies;
+    }
+
+    /**
+     * Retrieves the names of the block entity fields the condition reads.
+     *
+     * @return the field dependencies
+     */
+    public String[] getFieldDependencies()
+    {
+        return this.fieldDependencies;
+    }
+
+    /**
+     * Determines whether the result of the condition is cached between writes of its dependencies.
+     *
+     * @return true if the condition declared dependencies, false otherwise
+     */
+    public boolean isMemoized()
+    {
+        return this.keyDependencies.length > 0 || this.fieldDependencies.length > 0;
+    }
+}
@@ -133,4 +133,14 @@ public class ParallelNode<T extends BlockEntity> extends Node<T> implements IRun
     {
         this.successThreshold = threshold;
     }
-}
\ No newline at end of file
+
+    /**
+     * Retrieves the success threshold of this node.
+     *
+     * @return the minimum number of successful child nodes required
+     */
+    public int getSuccessThreshold()
+    {
+        return this.successThreshold;
+    }
+}
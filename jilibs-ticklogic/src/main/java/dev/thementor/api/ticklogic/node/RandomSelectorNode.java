@@ -41,9 +41,10 @@ public class RandomSelectorNode<T extends BlockEntity> extends Node<T> implement
     private int currentChildIndex = 0;
 
     /**
-     * The child node currently being executed.
+     * The index of the child that returned RUNNING, where the next tick resumes, or -1 if no child is running. The
+     * compiled {@link dev.thementor.api.ticklogic.base.LogicProgram} does not read it, it keeps the running child in its own state.
      */
-    private Node<T> runningChild = null;
+    private int runningIndex = -1;
 
     /**
      * A shuffled list of child nodes to ensure random selection.
@@ -74,11 +75,11 @@ public class RandomSelectorNode<T extends BlockEntity> extends Node<T> implement
         if(children.isEmpty())
             return TickStatus.ERROR;
 
-        if(runningChild == null)
+        if(runningIndex == -1)
             reset();
 
-        if(runningChild != null)
-            currentChildIndex = shuffledChildren.indexOf(runningChild);
+        if(runningIndex != -1)
+            currentChildIndex = runningIndex;
 
         while (currentChildIndex < shuffledChildren.size())
         {
@@ -95,7 +96,7 @@ public class RandomSelectorNode<T extends BlockEntity> extends Node<T> implement
             if(status == TickStatus.RUNNING)
             {
                 tree.addRunningNode(this);
-                runningChild = child;
+                runningIndex = currentChildIndex;
                 return TickStatus.RUNNING;
             }
 
@@ -114,8 +115,20 @@ public class RandomSelectorNode<T extends BlockEntity> extends Node<T> implement
     {
         super.reset();
         currentChildIndex = 0;
-        runningChild = null;
-        shuffledChildren = new ArrayList<>(children);
+        runningIndex = -1;
+        shuffle();
+    }
+
+    /**
+     * Refills the shuffled list from the children and shuffles it, reusing the list.
+     */
+    private void shuffle()
+    {
+        if(shuffledChildren == null)
+            shuffledChildren = new ArrayList<>(children.size());
+
+        shuffledChildren.clear();
+        shuffledChildren.addAll(children);
         Collections.shuffle(shuffledChildren, rand);
     }
 }
\ No newline at end of file
@@ -41,9 +41,10 @@ public class RandomSequenceNode<T extends BlockEntity> extends Node<T> implement
     private int currentChildIndex = 0;
 
     /**
-     * The child node currently being executed.
+     * The index of the child that returned RUNNING, where the next tick resumes, or -1 if no child is running. Trees
+     * resume through the compiled {@link dev.thementor.api.ticklogic.base.LogicProgram}, so this only matters when the node is ticked directly.
      */
-    private Node<T> runningChild = null;
+    private int runningIndex = -1;
 
     /**
      * A shuffled list of child nodes to ensure random selection.
@@ -74,14 +75,11 @@ public class RandomSequenceNode<T extends BlockEntity> extends Node<T> implement
         if(children.isEmpty())
             return TickStatus.ERROR;
 
-        if(runningChild == null)
-        {
-            shuffledChildren = new ArrayList<>(children);
-            Collections.shuffle(shuffledChildren, rand);
-        }
+        if(runningIndex == -1)
+            shuffle();
 
-        if(runningChild != null)
-            currentChildIndex = children.indexOf(runningChild);
+        if(runningIndex != -1)
+            currentChildIndex = runningIndex;
 
         while (currentChildIndex < children.size())
         {
@@ -98,7 +96,7 @@ public class RandomSequenceNode<T extends BlockEntity> extends Node<T> implement
             if(status == TickStatus.RUNNING)
             {
                 tree.addRunningNode(this);
-                runningChild = child;
+                runningIndex = currentChildIndex;
                 return TickStatus.RUNNING;
             }
 
@@ -117,8 +115,20 @@ public class RandomSequenceNode<T extends BlockEntity> extends Node<T> implement
     {
         super.reset();
         currentChildIndex = 0;
-        runningChild = null;
-        shuffledChildren = new ArrayList<>(children);
+        runningIndex = -1;
+        shuffle();
+    }
+
+    /**
+     * Refills the shuffled list from the children and shuffles it, reusing the list.
+     */
+    private void shuffle()
+    {
+        if(shuffledChildren == null)
+            shuffledChildren = new ArrayList<>(children.size());
+
+        shuffledChildren.clear();
+        shuffledChildren.addAll(children);
         Collections.shuffle(shuffledChildren, rand);
     }
 }
\ No newline at end of file
@@ -100,4 +100,14 @@ public class RepeatNode<T extends BlockEntity> extends Node<T> implements IRunni
         super.reset();
         currentIteration = 0;
     }
-}
\ No newline at end of file
+
+    /**
+     * Retrieves the number of times the child node is repeated.
+     *
+     * @return the repeat count
+     */
+    public int getRepeatCount()
+    {
+        return this.repeatCount;
+    }
+}
@@ -36,9 +36,10 @@ public class SelectorNode<T extends BlockEntity> extends Node<T> implements IRun
     private int currentChildIndex = 0;
 
     /**
-     * The child node currently being evaluated.
+     * The index of the child that returned RUNNING, where the next tick resumes, or -1 if no child is running. Used by
+     * {@link #tick()} only, the compiled {@link dev.thementor.api.ticklogic.base.LogicProgram} resumes selectors from its own state.
      */
-    private Node<T> runningChild = null;
+    private int runningIndex = -1;
 
     /**
      * Constructs a SelectorNode with no Blackboard.
@@ -59,8 +60,8 @@ public class SelectorNode<T extends BlockEntity> extends Node<T> implements IRun
         if(children.isEmpty())
             return TickStatus.ERROR;
 
-        if(runningChild != null)
-            currentChildIndex = children.indexOf(runningChild);
+        if(runningIndex != -1)
+            currentChildIndex = runningIndex;
 
         //noinspection DuplicatedCode
         while (currentChildIndex < children.size())
@@ -78,7 +79,7 @@ public class SelectorNode<T extends BlockEntity> extends Node<T> implements IRun
             if(status == TickStatus.RUNNING)
             {
                 tree.addRunningNode(this);
-                runningChild = child;
+                runningIndex = currentChildIndex;
                 return TickStatus.RUNNING;
             }
 
@@ -98,6 +99,6 @@ public class SelectorNode<T extends BlockEntity> extends Node<T> implements IRun
     {
         super.reset();
         currentChildIndex = 0;
-        runningChild = null;
+        runningIndex = -1;
     }
 }
\ No newline at end of file
@@ -35,9 +35,10 @@ public class SequenceNode<T extends BlockEntity> extends Node<T> implements IRun
     private int currentChildIndex = 0;
 
     /**
-     * The child node currently being evaluated.
+     * The index of the child that returned RUNNING, where the next tick resumes, or -1 if no child is running. Only
+     * read when the node is ticked directly; a LogicTree runs the compiled {@link dev.thementor.api.ticklogic.base.LogicProgram}, which keeps its own cursor.
      */
-    private Node<T> runningChild = null;
+    private int runningIndex = -1;
 
     /**
      * Constructs a SequenceNode with no Blackboard.
@@ -58,8 +59,8 @@ public class SequenceNode<T extends BlockEntity> extends Node<T> implements IRun
         if(children.isEmpty())
             return TickStatus.ERROR;
 
-        if(runningChild != null)
-            currentChildIndex = children.indexOf(runningChild);
+        if(runningIndex != -1)
+            currentChildIndex = runningIndex;
 
         //noinspection DuplicatedCode
         while (currentChildIndex < children.size())
@@ -77,7 +78,7 @@ public class SequenceNode<T extends BlockEntity> extends Node<T> implements IRun
             if(status == TickStatus.RUNNING)
             {
                 tree.addRunningNode(this);
-                runningChild = child;
+                runningIndex = currentChildIndex;
                 return TickStatus.RUNNING;
             }
 
@@ -96,6 +97,6 @@ public class SequenceNode<T extends BlockEntity> extends Node<T> implements IRun
     {
         super.reset();
         currentChildIndex = 0;
-        runningChild = null;
+        runningIndex = -1;
     }
 }
\ No newline at end of file
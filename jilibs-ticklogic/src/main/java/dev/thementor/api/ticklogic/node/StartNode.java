@@ -17,7 +17,9 @@
 package dev.thementor.api.ticklogic.node;
 
 import java.util.ArrayList;
-import java.util.List;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 
 import net.minecraft.world.level.block.entity.BlockEntity;
 
@@ -30,13 +32,28 @@ import dev.thementor.api.ticklogic.base.Node;
  * Represents the start node in a tick logic system.
  *
  * <p>The StartNode manages the execution of a tree of nodes, handling running nodes and aggregating their results based on the specified aggregation policy.</p>
+ *
+ * <p>Its {@link #tick()} interprets the nodes directly. A LogicTree compiles them into a
+ * {@link dev.thementor.api.ticklogic.base.LogicProgram} instead, which resumes running nodes from its own state, so the
+ * bookkeeping here only applies to trees ticked without it.</p>
  */
 public class StartNode<T extends BlockEntity> extends Node<T>
 {
     /**
-     * A list of currently running child nodes.
+     * The nodes resumed on the next tick. Composite nodes remember the index of their running child themselves, so
+     * only nodes whose parent does not manage running children end up here.
+     */
+    private ArrayList<Node<T>> runningNodes = new ArrayList<>();
+
+    /**
+     * The list the running nodes are swapped into while they are resumed, reused every tick.
+     */
+    private ArrayList<Node<T>> resumingNodes = new ArrayList<>();
+
+    /**
+     * The members of {@link #runningNodes}, so adding a node does not scan the list.
      */
-    private List<Node<T>> runningNodes = new ArrayList<>();
+    private final Set<Node<T>> runningSet = Collections.newSetFromMap(new IdentityHashMap<>());
 
     /**
      * The aggregation policy to determine the final tick status based on child node results.
@@ -76,19 +93,25 @@ public class StartNode<T extends BlockEntity> extends Node<T>
 
             TickStatus result = children.getFirst().tick();
 
-            if(!(children.getFirst().getParent() instanceof IRunningNodeManager) && result == TickStatus.RUNNING)
-                runningNodes.add(children.getFirst());
+            if(result == TickStatus.RUNNING)
+                addRunningNode(children.getFirst());
 
             return result;
         }
         else
         {
-            List<Node<T>> nextRunningNodes = new ArrayList<>();
+            // Nodes that keep running add themselves again while they are resumed, so the current list is swapped out
+            // and the one collecting them starts empty.
+            ArrayList<Node<T>> resuming = runningNodes;
+            runningNodes = resumingNodes;
+            resumingNodes = resuming;
+            runningSet.clear();
 
             int successCount = 0, failedCount = 0, runningCount = 0;
 
-            for (Node<T> node : runningNodes)
+            for (int i = 0; i < resuming.size(); i++)
             {
+                Node<T> node = resuming.get(i);
                 TickStatus result = node.tick();
 
                 switch (result)
@@ -96,14 +119,13 @@ public class StartNode<T extends BlockEntity> extends Node<T>
                     case TickStatus.SUCCESS: successCount++; break;
                     case TickStatus.FAILURE: failedCount++; break;
                     case TickStatus.RUNNING:
-                        if (!(node.getParent() instanceof IRunningNodeManager))
-                            nextRunningNodes.add(node);
+                        addRunningNode(node);
                         runningCount++;
                         break;
                 }
             }
 
-            runningNodes = nextRunningNodes;
+            resuming.clear();
 
             if(runningCount > 0) return TickStatus.RUNNING;
 
@@ -132,7 +154,7 @@ public class StartNode<T extends BlockEntity> extends Node<T>
         if(node.getParent() instanceof IRunningNodeManager)
             return;
 
-        if(!runningNodes.contains(node))
+        if(runningSet.add(node))
             runningNodes.add(node);
     }
 
@@ -144,5 +166,16 @@ public class StartNode<T extends BlockEntity> extends Node<T>
     {
         super.reset();
         runningNodes.clear();
+        runningSet.clear();
+    }
+
+    /**
+     * Retrieves the policy used to combine the results of the running nodes.
+     *
+     * @return the aggregation policy
+     */
+    public AggregationPolicy getAggregationPolicy()
+    {
+        return this.aggregationPolicy;
     }
-}
\ No newline at end of file
+}
@@ -80,4 +80,14 @@ public class SubTreeNode <T extends BlockEntity> extends Node<T> implements IRun
         if(subTree != null)
             subTree.reset();
     }
-}
\ No newline at end of file
+
+    /**
+     * Retrieves the subtree executed by this node.
+     *
+     * @return the subtree, or null if none was set
+     */
+    public LogicTree<T> getSubTree()
+    {
+        return this.subTree;
+    }
+}
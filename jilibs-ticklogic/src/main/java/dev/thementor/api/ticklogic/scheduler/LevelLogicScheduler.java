@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.thementor.api.ticklogic.scheduler;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.world.level.Level;
+
+import dev.thementor.api.shared.enumerations.TickStatus;
+import dev.thementor.api.ticklogic.base.LogicTree;
+
+/**
+ * Ticks the scheduled logic trees of a single level within a time budget.
+ *
+ * <p>Every game tick the trees are walked from where the previous pass stopped and ticked until the budget is spent;
+ * the rest are deferred to the next tick. At least one tree is ticked per pass so every tree keeps making progress.
+ * Trees scheduled or removed during a pass are applied once the pass is over, so the tree list never changes under
+ * the loop.</p>
+ *
+ * <p>The scheduler reports its deferral debt: how many trees the last pass left for later, how many game ticks the
+ * most delayed tree waited, and the total number of deferrals since the level was loaded.</p>
+ */
+@SuppressWarnings("unused")
+public final class LevelLogicScheduler
+{
+    private final Level level;
+
+    private final List<Entry> entries = new ArrayList<>();
+    private final Map<LogicTree<?>, Entry> byTree = new IdentityHashMap<>();
+    private final List<Entry> pendingAdd = new ArrayList<>();
+
+    private long budgetMicros = -1;
+    private boolean ticking;
+    private boolean dirty;
+    private int cursor;
+
+    private int lastTicked;
+    private int lastDeferred;
+    private long lastNanos;
+    private long maxWait;
+    private long totalDeferrals;
+
+    LevelLogicScheduler(Level level)
+    {
+        this.level = level;
+    }
+
+    void schedule(LogicTree<?> tree, @Nullable Consumer<TickStatus> onResult)
+    {
+        Entry entry = this.byTree.get(tree);
+
+        if(entry != null)
+        {
+            // already scheduled, only the listener changes
+            entry.onResult = onResult;
+            return;
+        }
+
+        entry = new Entry(tree, onResult, this.level.getGameTime());
+        this.byTree.put(tree, entry);
+
+        if(this.ticking)
+            this.pendingAdd.add(entry);
+        else
+            this.entries.add(entry);
+    }
+
+    void unschedule(LogicTree<?> tree)
+    {
+        Entry entry = this.byTree.remove(tree);
+        if(entry == null)
+            return;
+
+        entry.removed = true;
+        this.dirty = true;
+        this.pendingAdd.remove(entry);
+
+        if(!this.ticking)
+            compact();
+    }
+
+    /**
+     * Runs one budgeted pass over the trees of the level.
+     */
+    void tick()
+    {
+        long start = System.nanoTime();
+        long deadline = start + getBudgetMicros() * 1000L;
+        long now = this.level.getGameTime();
+        int size = this.entries.size();
+        int ticked = 0;
+        long wait = 0;
+
+        this.ticking = true;
+        try
+        {
+            int index = size == 0 ? 0 : this.cursor % size;
+
+            for(int i = 0; i < size; i++)
+            {
+                if(ticked > 0 && System.nanoTime() >= deadline)
+                    break;
+
+                Entry entry = this.entries.get(index);
+                index = index + 1 == size ? 0 : index + 1;
+
+                if(entry.removed)
+                    continue;
+
+                if(isGone(entry.tree))
+                {
+                    this.byTree.remove(entry.tree);
+                    entry.removed = true;
+                    this.dirty = true;
+                    continue;
+                }
+
+                wait = Math.max(wait, now - entry.lastTick);
+                entry.lastTick = now;
+                ticked++;
+
+                TickStatus status = entry.tree.tick();
+                if(entry.onResult != null)
+                    entry.onResult.accept(status);
+            }
+
+            this.cursor = index;
+        }
+        finally
+        {
+            this.ticking = false;
+        }
+
+        int live = 0;
+        for(Entry entry : this.entries)
+            if(!entry.removed)
+                live++;
+
+        this.lastTicked = ticked;
+        this.lastDeferred = Math.max(0, live - ticked);
+        this.totalDeferrals += this.lastDeferred;
+        this.maxWait = wait;
+        this.lastNanos = System.nanoTime() - start;
+
+        if(this.dirty)
+            compact();
+
+        if(!this.pendingAdd.isEmpty())
+        {
+            this.entries.addAll(this.pendingAdd);
+            this.pendingAdd.clear();
+        }
+    }
+
+    /**
+     * Sets the budget of this level, in microseconds per game tick.
+     *
+     * @param micros the budget, or a negative value to use {@link LogicTreeScheduler#getDefaultBudgetMicros()}
+     */
+    public void setBudgetMicros(long micros)
+    {
+        this.budgetMicros = micros;
+    }
+
+    /**
+     * Retrieves the budget of this level.
+     *
+     * @return the budget in microseconds per game tick
+     */
+    public long getBudgetMicros()
+    {
+        return this.budgetMicros < 0 ? LogicTreeScheduler.getDefaultBudgetMicros() : this.budgetMicros;
+    }
+
+    /**
+     * Retrieves the number of trees scheduled in this level.
+     *
+     * @return the tree count
+     */
+    public int size()
+    {
+        return this.byTree.size();
+    }
+
+    /**
+     * Retrieves the number of trees ticked by the last pass.
+     *
+     * @return the ticked tree count
+     */
+    public int getLastTicked()
+    {
+        return this.lastTicked;
+    }
+
+    /**
+     * Retrieves the number of trees the last pass deferred to the next tick.
+     *
+     * @return the deferred tree count
+     */
+    public int getDeferred()
+    {
+        return this.lastDeferred;
+    }
+
+    /**
+     * Retrieves the longest time a tree ticked by the last pass waited since its previous tick. A value of 1 means no
+     * tree was delayed.
+     *
+     * @return the longest wait in game ticks
+     */
+    public long getMaxWait()
+    {
+        return this.maxWait;
+    }
+
+    /**
+     * Retrieves the number of tree ticks deferred since the level was loaded.
+     *
+     * @return the total deferral count
+     */
+    public long getTotalDeferrals()
+    {
+        return this.totalDeferrals;
+    }
+
+    /**
+     * Retrieves the time the last pass took.
+     *
+     * @return the duration in nanoseconds
+     */
+    public long getLastNanos()
+    {
+        return this.lastNanos;
+    }
+
+    private static boolean isGone(LogicTree<?> tree)
+    {
+        return tree.getProperties() != null && tree.getProperties().blockEntity() != null && tree.getProperties().blockEntity().isRemoved();
+    }
+
+    /**
+     * Drops removed entries and moves the cursor back by the entries removed before it, so the round-robin order is
+     * kept.
+     */
+    private void compact()
+    {
+        int write = 0;
+        int cursor = this.cursor;
+
+        for(int read = 0; read < this.entries.size(); read++)
+        {
+            Entry entry = this.entries.get(read);
+            if(entry.removed)
+            {
+                if(read < this.cursor)
+                    cursor--;
+                continue;
+            }
+            this.entries.set(write++, entry);
+        }
+
+        this.entries.subList(write, this.entries.size()).clear();
+        this.cursor = Math.max(0, cursor);
+        this.dirty = false;
+    }
+
+    private static final class Entry
+    {
+        private final LogicTree<?> tree;
+        private @Nullable Consumer<TickStatus> onResult;
+        private long lastTick;
+        private boolean removed;
+
+        private Entry(LogicTree<?> tree, @Nullable Consumer<TickStatus> onResult, long now)
+        {
+            this.tree = tree;
+            this.onResult = onResult;
+            // a new tree has not waited yet
+            this.lastTick = now - 1;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2025 Alireza Khodakarami
+ *
+ * Licensed under the MIT, (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://opensource.org/license/mit
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package dev.thementor.api.ticklogic.scheduler;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+
+import dev.thementor.api.shared.enumerations.TickStatus;
+import dev.thementor.api.ticklogic.base.LogicTree;
+
+/**
+ * Entry point of the time budgeted logic tree scheduler.
+ *
+ * <p>Call {@link #init()} once from your mod initializer and hand trees to {@link #schedule(LogicTree)} instead of
+ * ticking them from the block entity. Every level then ticks its trees at the end of the game tick in round-robin
+ * order until its budget is spent, and continues with the remaining trees on the next tick. Trees that return
+ * {@link TickStatus#RUNNING} simply resume when their turn comes, so a long pass is spread over several ticks instead
+ * of stretching one.</p>
+ */
+@SuppressWarnings("unused")
+public final class LogicTreeScheduler
+{
+    /**
+     * The budget every level starts with, in microseconds.
+     */
+    public static final long DEFAULT_BUDGET_MICROS = 2000;
+
+    private static final Map<Level, LevelLogicScheduler> SCHEDULERS = new WeakHashMap<>();
+    private static long defaultBudgetMicros = DEFAULT_BUDGET_MICROS;
+    private static boolean initialized;
+
+    private LogicTreeScheduler() {}
+
+    /**
+     * Registers the level tick and unload callbacks. Calling it more than once has no effect.
+     */
+    public static void init()
+    {
+        if(initialized)
+            return;
+        initialized = true;
+
+        ServerTickEvents.END_WORLD_TICK.register(world ->
+                                                 {
+                                                     LevelLogicScheduler scheduler = SCHEDULERS.get(world);
+                                                     if(scheduler != null)
+                                                         scheduler.tick();
+                                                 });
+        ServerWorldEvents.UNLOAD.register((server, world) -> SCHEDULERS.remove(world));
+    }
+
+    /**
+     * Determines whether the scheduler callbacks are registered.
+     *
+     * @return true if {@link #init()} was called, false otherwise
+     */
+    public static boolean isInitialized()
+    {
+        return initialized;
+    }
+
+    /**
+     * Sets the budget of levels that have not been given one, in microseconds per game tick.
+     *
+     * @param micros the budget, at least one tree is ticked per game tick even with 0
+     */
+    public static void setDefaultBudgetMicros(long micros)
+    {
+        defaultBudgetMicros = Math.max(0, micros);
+    }
+
+    /**
+     * Retrieves the budget of levels that have not been given one.
+     *
+     * @return the budget in microseconds per game tick
+     */
+    public static long getDefaultBudgetMicros()
+    {
+        return defaultBudgetMicros;
+    }
+
+    /**
+     * Schedules a tree in the level of its block entity. Trees of client levels, or scheduled before {@link #init()},
+     * are ignored and keep being ticked by their owner.
+     *
+     * @param tree the tree to schedule
+     * @return true if the tree is now ticked by the scheduler, false otherwise
+     */
+    public static boolean schedule(LogicTree<?> tree)
+    {
+        return schedule(tree, null);
+    }
+
+    /**
+     * Schedules a tree in the level of its block entity, reporting every result to a listener.
+     *
+     * @param tree     the tree to schedule
+     * @param onResult the listener receiving the status of every tick, or null
+     * @return true if the tree is now ticked by the scheduler, false otherwise
+     */
+    public static boolean schedule(LogicTree<?> tree, @Nullable Consumer<TickStatus> onResult)
+    {
+        if(!initialized || tree.getProperties() == null || !(tree.getProperties().world() instanceof ServerLevel level))
+            return false;
+
+        SCHEDULERS.computeIfAbsent(level, LevelLogicScheduler::new).schedule(tree, onResult);
+        return true;
+    }
+
+    /**
+     * Stops ticking a tree. Trees whose block entity was removed are dropped without calling this.
+     *
+     * @param tree the tree to remove
+     */
+    public static void unschedule(LogicTree<?> tree)
+    {
+        if(!initialized || tree.getProperties() == null || tree.getProperties().world() == null)
+            return;
+
+        LevelLogicScheduler scheduler = SCHEDULERS.get(tree.getProperties().world());
+        if(scheduler != null)
+            scheduler.unschedule(tree);
+    }
+
+    /**
+     * Retrieves the scheduler of a level.
+     *
+     * @param level the level
+     * @return the scheduler, or null if no tree was ever scheduled in the level
+     */
+    public static @Nullable LevelLogicScheduler get(Level level)
+    {
+        return SCHEDULERS.get(level);
+    }
+}